@@ -0,0 +1,257 @@
+package io.github.aliazani.linear.arrays;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Intersection, union and difference of the first {@code n} and {@code m} elements of two arrays. The result holds
+ * distinct elements in order of first occurrence: for an intersection or difference the elements of the first array,
+ * for a union the elements of the first array followed by those only found in the second one.
+ */
+final class ArraySetOperations {
+    /**
+     * How many times larger one sorted array has to be than the other before galloping through it beats merging.
+     */
+    static final int GALLOPING_RATIO = 16;
+    /**
+     * The number of elements of the larger array from which the hash sets are built on the fork-join pool.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private static final Object NULL_KEY = new Object();
+
+    enum Operation {
+        INTERSECT, UNION, DIFFERENCE
+    }
+
+    private ArraySetOperations() {
+    }
+
+    /**
+     * Picks the cheapest strategy for the inputs: galloping or merging when both arrays are sorted, otherwise hashing,
+     * in parallel when the inputs are large and there is more than one core to run on.
+     */
+    static SetOperationStrategy choose(Operation operation, int n, int m, boolean sortedInputs, int parallelism) {
+        if (sortedInputs) {
+            boolean gallop = switch (operation) {
+                case INTERSECT -> (long) Math.min(n, m) * GALLOPING_RATIO <= Math.max(n, m);
+                case DIFFERENCE -> (long) n * GALLOPING_RATIO <= m;
+                case UNION -> false;
+            };
+            return gallop ? SetOperationStrategy.GALLOPING : SetOperationStrategy.SORT_MERGE;
+        }
+
+        if (Math.max(n, m) >= PARALLEL_THRESHOLD && parallelism > 1) return SetOperationStrategy.PARALLEL_HASH;
+
+        return SetOperationStrategy.HASH;
+    }
+
+    static boolean requiresSortedInput(SetOperationStrategy strategy) {
+        return strategy == SetOperationStrategy.SORT_MERGE || strategy == SetOperationStrategy.GALLOPING;
+    }
+
+    /**
+     * Runs the operation with the given strategy. The strategies that {@link #requiresSortedInput} assume, without
+     * checking, that both arrays are sorted.
+     */
+    static <T extends Comparable<T>> MyArray<T> apply(Operation operation, T[] a, int n, T[] b, int m,
+                                                      SetOperationStrategy strategy) {
+        MyArray<T> result = new MyArray<>(Math.max(1, operation == Operation.INTERSECT ? Math.min(n, m) : n));
+        switch (strategy) {
+            case HASH -> hash(operation, a, n, b, m, result);
+            case PARALLEL_HASH -> parallelHash(operation, a, n, b, m, result);
+            case SORT_MERGE -> merge(operation, a, n, b, m, result);
+            case GALLOPING -> gallop(operation, a, n, b, m, result);
+        }
+
+        return result;
+    }
+
+    static <T extends Comparable<T>> boolean isSorted(T[] a, int n) {
+        for (int i = 0; i < n; i++)
+            if (a[i] == null || i > 0 && a[i - 1].compareTo(a[i]) > 0) return false;
+
+        return true;
+    }
+
+    private static <T extends Comparable<T>> void hash(Operation operation, T[] a, int n, T[] b, int m,
+                                                       MyArray<T> result) {
+        switch (operation) {
+            case INTERSECT -> {
+                Set<T> remaining = hashSetOf(b, m);
+                for (int i = 0; i < n && !remaining.isEmpty(); i++)
+                    if (remaining.remove(a[i])) result.insert(a[i]);
+            }
+            case DIFFERENCE -> {
+                Set<T> excluded = hashSetOf(b, m);
+                for (int i = 0; i < n; i++)
+                    if (excluded.add(a[i])) result.insert(a[i]);
+            }
+            case UNION -> {
+                Set<T> seen = new HashSet<>(capacityFor(n + m));
+                for (int i = 0; i < n; i++)
+                    if (seen.add(a[i])) result.insert(a[i]);
+                for (int j = 0; j < m; j++)
+                    if (seen.add(b[j])) result.insert(b[j]);
+            }
+        }
+    }
+
+    private static <T> Set<T> hashSetOf(T[] items, int count) {
+        Set<T> set = new HashSet<>(capacityFor(count));
+        for (int i = 0; i < count; i++) set.add(items[i]);
+
+        return set;
+    }
+
+    private static int capacityFor(int count) {
+        return (int) Math.min(1 << 30, count * 4L / 3 + 1);
+    }
+
+    private static <T extends Comparable<T>> void parallelHash(Operation operation, T[] a, int n, T[] b, int m,
+                                                               MyArray<T> result) {
+        ConcurrentHashMap<Object, Integer> firstIndexOfA = firstIndices(a, n);
+        boolean[] keepA = new boolean[n];
+        switch (operation) {
+            case INTERSECT, DIFFERENCE -> {
+                Set<Object> keysOfB = ConcurrentHashMap.newKeySet(m);
+                IntStream.range(0, m).parallel().forEach(j -> keysOfB.add(key(b[j])));
+                boolean wanted = operation == Operation.INTERSECT;
+                IntStream.range(0, n).parallel().forEach(i -> keepA[i] =
+                        isFirst(firstIndexOfA, a, i) && keysOfB.contains(key(a[i])) == wanted);
+            }
+            case UNION -> IntStream.range(0, n).parallel().forEach(i -> keepA[i] = isFirst(firstIndexOfA, a, i));
+        }
+        for (int i = 0; i < n; i++)
+            if (keepA[i]) result.insert(a[i]);
+
+        if (operation != Operation.UNION) return;
+
+        ConcurrentHashMap<Object, Integer> firstIndexOfB = firstIndices(b, m);
+        boolean[] keepB = new boolean[m];
+        IntStream.range(0, m).parallel().forEach(j -> keepB[j] =
+                isFirst(firstIndexOfB, b, j) && !firstIndexOfA.containsKey(key(b[j])));
+        for (int j = 0; j < m; j++)
+            if (keepB[j]) result.insert(b[j]);
+    }
+
+    private static <T> ConcurrentHashMap<Object, Integer> firstIndices(T[] items, int count) {
+        ConcurrentHashMap<Object, Integer> firstIndex = new ConcurrentHashMap<>(capacityFor(count));
+        IntStream.range(0, count).parallel().forEach(i -> firstIndex.merge(key(items[i]), i, Math::min));
+
+        return firstIndex;
+    }
+
+    private static <T> boolean isFirst(ConcurrentHashMap<Object, Integer> firstIndex, T[] items, int index) {
+        return firstIndex.get(key(items[index])) == index;
+    }
+
+    private static Object key(Object item) {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <T extends Comparable<T>> void merge(Operation operation, T[] a, int n, T[] b, int m,
+                                                        MyArray<T> result) {
+        if (operation == Operation.UNION) {
+            mergeRuns(a, n, b, 0, false, result);
+            mergeRuns(b, m, a, n, false, result);
+        } else {
+            mergeRuns(a, n, b, m, operation == Operation.INTERSECT, result);
+        }
+    }
+
+    private static <T extends Comparable<T>> void mergeRuns(T[] a, int n, T[] b, int m, boolean wanted,
+                                                            MyArray<T> result) {
+        int j = 0;
+        for (int i = 0; i < n; ) {
+            while (j < m && b[j].compareTo(a[i]) < 0) j++;
+            int runEnd = skipRun(a, i, n);
+            int otherRunEnd = j < m && b[j].compareTo(a[i]) == 0 ? skipRun(b, j, m) : j;
+
+            appendRun(a, i, runEnd, b, j, otherRunEnd, wanted, result);
+            i = runEnd;
+            j = otherRunEnd;
+        }
+    }
+
+    private static <T extends Comparable<T>> void gallop(Operation operation, T[] a, int n, T[] b, int m,
+                                                         MyArray<T> result) {
+        if (operation == Operation.UNION || operation == Operation.DIFFERENCE && n > m) {
+            merge(operation, a, n, b, m, result);
+        } else if (n > m) {
+            int i = 0;
+            for (int j = 0; j < m && i < n; j = skipRun(b, j, m)) {
+                i = lowerBound(a, i, n, b[j]);
+                if (i == n || a[i].compareTo(b[j]) != 0) continue;
+
+                int runEnd = skipRun(a, i, n);
+                appendRun(a, i, runEnd, b, j, skipRun(b, j, m), true, result);
+                i = runEnd;
+            }
+        } else {
+            boolean wanted = operation == Operation.INTERSECT;
+            int j = 0;
+            for (int i = 0; i < n; ) {
+                j = lowerBound(b, j, m, a[i]);
+                int runEnd = skipRun(a, i, n);
+                int otherRunEnd = j < m && b[j].compareTo(a[i]) == 0 ? skipRun(b, j, m) : j;
+
+                appendRun(a, i, runEnd, b, j, otherRunEnd, wanted, result);
+                i = runEnd;
+                j = otherRunEnd;
+            }
+        }
+    }
+
+    /**
+     * Appends the elements of the run {@code a[from..to)}, whose elements compare equal, that are not {@code equals} to
+     * an earlier element of the run and that are (or, if not {@code wanted}, are not) {@code equals} to an element of
+     * the run {@code b[otherFrom..otherTo)} comparing equal to them. Comparing runs with {@code equals} keeps the
+     * result the same as hashing for types whose {@code compareTo} is not consistent with {@code equals}.
+     */
+    private static <T extends Comparable<T>> void appendRun(T[] a, int from, int to, T[] b, int otherFrom, int otherTo,
+                                                            boolean wanted, MyArray<T> result) {
+        for (int k = from; k < to; k++)
+            if (indexOfEqual(a, from, k, a[k]) < 0 && (indexOfEqual(b, otherFrom, otherTo, a[k]) >= 0) == wanted)
+                result.insert(a[k]);
+    }
+
+    private static <T> int indexOfEqual(T[] items, int from, int to, T item) {
+        for (int i = from; i < to; i++)
+            if (items[i].equals(item)) return i;
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first element of {@code items[from..to)} that is not less than the key, or {@code to}
+     * if there is none, probing 1, 2, 4, ... elements ahead of {@code from} before searching the last gap binarily.
+     */
+    private static <T extends Comparable<T>> int lowerBound(T[] items, int from, int to, T key) {
+        int low = from;
+        int high = from;
+        long step = 1;
+        while (high < to && items[high].compareTo(key) < 0) {
+            low = high + 1;
+            high = (int) Math.min(to, low + step);
+            step <<= 1;
+        }
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (items[middle].compareTo(key) < 0) low = middle + 1;
+            else high = middle;
+        }
+
+        return low;
+    }
+
+    private static <T extends Comparable<T>> int skipRun(T[] items, int from, int to) {
+        int i = from + 1;
+        while (i < to && items[i].compareTo(items[from]) == 0) i++;
+
+        return i;
+    }
+}
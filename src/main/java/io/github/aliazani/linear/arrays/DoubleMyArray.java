@@ -0,0 +1,266 @@
+package io.github.aliazani.linear.arrays;
+
+import io.github.aliazani.linear.hashtables.primitive.LongLongHashTable;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A resizable array of {@code double}s with the operations of {@link MyArray}, backed by a {@code double[]} so no
+ * element is boxed.
+ * <p>
+ * {@link #indexOf(double)} and {@link #max()} walk the array in blocks of eight elements without a branch per element,
+ * which lets the JIT compile them to SIMD instructions.
+ * <p>
+ * Elements are compared like {@link Double#equals(Object)} and ordered like {@link Double#compareTo(Double)}, the way a
+ * {@code MyArray<Double>} would: {@code NaN} equals itself and is the largest value, and {@code -0.0} is smaller than
+ * and not equal to {@code 0.0}.
+ */
+public class DoubleMyArray implements Iterable<Double> {
+    private static final int BLOCK = 8;
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty array with the specified length.
+     *
+     * @param length the initial capacity of the array.
+     */
+    public DoubleMyArray(int length) {
+        elements = new double[length];
+    }
+
+    /**
+     * Inserts an element at the end of the array.
+     *
+     * @param item the element to be inserted.
+     */
+    public void insert(double item) {
+        insertAt(size, item);
+    }
+
+    /**
+     * Inserts an element at the specified index.
+     *
+     * @param index the index where the element is to be inserted.
+     * @param item  the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void insertAt(int index, double item) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(MessageFormat
+                .format("Index out of bounds: {0}", index));
+
+        if (size == elements.length) elements = Arrays.copyOf(elements, Math.max(1, 2 * elements.length));
+
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = item;
+
+        size++;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(MessageFormat
+                .format("Index out of bounds: {0}", index));
+
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+
+        size--;
+
+        if (size > 0 && size == elements.length / 4) elements = Arrays.copyOf(elements, elements.length / 2);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the array, or -1 if the array does not
+     * contain the element.
+     *
+     * @param item the element to be searched for.
+     * @return the index of the first occurrence of the element, or -1 if not found.
+     */
+    public int indexOf(double item) {
+        if (Double.isNaN(item) || item == 0) return indexOfBits(Double.doubleToLongBits(item));
+
+        int i = 0;
+        for (; i <= size - BLOCK; i += BLOCK) {
+            boolean found = elements[i] == item | elements[i + 1] == item
+                    | elements[i + 2] == item | elements[i + 3] == item
+                    | elements[i + 4] == item | elements[i + 5] == item
+                    | elements[i + 6] == item | elements[i + 7] == item;
+            if (found) break;
+        }
+
+        for (; i < size; i++)
+            if (elements[i] == item) return i;
+
+        return -1;
+    }
+
+    /**
+     * Looks for {@code NaN} and the zeros by their bits, where {@code ==} disagrees with {@link Double#equals(Object)}.
+     */
+    private int indexOfBits(long bits) {
+        for (int i = 0; i < size; i++)
+            if (Double.doubleToLongBits(elements[i]) == bits) return i;
+
+        return -1;
+    }
+
+    /**
+     * Returns a new DoubleMyArray instance that contains the elements of this array in reverse order.
+     *
+     * @return a new DoubleMyArray instance containing the elements of this array in reverse order.
+     */
+    public DoubleMyArray reverse() {
+        DoubleMyArray reversed = new DoubleMyArray(size);
+
+        for (int i = 0; i < size; i++) reversed.elements[i] = elements[size - 1 - i];
+        reversed.size = size;
+
+        return reversed;
+    }
+
+    /**
+     * Returns the maximum element in the array.
+     *
+     * @return the maximum element in the array.
+     * @throws NoSuchElementException if the array is empty.
+     */
+    public double max() {
+        if (isEmpty())
+            throw new NoSuchElementException("Array is empty");
+
+        double max0 = elements[0];
+        double max1 = max0;
+        double max2 = max0;
+        double max3 = max0;
+        int i = 0;
+        for (; i <= size - 4; i += 4) {
+            max0 = Math.max(max0, elements[i]);
+            max1 = Math.max(max1, elements[i + 1]);
+            max2 = Math.max(max2, elements[i + 2]);
+            max3 = Math.max(max3, elements[i + 3]);
+        }
+        for (; i < size; i++) max0 = Math.max(max0, elements[i]);
+
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    /**
+     * Returns a new DoubleMyArray object containing the distinct elements of this array that also occur in another
+     * array, in the order of this array.
+     *
+     * @param other The DoubleMyArray object to intersect with this DoubleMyArray object.
+     * @return A new DoubleMyArray object containing the intersection of this DoubleMyArray object and another
+     * DoubleMyArray object.
+     */
+    public DoubleMyArray intersect(DoubleMyArray other) {
+        LongLongHashTable otherItems = new LongLongHashTable(Math.max(1, other.size));
+        for (int i = 0; i < other.size; i++) otherItems.put(Double.doubleToLongBits(other.elements[i]), 0);
+
+        DoubleMyArray intersection = new DoubleMyArray(Math.min(size, other.size));
+        for (int i = 0; i < size; i++) {
+            long bits = Double.doubleToLongBits(elements[i]);
+            if (otherItems.getOrDefault(bits, -1) == 0) {
+                intersection.insert(elements[i]);
+                otherItems.put(bits, 1);
+            }
+        }
+
+        return intersection;
+    }
+
+    /**
+     * Returns the number of elements in this DoubleMyArray object.
+     *
+     * @return The number of elements in this DoubleMyArray object.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified index in this DoubleMyArray object.
+     *
+     * @param index The index of the element to return.
+     * @return The element at the specified index in this DoubleMyArray object.
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size).
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+
+        return elements[index];
+    }
+
+    /**
+     * Checks if the array is empty.
+     *
+     * @return {@code true} if the array has no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a copy of the elements as an {@code double[]} of exactly {@link #size()} elements.
+     *
+     * @return the elements of this array.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of this array.
+     *
+     * @return a stream over the elements of this array.
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Returns a string representation of this DoubleMyArray object.
+     *
+     * @return A string representation of this DoubleMyArray object.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Returns an iterator over the elements in this DoubleMyArray in proper sequence. Use
+     * {@link PrimitiveIterator.OfDouble#nextDouble()} to read the elements without boxing them.
+     *
+     * @return An iterator over the elements in this DoubleMyArray in proper sequence.
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleMyArrayIterator();
+    }
+
+    private class DoubleMyArrayIterator implements PrimitiveIterator.OfDouble {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return elements[currentIndex++];
+        }
+    }
+}
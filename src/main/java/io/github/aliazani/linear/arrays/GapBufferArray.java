@@ -0,0 +1,200 @@
+package io.github.aliazani.linear.arrays;
+
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A resizable array with the operations of {@link MyArray}, stored as a gap buffer: the free capacity is kept as a gap
+ * at the position of the last edit instead of at the end.
+ * <p>
+ * {@link #insertAt(int, Comparable)} and {@link #removeAt(int)} move the gap to the index first, which costs time
+ * proportional to the distance from the previous edit rather than to the number of elements after the index. Editing
+ * near a moving cursor, as a text editor does, is therefore O(1) per edit, while {@link #get(int)} stays O(1).
+ *
+ * @param <T> the type of elements in the array, must extend Comparable interface.
+ */
+public class GapBufferArray<T extends Comparable<T>> implements Iterable<T> {
+    private T[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Constructs an empty array with the specified length.
+     *
+     * @param length the initial capacity of the array.
+     */
+    public GapBufferArray(int length) {
+        buffer = (T[]) new Comparable[length];
+        gapEnd = length;
+    }
+
+    /**
+     * Inserts an element at the end of the array.
+     *
+     * @param item the element to be inserted.
+     */
+    public void insert(T item) {
+        insertAt(size(), item);
+    }
+
+    /**
+     * Inserts an element at the specified index.
+     *
+     * @param index the index where the element is to be inserted.
+     * @param item  the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void insertAt(int index, T item) {
+        if (index < 0 || index > size()) throw new IndexOutOfBoundsException(MessageFormat
+                .format("Index out of bounds: {0}", index));
+
+        moveGap(index);
+        if (gapStart == gapEnd) resize(Math.max(1, 2 * buffer.length));
+
+        buffer[gapStart++] = item;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void removeAt(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(MessageFormat
+                .format("Index out of bounds: {0}", index));
+
+        moveGap(index);
+        buffer[gapEnd++] = null;
+
+        if (size() > 0 && size() == buffer.length / 4) resize(buffer.length / 2);
+    }
+
+    /**
+     * Moves the gap so that it starts at the specified index, shifting only the elements between the old and the new
+     * position of the gap.
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            clear(index, Math.min(gapStart, gapEnd - count));
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            clear(Math.max(gapEnd, index), gapEnd + count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void clear(int from, int to) {
+        for (int i = from; i < to; i++) buffer[i] = null;
+    }
+
+    private void resize(int capacity) {
+        T[] resized = (T[]) new Comparable[capacity];
+        int tailLength = buffer.length - gapEnd;
+        System.arraycopy(buffer, 0, resized, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, resized, capacity - tailLength, tailLength);
+
+        buffer = resized;
+        gapEnd = capacity - tailLength;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the array, or -1 if the array does not
+     * contain the element.
+     *
+     * @param item the element to be searched for.
+     * @return the index of the first occurrence of the element, or -1 if not found.
+     */
+    public int indexOf(T item) {
+        for (int i = 0; i < gapStart; i++)
+            if (Objects.equals(buffer[i], item)) return i;
+
+        for (int i = gapEnd; i < buffer.length; i++)
+            if (Objects.equals(buffer[i], item)) return i - gapEnd + gapStart;
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of elements in this GapBufferArray object.
+     *
+     * @return The number of elements in this GapBufferArray object.
+     */
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns the element at the specified index in this GapBufferArray object.
+     *
+     * @param index The index of the element to return.
+     * @return The element at the specified index in this GapBufferArray object.
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size).
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+
+        return buffer[index < gapStart ? index : index + gapEnd - gapStart];
+    }
+
+    /**
+     * Checks if the array is empty.
+     *
+     * @return {@code true} if the array has no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a string representation of this GapBufferArray object.
+     *
+     * @return A string representation of this GapBufferArray object.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("[");
+
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) stringBuilder.append(", ");
+            stringBuilder.append(get(i));
+        }
+        stringBuilder.append("]");
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Returns an iterator over the elements in this GapBufferArray in proper sequence.
+     *
+     * @return An iterator over the elements in this GapBufferArray in proper sequence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new GapBufferArrayIterator();
+    }
+
+    private class GapBufferArrayIterator implements Iterator<T> {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return get(currentIndex++);
+        }
+    }
+}
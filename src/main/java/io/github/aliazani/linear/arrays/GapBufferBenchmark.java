@@ -0,0 +1,66 @@
+package io.github.aliazani.linear.arrays;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Random;
+
+/**
+ * Compares {@link MyArray} with {@link GapBufferArray} on inserts and removals around a cursor that moves a few
+ * positions between edits, starting from an array of the given length. Usage: {@code GapBufferBenchmark [length]}.
+ */
+@Slf4j
+public class GapBufferBenchmark {
+    private static final int DEFAULT_LENGTH = 200_000;
+    private static final int EDITS = 100_000;
+    private static final int CURSOR_STEP = 8;
+
+    private GapBufferBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LENGTH;
+
+        for (int round = 0; round < 3; round++)
+            log.info(MessageFormat.format("{0} edits on {1} elements: MyArray {2,number,#.###} ms, " +
+                    "GapBufferArray {3,number,#.###} ms", EDITS, length, editMyArray(length), editGapBuffer(length)));
+    }
+
+    private static double editMyArray(int length) {
+        MyArray<Integer> array = new MyArray<>(length);
+        for (int i = 0; i < length; i++) array.insert(i);
+
+        Random random = new Random(42);
+        int cursor = length / 2;
+        long start = System.nanoTime();
+        for (int edit = 0; edit < EDITS; edit++) {
+            cursor = moveCursor(random, cursor, array.size());
+            if ((edit & 1) == 0) array.insertAt(cursor, edit);
+            else array.removeAt(cursor);
+        }
+
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static double editGapBuffer(int length) {
+        GapBufferArray<Integer> array = new GapBufferArray<>(length);
+        for (int i = 0; i < length; i++) array.insert(i);
+
+        Random random = new Random(42);
+        int cursor = length / 2;
+        long start = System.nanoTime();
+        for (int edit = 0; edit < EDITS; edit++) {
+            cursor = moveCursor(random, cursor, array.size());
+            if ((edit & 1) == 0) array.insertAt(cursor, edit);
+            else array.removeAt(cursor);
+        }
+
+        return (System.nanoTime() - start) / 1e6;
+    }
+
+    private static int moveCursor(Random random, int cursor, int size) {
+        int moved = cursor + random.nextInt(2 * CURSOR_STEP + 1) - CURSOR_STEP;
+
+        return Math.max(0, Math.min(size - 1, moved));
+    }
+}
@@ -0,0 +1,248 @@
+package io.github.aliazani.linear.arrays;
+
+import io.github.aliazani.linear.hashtables.primitive.LongLongHashTable;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * A resizable array of {@code long}s with the operations of {@link MyArray}, backed by an {@code long[]} so no element
+ * is boxed.
+ * <p>
+ * {@link #indexOf(long)} and {@link #max()} walk the array in blocks of eight elements without a branch per element,
+ * which lets the JIT compile them to SIMD instructions.
+ */
+public class LongMyArray implements Iterable<Long> {
+    private static final int BLOCK = 8;
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty array with the specified length.
+     *
+     * @param length the initial capacity of the array.
+     */
+    public LongMyArray(int length) {
+        elements = new long[length];
+    }
+
+    /**
+     * Inserts an element at the end of the array.
+     *
+     * @param item the element to be inserted.
+     */
+    public void insert(long item) {
+        insertAt(size, item);
+    }
+
+    /**
+     * Inserts an element at the specified index.
+     *
+     * @param index the index where the element is to be inserted.
+     * @param item  the element to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void insertAt(int index, long item) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException(MessageFormat
+                .format("Index out of bounds: {0}", index));
+
+        if (size == elements.length) elements = Arrays.copyOf(elements, Math.max(1, 2 * elements.length));
+
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = item;
+
+        size++;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to be removed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public void removeAt(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(MessageFormat
+                .format("Index out of bounds: {0}", index));
+
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+
+        size--;
+
+        if (size > 0 && size == elements.length / 4) elements = Arrays.copyOf(elements, elements.length / 2);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in the array, or -1 if the array does not
+     * contain the element.
+     *
+     * @param item the element to be searched for.
+     * @return the index of the first occurrence of the element, or -1 if not found.
+     */
+    public int indexOf(long item) {
+        int i = 0;
+        for (; i <= size - BLOCK; i += BLOCK) {
+            boolean found = elements[i] == item | elements[i + 1] == item
+                    | elements[i + 2] == item | elements[i + 3] == item
+                    | elements[i + 4] == item | elements[i + 5] == item
+                    | elements[i + 6] == item | elements[i + 7] == item;
+            if (found) break;
+        }
+
+        for (; i < size; i++)
+            if (elements[i] == item) return i;
+
+        return -1;
+    }
+
+    /**
+     * Returns a new LongMyArray instance that contains the elements of this array in reverse order.
+     *
+     * @return a new LongMyArray instance containing the elements of this array in reverse order.
+     */
+    public LongMyArray reverse() {
+        LongMyArray reversed = new LongMyArray(size);
+
+        for (int i = 0; i < size; i++) reversed.elements[i] = elements[size - 1 - i];
+        reversed.size = size;
+
+        return reversed;
+    }
+
+    /**
+     * Returns the maximum element in the array.
+     *
+     * @return the maximum element in the array.
+     * @throws NoSuchElementException if the array is empty.
+     */
+    public long max() {
+        if (isEmpty())
+            throw new NoSuchElementException("Array is empty");
+
+        long max0 = elements[0];
+        long max1 = max0;
+        long max2 = max0;
+        long max3 = max0;
+        int i = 0;
+        for (; i <= size - 4; i += 4) {
+            max0 = Math.max(max0, elements[i]);
+            max1 = Math.max(max1, elements[i + 1]);
+            max2 = Math.max(max2, elements[i + 2]);
+            max3 = Math.max(max3, elements[i + 3]);
+        }
+        for (; i < size; i++) max0 = Math.max(max0, elements[i]);
+
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    /**
+     * Returns a new LongMyArray object containing the distinct elements of this array that also occur in another
+     * array, in the order of this array.
+     *
+     * @param other The LongMyArray object to intersect with this LongMyArray object.
+     * @return A new LongMyArray object containing the intersection of this LongMyArray object and another LongMyArray
+     * object.
+     */
+    public LongMyArray intersect(LongMyArray other) {
+        LongLongHashTable otherItems = new LongLongHashTable(Math.max(1, other.size));
+        for (int i = 0; i < other.size; i++) otherItems.put(other.elements[i], 0);
+
+        LongMyArray intersection = new LongMyArray(Math.min(size, other.size));
+        for (int i = 0; i < size; i++)
+            if (otherItems.getOrDefault(elements[i], -1) == 0) {
+                intersection.insert(elements[i]);
+                otherItems.put(elements[i], 1);
+            }
+
+        return intersection;
+    }
+
+    /**
+     * Returns the number of elements in this LongMyArray object.
+     *
+     * @return The number of elements in this LongMyArray object.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the element at the specified index in this LongMyArray object.
+     *
+     * @param index The index of the element to return.
+     * @return The element at the specified index in this LongMyArray object.
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size).
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index out of bounds: " + index);
+
+        return elements[index];
+    }
+
+    /**
+     * Checks if the array is empty.
+     *
+     * @return {@code true} if the array has no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a copy of the elements as an {@code long[]} of exactly {@link #size()} elements.
+     *
+     * @return the elements of this array.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of this array.
+     *
+     * @return a stream over the elements of this array.
+     */
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Returns a string representation of this LongMyArray object.
+     *
+     * @return A string representation of this LongMyArray object.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Returns an iterator over the elements in this LongMyArray in proper sequence. Use
+     * {@link PrimitiveIterator.OfLong#nextLong()} to read the elements without boxing them.
+     *
+     * @return An iterator over the elements in this LongMyArray in proper sequence.
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongMyArrayIterator();
+    }
+
+    private class LongMyArrayIterator implements PrimitiveIterator.OfLong {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return elements[currentIndex++];
+        }
+    }
+}
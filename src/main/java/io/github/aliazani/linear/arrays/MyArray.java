@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents a resizable array data structure.
@@ -14,6 +15,7 @@ import java.util.Objects;
 public class MyArray<T extends Comparable<T>> implements Iterable<T> {
     private T[] elements;
     private int size;
+    private boolean sorted = true;
 
     /**
      * Constructs an empty array with the specified length.
@@ -46,12 +48,19 @@ public class MyArray<T extends Comparable<T>> implements Iterable<T> {
 
         if (isFull()) resize(2 * elements.length);
 
+        if (sorted && breaksOrder(index, item)) sorted = false;
         shiftOneItemToRight(index);
         elements[index] = item;
 
         size++;
     }
 
+    private boolean breaksOrder(int index, T item) {
+        return item == null
+                || index > 0 && elements[index - 1].compareTo(item) > 0
+                || index < size && item.compareTo(elements[index]) > 0;
+    }
+
     private boolean isFull() {
         return size >= elements.length;
     }
@@ -132,19 +141,95 @@ public class MyArray<T extends Comparable<T>> implements Iterable<T> {
     }
 
     /**
-     * Returns a new MyArray object containing the intersection of this MyArray object and another MyArray object.
+     * Returns a new MyArray object containing the distinct elements of this array that also occur in another array, in
+     * the order of this array. The algorithm is picked from the sizes and sortedness of both arrays.
      *
      * @param other The MyArray object to intersect with this MyArray object.
      * @return A new MyArray object containing the intersection of this MyArray object and another MyArray object.
      */
-
     public MyArray<T> intersect(MyArray<T> other) {
-        MyArray<T> intersection = new MyArray<>(elements.length);
+        return apply(ArraySetOperations.Operation.INTERSECT, other, null);
+    }
 
-        for (T item : this)
-            if (other.indexOf(item) != -1 && intersection.indexOf(item) == -1) intersection.insert(item);
+    /**
+     * Returns the same elements as {@link #intersect(MyArray)}, computed with the given strategy.
+     *
+     * @param other    The MyArray object to intersect with this MyArray object.
+     * @param strategy The algorithm to use.
+     * @return A new MyArray object containing the intersection of this MyArray object and another MyArray object.
+     * @throws IllegalArgumentException if the strategy needs sorted arrays and either array is not sorted.
+     */
+    public MyArray<T> intersect(MyArray<T> other, SetOperationStrategy strategy) {
+        return apply(ArraySetOperations.Operation.INTERSECT, other, Objects.requireNonNull(strategy));
+    }
+
+    /**
+     * Returns a new MyArray object containing the distinct elements of this array followed by the distinct elements of
+     * another array that do not occur in this one, each in the order of its array. The algorithm is picked from the
+     * sizes and sortedness of both arrays.
+     *
+     * @param other The MyArray object to unite with this MyArray object.
+     * @return A new MyArray object containing the union of this MyArray object and another MyArray object.
+     */
+    public MyArray<T> union(MyArray<T> other) {
+        return apply(ArraySetOperations.Operation.UNION, other, null);
+    }
+
+    /**
+     * Returns the same elements as {@link #union(MyArray)}, computed with the given strategy.
+     *
+     * @param other    The MyArray object to unite with this MyArray object.
+     * @param strategy The algorithm to use.
+     * @return A new MyArray object containing the union of this MyArray object and another MyArray object.
+     * @throws IllegalArgumentException if the strategy needs sorted arrays and either array is not sorted.
+     */
+    public MyArray<T> union(MyArray<T> other, SetOperationStrategy strategy) {
+        return apply(ArraySetOperations.Operation.UNION, other, Objects.requireNonNull(strategy));
+    }
+
+    /**
+     * Returns a new MyArray object containing the distinct elements of this array that do not occur in another array,
+     * in the order of this array. The algorithm is picked from the sizes and sortedness of both arrays.
+     *
+     * @param other The MyArray object whose elements are left out.
+     * @return A new MyArray object containing the difference of this MyArray object and another MyArray object.
+     */
+    public MyArray<T> difference(MyArray<T> other) {
+        return apply(ArraySetOperations.Operation.DIFFERENCE, other, null);
+    }
+
+    /**
+     * Returns the same elements as {@link #difference(MyArray)}, computed with the given strategy.
+     *
+     * @param other    The MyArray object whose elements are left out.
+     * @param strategy The algorithm to use.
+     * @return A new MyArray object containing the difference of this MyArray object and another MyArray object.
+     * @throws IllegalArgumentException if the strategy needs sorted arrays and either array is not sorted.
+     */
+    public MyArray<T> difference(MyArray<T> other, SetOperationStrategy strategy) {
+        return apply(ArraySetOperations.Operation.DIFFERENCE, other, Objects.requireNonNull(strategy));
+    }
+
+    private MyArray<T> apply(ArraySetOperations.Operation operation, MyArray<T> other, SetOperationStrategy strategy) {
+        boolean sortedInputs = isSorted() && other.isSorted();
+        if (strategy == null)
+            strategy = ArraySetOperations.choose(operation, size, other.size, sortedInputs,
+                    ForkJoinPool.getCommonPoolParallelism());
+        else if (ArraySetOperations.requiresSortedInput(strategy) && !sortedInputs)
+            throw new IllegalArgumentException(MessageFormat
+                    .format("{0} needs both arrays sorted and without nulls", strategy));
+
+        return ArraySetOperations.apply(operation, elements, size, other.elements, other.size, strategy);
+    }
+
+    /**
+     * Tells whether the elements are in ascending order without nulls. Insertions keep the answer up to date, while
+     * removals can only turn an unsorted array into a sorted one, so only a negative answer is checked again.
+     */
+    private boolean isSorted() {
+        if (!sorted) sorted = ArraySetOperations.isSorted(elements, size);
 
-        return intersection;
+        return sorted;
     }
 
     /**
@@ -0,0 +1,49 @@
+package io.github.aliazani.linear.arrays;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares {@link MyArray} of boxed {@link Integer}s with {@link IntMyArray} on {@code max} and on {@code indexOf} of
+ * an element that is not in the array. Usage: {@code PrimitiveArrayBenchmark [length]}.
+ */
+@Slf4j
+public class PrimitiveArrayBenchmark {
+    private static final int DEFAULT_LENGTH = 1_000_000;
+    private static final int ROUNDS = 50;
+
+    private PrimitiveArrayBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LENGTH;
+        Random random = new Random(42);
+        MyArray<Integer> boxed = new MyArray<>(length);
+        IntMyArray primitive = new IntMyArray(length);
+        for (int i = 0; i < length; i++) {
+            int item = random.nextInt(Integer.MAX_VALUE);
+            boxed.insert(item);
+            primitive.insert(item);
+        }
+
+        log.info(MessageFormat.format("max: MyArray<Integer> {0,number,#.###} ms, IntMyArray {1,number,#.###} ms",
+                measure(boxed::max), measure(primitive::max)));
+        log.info(MessageFormat.format("indexOf: MyArray<Integer> {0,number,#.###} ms, IntMyArray {1,number,#.###} ms",
+                measure(() -> boxed.indexOf(-1)), measure(() -> primitive.indexOf(-1))));
+    }
+
+    private static double measure(IntSupplier run) {
+        int sink = 0;
+        for (int round = 0; round < ROUNDS; round++) sink += run.getAsInt();
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) sink += run.getAsInt();
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        if (sink == 42) log.info("");
+        return millis;
+    }
+}
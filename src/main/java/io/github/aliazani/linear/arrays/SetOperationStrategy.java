@@ -0,0 +1,30 @@
+package io.github.aliazani.linear.arrays;
+
+/**
+ * The algorithms {@link MyArray#intersect(MyArray)}, {@link MyArray#union(MyArray)} and
+ * {@link MyArray#difference(MyArray)} can run with. Every strategy returns the same elements in the same order; they
+ * only differ in cost.
+ */
+public enum SetOperationStrategy {
+    /**
+     * Puts one array in a hash set and probes it with the other, in O(n + m) time. Works on any input.
+     */
+    HASH,
+    /**
+     * Builds the hash sets and probes them on the common fork-join pool, leaving only a linear compaction pass
+     * sequential. Pays off once the arrays hold tens of thousands of elements.
+     */
+    PARALLEL_HASH,
+    /**
+     * Walks two ascending arrays side by side in O(n + m) time without hashing. Both arrays must be sorted and free of
+     * {@code null}s. Elements that {@code compareTo} ranks equal are still matched with {@code equals}, so types such
+     * as {@link java.math.BigDecimal} give the same result as {@link #HASH}.
+     */
+    SORT_MERGE,
+    /**
+     * Looks up every element of the smaller ascending array in the larger one with an exponential search that resumes
+     * where the previous one stopped, in O(n log(m / n)) time. It has the requirements of {@link #SORT_MERGE}, and
+     * falls back to it when the whole of the larger array is part of the result anyway.
+     */
+    GALLOPING
+}
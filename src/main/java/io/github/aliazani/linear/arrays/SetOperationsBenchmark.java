@@ -0,0 +1,61 @@
+package io.github.aliazani.linear.arrays;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+/**
+ * Times {@link MyArray#intersect(MyArray, SetOperationStrategy)} with every strategy on two sorted arrays of the same
+ * length and with the galloping and merging strategies on a short sorted array against a long one. Usage:
+ * {@code SetOperationsBenchmark [length]}.
+ */
+@Slf4j
+public class SetOperationsBenchmark {
+    private static final int DEFAULT_LENGTH = 1_000_000;
+    private static final int ROUNDS = 10;
+
+    private SetOperationsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LENGTH;
+        Random random = new Random(42);
+        MyArray<Integer> first = sortedArray(random, length, 4);
+        MyArray<Integer> second = sortedArray(random, length, 4);
+        MyArray<Integer> shortArray = sortedArray(random, length / 1000, 4000);
+
+        for (SetOperationStrategy strategy : SetOperationStrategy.values())
+            log.info(MessageFormat.format("intersect {0} x {0}, {1}: {2,number,#.###} ms", length, strategy,
+                    measure(() -> first.intersect(second, strategy).size())));
+
+        for (SetOperationStrategy strategy : new SetOperationStrategy[]{SetOperationStrategy.SORT_MERGE,
+                SetOperationStrategy.GALLOPING})
+            log.info(MessageFormat.format("intersect {0} x {1}, {2}: {3,number,#.###} ms", length,
+                    shortArray.size(), strategy, measure(() -> first.intersect(shortArray, strategy).size())));
+    }
+
+    private static MyArray<Integer> sortedArray(Random random, int length, int maxGap) {
+        MyArray<Integer> array = new MyArray<>(Math.max(1, length));
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            value += 1 + random.nextInt(maxGap);
+            array.insert(value);
+        }
+
+        return array;
+    }
+
+    private static double measure(IntSupplier run) {
+        int sink = 0;
+        for (int round = 0; round < ROUNDS; round++) sink += run.getAsInt();
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) sink += run.getAsInt();
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        if (sink == 42) log.info("");
+        return millis;
+    }
+}
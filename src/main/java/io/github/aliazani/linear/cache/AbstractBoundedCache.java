@@ -0,0 +1,146 @@
+package io.github.aliazani.linear.cache;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The bookkeeping shared by the bounded caches: weighing, eviction and statistics. Subclasses provide the key-node
+ * table and decide how reads reach the eviction policy; every method that changes the table or the policy must be
+ * called from one thread at a time.
+ */
+abstract class AbstractBoundedCache<K extends Comparable<K>, V> implements MyCache<K, V> {
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final Function<? super K, ? extends V> loader;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedWeight = new LongAdder();
+    final Policy<K, V> policy;
+    private volatile long weightedSize;
+
+    AbstractBoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionPolicy evictionPolicy,
+                         Function<? super K, ? extends V> loader) {
+        if (maximumWeight <= 0 || weigher == null || evictionPolicy == null) throw new IllegalArgumentException();
+
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.loader = loader;
+        policy = evictionPolicy.create(maximumWeight);
+    }
+
+    /**
+     * Returns the node cached for the key, or {@code null}.
+     */
+    abstract CacheNode<K, V> lookup(K key);
+
+    abstract void store(CacheNode<K, V> node);
+
+    abstract void delete(K key);
+
+    /**
+     * Lets the policy know that the node was read.
+     */
+    abstract void afterRead(CacheNode<K, V> node);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Concurrent misses for the same key may load it more than once; the last loaded value is kept.
+     */
+    @Override
+    public V get(K key) {
+        V value = getIfPresent(key);
+        if (value != null) return value;
+
+        if (loader == null) throw new NoSuchElementException();
+        value = loader.apply(key);
+        if (value == null) throw new NoSuchElementException();
+
+        loads.increment();
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getIfPresent(K key) {
+        if (key == null) throw new IllegalArgumentException();
+
+        CacheNode<K, V> node = lookup(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), evictedWeight.sum());
+    }
+
+    void doPut(K key, V value) {
+        if (key == null || value == null) throw new IllegalArgumentException();
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) throw new IllegalArgumentException();
+
+        CacheNode<K, V> node = lookup(key);
+        if (node != null) {
+            int oldWeight = node.weight;
+            node.value = value;
+            node.weight = weight;
+            weightedSize += weight - oldWeight;
+            policy.onUpdate(node, oldWeight);
+        } else {
+            node = new CacheNode<>(key, value, weight);
+            store(node);
+            weightedSize += weight;
+            policy.onInsert(node);
+        }
+
+        evict();
+    }
+
+    void doInvalidate(K key) {
+        if (key == null) throw new IllegalArgumentException();
+
+        CacheNode<K, V> node = lookup(key);
+        if (node != null) removeNode(node);
+    }
+
+    private void evict() {
+        while (weightedSize > maximumWeight) {
+            CacheNode<K, V> victim = policy.victim();
+            if (victim == null) return;
+
+            removeNode(victim);
+            evictions.increment();
+            evictedWeight.add(victim.weight);
+        }
+    }
+
+    private void removeNode(CacheNode<K, V> node) {
+        delete(node.key);
+        policy.onRemove(node);
+        weightedSize -= node.weight;
+    }
+}
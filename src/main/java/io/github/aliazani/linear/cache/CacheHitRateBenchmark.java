@@ -0,0 +1,62 @@
+package io.github.aliazani.linear.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Benchmark comparing the hit rates of the {@link EvictionPolicy eviction policies} on a skewed workload.
+ * <p>
+ * Keys are drawn from a Zipf-like distribution, and every tenth request belongs to a scan of keys that are never
+ * requested again. Usage: {@code CacheHitRateBenchmark [maximumSize]}.
+ */
+@Slf4j
+public class CacheHitRateBenchmark {
+    private static final int KEY_RANGE = 100_000;
+    private static final int REQUESTS = 2_000_000;
+    private static final int SCAN_PERIOD = 10;
+    private static final double SKEW = 0.9;
+
+    private CacheHitRateBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int maximumSize = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int[] workload = workload();
+
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            MyBoundedCache<Integer, Integer> cache =
+                    new MyBoundedCache<>(maximumSize, (key, value) -> 1, policy, key -> key);
+
+            long start = System.nanoTime();
+            for (int key : workload) cache.get(key);
+            long elapsed = System.nanoTime() - start;
+
+            log.info(MessageFormat.format("{0}: hit rate {1,number,#.##%}, {2,number,#} ns per request",
+                    policy, cache.stats().hitRate(), (double) elapsed / workload.length));
+        }
+    }
+
+    private static int[] workload() {
+        double[] cumulative = new double[KEY_RANGE];
+        double total = 0;
+        for (int rank = 0; rank < KEY_RANGE; rank++) cumulative[rank] = total += 1 / Math.pow(rank + 1, SKEW);
+
+        Random random = new Random(42);
+        int[] workload = new int[REQUESTS];
+        int scanKey = KEY_RANGE;
+        for (int i = 0; i < REQUESTS; i++) {
+            if (i % SCAN_PERIOD == 0) {
+                workload[i] = scanKey++;
+                continue;
+            }
+
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            workload[i] = rank >= 0 ? rank : Math.min(-rank - 1, KEY_RANGE - 1);
+        }
+
+        return workload;
+    }
+}
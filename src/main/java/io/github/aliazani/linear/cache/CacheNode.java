@@ -0,0 +1,36 @@
+package io.github.aliazani.linear.cache;
+
+import io.github.aliazani.linear.linkedlist.doubly.DoublyLinkedListNode;
+
+/**
+ * A cached entry together with its position in the eviction order. Nodes are ordered by key so they can be stored in
+ * the hash tables of this project.
+ */
+final class CacheNode<K extends Comparable<K>, V> implements Comparable<CacheNode<K, V>> {
+    static final byte WINDOW = 0;
+    static final byte PROBATION = 1;
+    static final byte PROTECTED = 2;
+    static final byte REMOVED = 3;
+
+    final K key;
+    volatile V value;
+    int weight;
+    byte queue;
+    DoublyLinkedListNode<CacheNode<K, V>> listNode;
+
+    CacheNode(K key, V value, int weight) {
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+    }
+
+    @Override
+    public int compareTo(CacheNode<K, V> other) {
+        return key.compareTo(other.key);
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + value;
+    }
+}
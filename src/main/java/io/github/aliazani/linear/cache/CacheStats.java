@@ -0,0 +1,30 @@
+package io.github.aliazani.linear.cache;
+
+import java.text.MessageFormat;
+
+/**
+ * A point-in-time copy of the statistics of a {@link MyCache}.
+ *
+ * @param hits          the number of lookups that found a cached value
+ * @param misses        the number of lookups that found no cached value
+ * @param loads         the number of values loaded by the cache's loader
+ * @param evictions     the number of entries evicted to keep the cache within its bound
+ * @param evictedWeight the total weight of the evicted entries
+ */
+public record CacheStats(long hits, long misses, long loads, long evictions, long evictedWeight) {
+    /**
+     * Returns the share of lookups that found a cached value.
+     *
+     * @return the hit rate, or 1 if there were no lookups
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return MessageFormat.format("hits={0}, misses={1}, hit rate={2,number,#.####}, loads={3}, evictions={4}",
+                hits, misses, hitRate(), loads, evictions);
+    }
+}
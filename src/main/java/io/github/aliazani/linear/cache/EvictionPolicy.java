@@ -0,0 +1,29 @@
+package io.github.aliazani.linear.cache;
+
+/**
+ * The strategies a bounded cache can use to choose which entry to evict.
+ */
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry.
+     */
+    LRU {
+        @Override
+        <K extends Comparable<K>, V> Policy<K, V> create(long maximumWeight) {
+            return new LruPolicy<>();
+        }
+    },
+    /**
+     * Window TinyLFU: new entries enter a small LRU window, and an entry leaving the window is only admitted to the
+     * main segmented LRU if a count-min sketch estimates that it is used more often than the entry it would replace.
+     * This keeps popular entries cached through scans and bursts of one-off keys.
+     */
+    W_TINY_LFU {
+        @Override
+        <K extends Comparable<K>, V> Policy<K, V> create(long maximumWeight) {
+            return new WindowTinyLfuPolicy<>(maximumWeight);
+        }
+    };
+
+    abstract <K extends Comparable<K>, V> Policy<K, V> create(long maximumWeight);
+}
@@ -0,0 +1,101 @@
+package io.github.aliazani.linear.cache;
+
+/**
+ * A count-min sketch estimating how often keys were seen, used by {@link WindowTinyLfuPolicy} to decide admission.
+ * <p>
+ * Each key maps to one 4-bit counter in each of four rows; the estimate is the smallest of the four, capped at 15.
+ * Sixteen counters are packed into every {@code long}. Once the number of increments reaches ten times the expected
+ * number of entries, all counters are halved, so old popularity fades away. The sketch can be grown with
+ * {@link #ensureCapacity(long)} as the cache fills, so a cache bounded by weight does not size it for the bound.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL,
+            0xCBF29CE484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private static final int MIN_SIZE = 16;
+    private static final int MAX_SIZE = 1 << 24;
+
+    private long[] table;
+    private int sampleSize;
+    private int additions;
+
+    /**
+     * Constructs a sketch sized for the given number of entries.
+     *
+     * @param expectedEntries the number of entries the cache is expected to hold
+     */
+    FrequencySketch(long expectedEntries) {
+        allocate(sizeFor(expectedEntries));
+    }
+
+    /**
+     * Grows the sketch if it is too small for the given number of entries. Growing starts counting afresh.
+     */
+    void ensureCapacity(long expectedEntries) {
+        int size = sizeFor(expectedEntries);
+        if (size > table.length) allocate(size);
+    }
+
+    private static int sizeFor(long expectedEntries) {
+        int size = (int) Math.max(MIN_SIZE, Math.min(expectedEntries, MAX_SIZE));
+
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private void allocate(int size) {
+        table = new long[size];
+        sampleSize = 10 * size;
+        additions = 0;
+    }
+
+    /**
+     * Returns the estimated number of times the hash code was seen, at most 15.
+     */
+    int frequency(int hashCode) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long hash = rowHash(hashCode, row);
+            frequency = Math.min(frequency, (int) ((table[index(hash)] >>> shift(hash)) & MAX_COUNT));
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Counts one more occurrence of the hash code, halving all counters once enough occurrences were counted.
+     */
+    void increment(int hashCode) {
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            long hash = rowHash(hashCode, row);
+            int index = index(hash);
+            int shift = shift(hash);
+
+            if (((table[index] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++additions == sampleSize) reset();
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) table[i] = (table[i] >>> 1) & RESET_MASK;
+        additions /= 2;
+    }
+
+    private static long rowHash(int hashCode, int row) {
+        long hash = (hashCode + SEEDS[row]) * SEEDS[row];
+        return hash ^ (hash >>> 32);
+    }
+
+    private int index(long hash) {
+        return (int) hash & (table.length - 1);
+    }
+
+    private static int shift(long hash) {
+        return (int) (hash >>> 60) << 2;
+    }
+}
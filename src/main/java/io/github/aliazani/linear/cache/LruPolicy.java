@@ -0,0 +1,40 @@
+package io.github.aliazani.linear.cache;
+
+import io.github.aliazani.linear.linkedlist.doubly.DoublyLinkedListNode;
+import io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList;
+
+/**
+ * Keeps the entries in access order and evicts the least recently used one.
+ */
+final class LruPolicy<K extends Comparable<K>, V> implements Policy<K, V> {
+    private final MyDoublyLinkedList<CacheNode<K, V>> accessOrder = new MyDoublyLinkedList<>();
+
+    @Override
+    public void onInsert(CacheNode<K, V> node) {
+        node.listNode = accessOrder.addLastNode(node);
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        if (node.queue != CacheNode.REMOVED) accessOrder.moveToLast(node.listNode);
+    }
+
+    @Override
+    public void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        onAccess(node);
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        accessOrder.unlink(node.listNode);
+        node.listNode = null;
+        node.queue = CacheNode.REMOVED;
+    }
+
+    @Override
+    public CacheNode<K, V> victim() {
+        DoublyLinkedListNode<CacheNode<K, V>> eldest = accessOrder.firstNode();
+
+        return eldest == null ? null : eldest.getValue();
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.aliazani.linear.cache;
+
+import io.github.aliazani.linear.hashtables.chaining.MyHashTableChaining;
+
+import java.util.function.Function;
+
+/**
+ * A bounded cache for use by a single thread, with O(1) lookups, insertions and evictions.
+ * <p>
+ * Keys map to their nodes in a {@link MyHashTableChaining}, and the eviction policy orders the nodes in
+ * {@link io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList}s, which it updates in place on every hit.
+ *
+ * @param <K> the type of keys stored in the cache
+ * @param <V> the type of values stored in the cache
+ */
+public class MyBoundedCache<K extends Comparable<K>, V> extends AbstractBoundedCache<K, V> {
+    private static final int INITIAL_SIZE = 16;
+
+    private final MyHashTableChaining<K, CacheNode<K, V>> data = new MyHashTableChaining<>(INITIAL_SIZE);
+
+    /**
+     * Constructs an LRU cache holding at most the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public MyBoundedCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Constructs a cache holding at most the given number of entries.
+     *
+     * @param maximumSize    the maximum number of entries
+     * @param evictionPolicy the strategy choosing which entry to evict
+     * @throws IllegalArgumentException if the maximum size is not positive or the policy is {@code null}
+     */
+    public MyBoundedCache(long maximumSize, EvictionPolicy evictionPolicy) {
+        this(maximumSize, (key, value) -> 1, evictionPolicy, null);
+    }
+
+    /**
+     * Constructs a cache whose entries may weigh at most the given total.
+     *
+     * @param maximumWeight  the maximum total weight of the entries
+     * @param weigher        computes the weight of each entry
+     * @param evictionPolicy the strategy choosing which entry to evict
+     * @param loader         computes the value of a missing key in {@link #get(Comparable)}, or {@code null}
+     * @throws IllegalArgumentException if the maximum weight is not positive, or the weigher or the policy is
+     *                                  {@code null}
+     */
+    public MyBoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionPolicy evictionPolicy,
+                          Function<? super K, ? extends V> loader) {
+        super(maximumWeight, weigher, evictionPolicy, loader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        doPut(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(K key) {
+        doInvalidate(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    CacheNode<K, V> lookup(K key) {
+        return data.getOrNull(key);
+    }
+
+    @Override
+    void store(CacheNode<K, V> node) {
+        data.put(node.key, node);
+    }
+
+    @Override
+    void delete(K key) {
+        data.remove(key);
+    }
+
+    @Override
+    void afterRead(CacheNode<K, V> node) {
+        policy.onAccess(node);
+    }
+}
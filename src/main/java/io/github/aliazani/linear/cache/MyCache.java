@@ -0,0 +1,73 @@
+package io.github.aliazani.linear.cache;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A cache that holds a bounded number (or total weight) of key-value pairs and evicts entries when the bound is
+ * exceeded.
+ * <p>
+ * Keys and values must not be {@code null}.
+ *
+ * @param <K> the type of keys stored in the cache
+ * @param <V> the type of values stored in the cache
+ */
+public interface MyCache<K extends Comparable<K>, V> {
+    /**
+     * Returns the value cached for the given key, loading and caching it with the cache's loader if it is missing.
+     *
+     * @param key the key
+     * @return the cached or loaded value
+     * @throws NoSuchElementException   if the key is missing and the cache has no loader, or the loader returned
+     *                                  {@code null}
+     * @throws IllegalArgumentException if the key is {@code null}
+     */
+    V get(K key);
+
+    /**
+     * Returns the value cached for the given key without loading it.
+     *
+     * @param key the key
+     * @return the cached value, or {@code null} if the key is not cached
+     * @throws IllegalArgumentException if the key is {@code null}
+     */
+    V getIfPresent(K key);
+
+    /**
+     * Caches the value for the given key, replacing any previous value, and evicts entries if the cache is over its
+     * bound.
+     *
+     * @param key   the key
+     * @param value the value
+     * @throws IllegalArgumentException if the key or the value is {@code null}, or the value has a negative weight
+     */
+    void put(K key, V value);
+
+    /**
+     * Removes the given key from the cache if it is cached.
+     *
+     * @param key the key
+     * @throws IllegalArgumentException if the key is {@code null}
+     */
+    void invalidate(K key);
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of cached entries
+     */
+    int size();
+
+    /**
+     * Returns the total weight of the cached entries, which equals {@link #size()} when entries are not weighed.
+     *
+     * @return the total weight of the cached entries
+     */
+    long weightedSize();
+
+    /**
+     * Returns the hit, miss, load and eviction counts recorded so far.
+     *
+     * @return the statistics of the cache
+     */
+    CacheStats stats();
+}
@@ -0,0 +1,128 @@
+package io.github.aliazani.linear.cache;
+
+import io.github.aliazani.linear.hashtables.concurrent.MyConcurrentHashTable;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A thread-safe bounded cache with O(1) lookups, insertions and evictions.
+ * <p>
+ * Keys map to their nodes in a {@link MyConcurrentHashTable}, so lookups never block. Instead of updating the eviction
+ * order on every hit, readers record the hit in a {@link ReadBuffer}, and the buffered hits are replayed against the
+ * eviction policy in batches by whichever thread holds the eviction lock, so readers do not contend on the recency
+ * lists. Writes take the eviction lock, replay the pending hits and evict as needed.
+ *
+ * @param <K> the type of keys stored in the cache
+ * @param <V> the type of values stored in the cache
+ */
+public class MyConcurrentBoundedCache<K extends Comparable<K>, V> extends AbstractBoundedCache<K, V> {
+    private static final int INITIAL_SIZE = 16;
+
+    private final MyConcurrentHashTable<K, CacheNode<K, V>> data = new MyConcurrentHashTable<>(INITIAL_SIZE);
+    private final ReadBuffer<CacheNode<K, V>> readBuffer = new ReadBuffer<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * Constructs an LRU cache holding at most the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public MyConcurrentBoundedCache(long maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Constructs a cache holding at most the given number of entries.
+     *
+     * @param maximumSize    the maximum number of entries
+     * @param evictionPolicy the strategy choosing which entry to evict
+     * @throws IllegalArgumentException if the maximum size is not positive or the policy is {@code null}
+     */
+    public MyConcurrentBoundedCache(long maximumSize, EvictionPolicy evictionPolicy) {
+        this(maximumSize, (key, value) -> 1, evictionPolicy, null);
+    }
+
+    /**
+     * Constructs a cache whose entries may weigh at most the given total.
+     *
+     * @param maximumWeight  the maximum total weight of the entries
+     * @param weigher        computes the weight of each entry
+     * @param evictionPolicy the strategy choosing which entry to evict
+     * @param loader         computes the value of a missing key in {@link #get(Comparable)}, or {@code null}; it is
+     *                       called without holding any lock
+     * @throws IllegalArgumentException if the maximum weight is not positive, or the weigher or the policy is
+     *                                  {@code null}
+     */
+    public MyConcurrentBoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher,
+                                    EvictionPolicy evictionPolicy, Function<? super K, ? extends V> loader) {
+        super(maximumWeight, weigher, evictionPolicy, loader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            doPut(key, value);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            doInvalidate(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    CacheNode<K, V> lookup(K key) {
+        return data.getOrNull(key);
+    }
+
+    @Override
+    void store(CacheNode<K, V> node) {
+        data.put(node.key, node);
+    }
+
+    @Override
+    void delete(K key) {
+        data.remove(key);
+    }
+
+    @Override
+    void afterRead(CacheNode<K, V> node) {
+        if (readBuffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(policy::onAccess);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.aliazani.linear.cache;
+
+/**
+ * Keeps the order in which a bounded cache evicts its entries. The cache calls the policy for every change, always
+ * from a single thread at a time.
+ */
+interface Policy<K extends Comparable<K>, V> {
+    void onInsert(CacheNode<K, V> node);
+
+    /**
+     * Records a hit. The node may have been removed since it was read, in which case the access is ignored.
+     */
+    void onAccess(CacheNode<K, V> node);
+
+    void onUpdate(CacheNode<K, V> node, int oldWeight);
+
+    void onRemove(CacheNode<K, V> node);
+
+    /**
+     * Returns the entry to evict next, or {@code null} if the policy holds no entries.
+     */
+    CacheNode<K, V> victim();
+}
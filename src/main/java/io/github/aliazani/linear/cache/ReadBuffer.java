@@ -0,0 +1,74 @@
+package io.github.aliazani.linear.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lossy, striped buffer of reads waiting to be replayed against the eviction policy.
+ * <p>
+ * Readers append to one of several small ring buffers chosen by thread, claiming a slot with a single compare-and-set;
+ * when the ring is full or the slot is contended the read is dropped, which only makes the recency information
+ * slightly less precise. Only the thread holding the cache's eviction lock drains the buffer.
+ */
+final class ReadBuffer<E> {
+    private static final int STRIPE_SIZE = 16;
+    private static final int DRAIN_THRESHOLD = STRIPE_SIZE / 2;
+
+    private final Stripe<E>[] stripes;
+
+    ReadBuffer() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        stripes = (Stripe<E>[]) new Stripe[Integer.highestOneBit(Math.max(1, processors - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++) stripes[i] = new Stripe<>();
+    }
+
+    /**
+     * Records a read, possibly dropping it.
+     *
+     * @return {@code true} if the buffer should be drained
+     */
+    boolean offer(E element) {
+        int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+        return stripes[(hash >>> 16) & (stripes.length - 1)].offer(element);
+    }
+
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) stripe.drainTo(consumer);
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong tail = new AtomicLong();
+        private volatile long head;
+
+        private boolean offer(E element) {
+            long currentTail = tail.get();
+            long pending = currentTail - head;
+            if (pending >= STRIPE_SIZE) return true;
+
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet((int) (currentTail & (STRIPE_SIZE - 1)), element);
+                return pending + 1 >= DRAIN_THRESHOLD;
+            }
+
+            return false;
+        }
+
+        private void drainTo(Consumer<E> consumer) {
+            long currentHead = head;
+            long currentTail = tail.get();
+
+            for (; currentHead < currentTail; currentHead++) {
+                int index = (int) (currentHead & (STRIPE_SIZE - 1));
+                E element = slots.get(index);
+                if (element == null) break;
+
+                slots.lazySet(index, null);
+                consumer.accept(element);
+            }
+
+            head = currentHead;
+        }
+    }
+}
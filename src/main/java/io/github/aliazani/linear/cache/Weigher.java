@@ -0,0 +1,19 @@
+package io.github.aliazani.linear.cache;
+
+/**
+ * Computes the weight of a cache entry, which counts against the maximum weight of the cache.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+    /**
+     * Returns the weight of the given entry.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the weight of the entry, not negative
+     */
+    int weigh(K key, V value);
+}
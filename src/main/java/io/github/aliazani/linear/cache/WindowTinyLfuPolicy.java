@@ -0,0 +1,132 @@
+package io.github.aliazani.linear.cache;
+
+import io.github.aliazani.linear.linkedlist.doubly.DoublyLinkedListNode;
+import io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList;
+
+/**
+ * Window TinyLFU eviction.
+ * <p>
+ * New entries enter an LRU window holding about 1% of the maximum weight. Entries pushed out of the window join the
+ * probation segment of a segmented LRU, and entries hit while on probation are promoted to the protected segment,
+ * which holds up to 80% of the main space. To evict, the policy compares the newest entry on probation (the candidate)
+ * with the oldest one (the victim) and drops whichever a {@link FrequencySketch} estimates to be used less often. The
+ * sketch is sized by the number of entries, not by the maximum weight, and grows as the cache fills.
+ */
+final class WindowTinyLfuPolicy<K extends Comparable<K>, V> implements Policy<K, V> {
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final MyDoublyLinkedList<CacheNode<K, V>> window = new MyDoublyLinkedList<>();
+    private final MyDoublyLinkedList<CacheNode<K, V>> probation = new MyDoublyLinkedList<>();
+    private final MyDoublyLinkedList<CacheNode<K, V>> protectedSegment = new MyDoublyLinkedList<>();
+    private final FrequencySketch sketch;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private long windowWeight;
+    private long protectedWeight;
+    private long entries;
+
+    WindowTinyLfuPolicy(long maximumWeight) {
+        windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_SHARE));
+        protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_SHARE);
+        sketch = new FrequencySketch(0);
+    }
+
+    @Override
+    public void onInsert(CacheNode<K, V> node) {
+        sketch.ensureCapacity(++entries);
+        sketch.increment(node.key.hashCode());
+
+        node.queue = CacheNode.WINDOW;
+        node.listNode = window.addLastNode(node);
+        windowWeight += node.weight;
+        demoteFromWindow();
+    }
+
+    @Override
+    public void onAccess(CacheNode<K, V> node) {
+        if (node.queue == CacheNode.REMOVED) return;
+
+        sketch.increment(node.key.hashCode());
+        switch (node.queue) {
+            case CacheNode.WINDOW -> window.moveToLast(node.listNode);
+            case CacheNode.PROBATION -> {
+                probation.unlink(node.listNode);
+                node.queue = CacheNode.PROTECTED;
+                node.listNode = protectedSegment.addLastNode(node);
+                protectedWeight += node.weight;
+                demoteFromProtected();
+            }
+            default -> protectedSegment.moveToLast(node.listNode);
+        }
+    }
+
+    @Override
+    public void onUpdate(CacheNode<K, V> node, int oldWeight) {
+        if (node.queue == CacheNode.WINDOW) windowWeight += node.weight - oldWeight;
+        else if (node.queue == CacheNode.PROTECTED) protectedWeight += node.weight - oldWeight;
+
+        onAccess(node);
+        demoteFromWindow();
+        demoteFromProtected();
+    }
+
+    @Override
+    public void onRemove(CacheNode<K, V> node) {
+        switch (node.queue) {
+            case CacheNode.WINDOW -> {
+                window.unlink(node.listNode);
+                windowWeight -= node.weight;
+            }
+            case CacheNode.PROBATION -> probation.unlink(node.listNode);
+            default -> {
+                protectedSegment.unlink(node.listNode);
+                protectedWeight -= node.weight;
+            }
+        }
+
+        node.listNode = null;
+        node.queue = CacheNode.REMOVED;
+        entries--;
+    }
+
+    @Override
+    public CacheNode<K, V> victim() {
+        DoublyLinkedListNode<CacheNode<K, V>> eldest = probation.firstNode();
+        if (eldest == null) eldest = protectedSegment.firstNode();
+        if (eldest == null) eldest = window.firstNode();
+        if (eldest == null) return null;
+
+        CacheNode<K, V> victim = eldest.getValue();
+        if (victim.queue != CacheNode.PROBATION) return victim;
+
+        CacheNode<K, V> candidate = probation.lastNode().getValue();
+        if (candidate == victim) return victim;
+
+        return sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())
+                ? victim
+                : candidate;
+    }
+
+    private void demoteFromWindow() {
+        while (windowWeight > windowMaximum) {
+            CacheNode<K, V> node = window.firstNode().getValue();
+
+            window.unlink(node.listNode);
+            windowWeight -= node.weight;
+            node.queue = CacheNode.PROBATION;
+            node.listNode = probation.addLastNode(node);
+        }
+    }
+
+    private void demoteFromProtected() {
+        while (protectedWeight > protectedMaximum) {
+            CacheNode<K, V> node = protectedSegment.firstNode().getValue();
+
+            protectedSegment.unlink(node.listNode);
+            protectedWeight -= node.weight;
+            node.queue = CacheNode.PROBATION;
+            node.listNode = probation.addLastNode(node);
+        }
+    }
+}
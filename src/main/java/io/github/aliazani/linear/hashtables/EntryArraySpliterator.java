@@ -0,0 +1,85 @@
+package io.github.aliazani.linear.hashtables;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the entries stored in a range of an open-addressing hash table's backing array, where
+ * {@code null} marks an empty slot.
+ * <p>
+ * It splits by halving the range of slots, so a parallel stream over a large table gets evenly sized chunks of the
+ * array, and it hands out the stored entries themselves, so traversal does not allocate.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public class EntryArraySpliterator<K extends Comparable<K>, V extends Comparable<V>>
+        implements Spliterator<Entry<K, V>> {
+    private static final int MIN_SPLIT_SIZE = 64;
+
+    private final Entry<K, V>[] entries;
+    private final int fence;
+    private final long totalSize;
+    private int index;
+
+    /**
+     * Constructs a spliterator over all the slots of the given array.
+     *
+     * @param entries the backing array of the hash table
+     * @param size    the number of entries stored in the array
+     */
+    public EntryArraySpliterator(Entry<K, V>[] entries, int size) {
+        this(entries, 0, entries.length, size);
+    }
+
+    private EntryArraySpliterator(Entry<K, V>[] entries, int origin, int fence, long totalSize) {
+        this.entries = entries;
+        this.index = origin;
+        this.fence = fence;
+        this.totalSize = totalSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+        while (index < fence) {
+            Entry<K, V> entry = entries[index++];
+            if (entry != null) {
+                action.accept(entry);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+        for (; index < fence; index++)
+            if (entries[index] != null) action.accept(entries[index]);
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> trySplit() {
+        int remaining = fence - index;
+        if (remaining < MIN_SPLIT_SIZE) return null;
+
+        int middle = index + remaining / 2;
+        EntryArraySpliterator<K, V> prefix = new EntryArraySpliterator<>(entries, index, middle, totalSize);
+        index = middle;
+
+        return prefix;
+    }
+
+    /**
+     * Estimates the number of remaining entries from the share of the array still to be traversed.
+     */
+    @Override
+    public long estimateSize() {
+        return entries.length == 0 ? 0 : totalSize * (fence - index) / entries.length;
+    }
+
+    @Override
+    public int characteristics() {
+        return DISTINCT | NONNULL;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.aliazani.linear.hashtables;
+
+import io.github.aliazani.linear.hashtables.chaining.MyHashTableChaining;
+import io.github.aliazani.linear.hashtables.open_addressing.double_hashing.MyHashTableDoubleHashing;
+import io.github.aliazani.linear.hashtables.open_addressing.linear_probing.MyHashTableLinearProbing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark comparing the batch operations {@code putAll}, {@code getAll} and {@code removeAll} with the same work
+ * done one key at a time, for each {@link MyHashTable} implementation.
+ * <p>
+ * Every table starts small so the per-key path has to grow it repeatedly. Usage:
+ * {@code HashTableBatchBenchmark [keys]}.
+ */
+@Slf4j
+public class HashTableBatchBenchmark {
+    private static final int ITERATIONS = 10;
+    private static final int INITIAL_SIZE = 16;
+
+    private HashTableBatchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        Integer[] keys = new Integer[count];
+        for (int i = 0; i < count; i++) keys[i] = i * 7;
+
+        benchmark("MyHashTableChaining", size -> new MyHashTableChaining<>(INITIAL_SIZE), keys);
+        benchmark("MyHashTableLinearProbing", size -> new MyHashTableLinearProbing<>(INITIAL_SIZE), keys);
+        benchmark("MyHashTableDoubleHashing", size -> new MyHashTableDoubleHashing<>(INITIAL_SIZE), keys);
+    }
+
+    private static void benchmark(String name, IntFunction<MyHashTable<Integer, Integer>> tableFactory,
+                                  Integer[] keys) {
+        long perKeyNanos = Long.MAX_VALUE;
+        long batchNanos = Long.MAX_VALUE;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            perKeyNanos = Math.min(perKeyNanos, timePerKey(tableFactory.apply(keys.length), keys));
+            batchNanos = Math.min(batchNanos, timeBatch(tableFactory.apply(keys.length), keys));
+        }
+
+        log.info(MessageFormat.format("{0}: per-key {1,number,#.##} ms, batch {2,number,#.##} ms ({3} keys)",
+                name, perKeyNanos / 1e6, batchNanos / 1e6, keys.length));
+    }
+
+    private static long timePerKey(MyHashTable<Integer, Integer> table, Integer[] keys) {
+        long start = System.nanoTime();
+
+        for (Integer key : keys) table.put(key, key);
+        long checksum = 0;
+        for (Integer key : keys) checksum += table.get(key);
+        for (Integer key : keys) table.remove(key);
+
+        return elapsedSince(start, checksum);
+    }
+
+    private static long timeBatch(MyHashTable<Integer, Integer> table, Integer[] keys) {
+        long start = System.nanoTime();
+
+        table.putAll(keys, keys);
+        long checksum = 0;
+        for (Integer value : table.getAll(keys)) checksum += value;
+        table.removeAll(keys);
+
+        return elapsedSince(start, checksum);
+    }
+
+    private static long elapsedSince(long start, long checksum) {
+        long elapsed = System.nanoTime() - start;
+        if (checksum == 42) log.trace("unlikely checksum");
+
+        return elapsed;
+    }
+}
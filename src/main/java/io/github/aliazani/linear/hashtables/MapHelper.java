@@ -1,9 +1,20 @@
 package io.github.aliazani.linear.hashtables;
 
+import io.github.aliazani.linear.hashtables.parallel.ParallelPairSearch;
+import io.github.aliazani.linear.hashtables.primitive.IntIntHashTable;
+import io.github.aliazani.linear.hashtables.streaming.FirstUniqueCharacterTracker;
+import io.github.aliazani.linear.hashtables.streaming.PairCounter;
+import io.github.aliazani.linear.hashtables.streaming.SpaceSavingCounter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * Helper class for common operations on maps and collections.
@@ -31,6 +42,22 @@ public class MapHelper {
         return Character.MIN_VALUE;
     }
 
+    /**
+     * Finds the first non-repeating character among the characters of the reader, reading them incrementally so the
+     * input never has to fit in memory. The reader is not closed.
+     *
+     * @param reader the input characters
+     * @return the first non-repeating character, or {@link Character#MIN_VALUE} if no such character exists
+     * @throws IOException if the reader fails
+     * @see FirstUniqueCharacterTracker
+     */
+    public static char findFirstNonRepeatingCharacter(Reader reader) throws IOException {
+        FirstUniqueCharacterTracker tracker = new FirstUniqueCharacterTracker();
+        tracker.addAll(reader);
+
+        return tracker.firstUnique();
+    }
+
     /**
      * Finds the first repeated character in the given string.
      *
@@ -48,28 +75,50 @@ public class MapHelper {
     }
 
     /**
-     * Finds the most frequent number in the given array.
+     * Finds the most frequent number in the given array. Among equally frequent numbers, the one that appears first in
+     * the array is returned.
      *
      * @param numbers the input array of numbers
-     * @return the most frequent number
+     * @return the most frequent number, or 0 if the array is empty
      */
     public static int mostFrequent(int[] numbers) {
-        Map<Integer, Integer> map = new HashMap<>();
+        IntIntHashTable counts = new IntIntHashTable(Math.max(1, numbers.length));
 
-        for (int number : numbers)
-            map.put(number, map.getOrDefault(number, 0) + 1);
+        for (int number : numbers) counts.addTo(number, 1);
 
         int frequent = -1;
         int result = 0;
-        for (Map.Entry<Integer, Integer> entry : map.entrySet())
-            if (entry.getValue() > frequent) {
-                frequent = entry.getValue();
-                result = entry.getKey();
+        for (int number : numbers) {
+            int count = counts.get(number);
+            if (count > frequent) {
+                frequent = count;
+                result = number;
             }
+        }
 
         return result;
     }
 
+    /**
+     * Finds the most frequent number of a stream with a fixed number of counters, so the stream can be longer than
+     * what fits in memory. The answer is a number with the highest estimated count, which may be too high by up to
+     * {@code length / counters}; a number that occurs more than {@code length / counters} times is always monitored,
+     * but another number can still be returned ahead of it.
+     *
+     * @param numbers  the input stream of numbers, which is consumed
+     * @param counters the number of counters to use
+     * @return the most frequent number
+     * @throws IllegalArgumentException if the number of counters is not positive
+     * @throws java.util.NoSuchElementException if the stream is empty
+     * @see SpaceSavingCounter
+     */
+    public static int mostFrequent(IntStream numbers, int counters) {
+        SpaceSavingCounter counter = new SpaceSavingCounter(counters);
+        counter.addAll(numbers);
+
+        return counter.mostFrequent();
+    }
+
     /**
      * Counts the number of pairs in the given array with the specified difference.
      *
@@ -78,14 +127,47 @@ public class MapHelper {
      * @return the number of pairs with the specified difference
      */
     public static int countPairsWithDiff(int[] numbers, int difference) {
-        Set<Integer> uniqueNumbers = Arrays.stream(numbers).boxed().collect(Collectors.toSet());
+        IntIntHashTable uniqueNumbers = new IntIntHashTable(Math.max(1, numbers.length));
+        for (int number : numbers) uniqueNumbers.put(number, 0);
 
         int count = 0;
-        for (int number : uniqueNumbers)
-            if (uniqueNumbers.contains(number + difference)) count++;
+        for (int number : numbers)
+            if (uniqueNumbers.get(number) == 0) {
+                uniqueNumbers.put(number, 1);
+                if (uniqueNumbers.containsKey(number + difference)) count++;
+            }
         return count;
     }
 
+    /**
+     * Counts the number of pairs in the given array with the specified difference on the common fork-join pool,
+     * returning the same count as {@link #countPairsWithDiff(int[], int)}.
+     *
+     * @param numbers    the input array of numbers
+     * @param difference the target difference
+     * @return the number of pairs with the specified difference
+     * @see ParallelPairSearch#countPairsWithDiff(int[], int, ForkJoinPool)
+     */
+    public static int parallelCountPairsWithDiff(int[] numbers, int difference) {
+        return ParallelPairSearch.countPairsWithDiff(numbers, difference, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Counts the number of pairs with the specified difference in a stream, keeping only its distinct numbers in
+     * memory.
+     *
+     * @param numbers    the input stream of numbers, which is consumed
+     * @param difference the target difference
+     * @return the number of pairs with the specified difference
+     * @see PairCounter
+     */
+    public static long countPairsWithDiff(IntStream numbers, int difference) {
+        PairCounter counter = new PairCounter(difference);
+        counter.addAll(numbers);
+
+        return counter.count();
+    }
+
     /**
      * Finds two numbers in the given array that add up to the target value.
      *
@@ -94,15 +176,29 @@ public class MapHelper {
      * @return an array containing the indices of the two numbers, or null if no such numbers exist
      */
     public static int[] twoSum(int[] numbers, int target) {
-        Map<Integer, Integer> map = new HashMap<>();
+        IntIntHashTable indices = new IntIntHashTable(Math.max(1, numbers.length));
 
         for (int i = 0; i < numbers.length; i++) {
-            if (Objects.equals(numbers[i] * 2, target)) return new int[]{i, i};
+            if (numbers[i] * 2 == target) return new int[]{i, i};
             int complement = target - numbers[i];
-            if (map.containsKey(complement)) return new int[]{map.get(complement), i};
-            map.put(numbers[i], i);
+            int complementIndex = indices.getOrDefault(complement, -1);
+            if (complementIndex >= 0) return new int[]{complementIndex, i};
+            indices.put(numbers[i], i);
         }
 
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds two numbers in the given array that add up to the target value on the common fork-join pool, returning the
+     * same indices as {@link #twoSum(int[], int)}.
+     *
+     * @param numbers the input array of numbers
+     * @param target  the target value
+     * @return an array containing the indices of the two numbers, or null if no such numbers exist
+     * @see ParallelPairSearch#twoSum(int[], int, ForkJoinPool)
+     */
+    public static int[] parallelTwoSum(int[] numbers, int target) {
+        return ParallelPairSearch.twoSum(numbers, target, ForkJoinPool.commonPool());
+    }
+}
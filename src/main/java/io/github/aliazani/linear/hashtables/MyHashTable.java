@@ -1,12 +1,15 @@
 package io.github.aliazani.linear.hashtables;
 
 /**
- * Interface representing a hash table data structure.
+ * Interface representing a hash table data structure: a {@link MyReadOnlyHashTable} that can also be modified.
+ * <p>
+ * The table must not be modified while it is being iterated, and the {@link Entry} objects handed out may be the ones
+ * stored in the table.
  *
  * @param <K> the type of keys stored in the hash table
  * @param <V> the type of values stored in the hash table
  */
-public interface MyHashTable<K extends Comparable<K>, V extends Comparable<V>> {
+public interface MyHashTable<K extends Comparable<K>, V extends Comparable<V>> extends MyReadOnlyHashTable<K, V> {
     /**
      * Inserts a key-value pair into the hash table.
      *
@@ -15,15 +18,6 @@ public interface MyHashTable<K extends Comparable<K>, V extends Comparable<V>> {
      */
     void put(K key, V value);
 
-    /**
-     * Retrieves the value associated with the given key from the hash table.
-     *
-     * @param key the key
-     * @return the value associated with the key
-     * @throws java.util.NoSuchElementException if the key is not found in the hash table
-     */
-    V get(K key);
-
     /**
      * Removes the key-value pair with the given key from the hash table.
      *
@@ -33,16 +27,27 @@ public interface MyHashTable<K extends Comparable<K>, V extends Comparable<V>> {
     void remove(K key);
 
     /**
-     * Returns the number of key-value pairs stored in the hash table.
+     * Inserts the key-value pairs {@code keys[i]}, {@code values[i]} into the hash table. When a key appears more than
+     * once, the last value wins.
      *
-     * @return the number of key-value pairs
+     * @param keys   the keys
+     * @param values the values, one per key
+     * @throws IllegalArgumentException if {@code keys} and {@code values} have different lengths
      */
-    int size();
+    default void putAll(K[] keys, V[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException();
+
+        for (int i = 0; i < keys.length; i++) put(keys[i], values[i]);
+    }
 
     /**
-     * Checks if the hash table is empty.
+     * Removes the key-value pairs with the given keys from the hash table, in the order of the keys.
      *
-     * @return {@code true} if the hash table is empty, {@code false} otherwise
+     * @param keys the keys
+     * @throws java.util.NoSuchElementException if a key is not found in the hash table; the keys before it have
+     *                                          already been removed
      */
-    boolean isEmpty();
+    default void removeAll(K[] keys) {
+        for (K key : keys) remove(key);
+    }
 }
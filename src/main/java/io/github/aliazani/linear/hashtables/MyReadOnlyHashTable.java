@@ -0,0 +1,106 @@
+package io.github.aliazani.linear.hashtables;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Interface representing the read side of a hash table data structure, implemented on its own by tables that cannot
+ * be modified.
+ * <p>
+ * Iterating a hash table visits its entries in no particular order.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public interface MyReadOnlyHashTable<K extends Comparable<K>, V extends Comparable<V>> extends Iterable<Entry<K, V>> {
+    /**
+     * Retrieves the value associated with the given key from the hash table.
+     *
+     * @param key the key
+     * @return the value associated with the key
+     * @throws java.util.NoSuchElementException if the key is not found in the hash table
+     */
+    V get(K key);
+
+    /**
+     * Retrieves the value associated with the given key without throwing when the key is missing. Implementations
+     * override this so that a miss does not pay for creating an exception.
+     *
+     * @param key the key
+     * @return the value associated with the key, or {@code null} if the key is not found
+     */
+    default V getOrNull(K key) {
+        try {
+            return get(key);
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the hash table contains the given key. Unlike {@link #getOrNull(Comparable)} this tells a missing
+     * key apart from a key mapped to {@code null}.
+     *
+     * @param key the key
+     * @return {@code true} if the key is found, {@code false} otherwise
+     */
+    default boolean containsKey(K key) {
+        try {
+            get(key);
+            return true;
+        } catch (NoSuchElementException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in the hash table.
+     *
+     * @return the number of key-value pairs
+     */
+    int size();
+
+    /**
+     * Checks if the hash table is empty.
+     *
+     * @return {@code true} if the hash table is empty, {@code false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Retrieves the values associated with the given keys, in the order of the keys.
+     *
+     * @param keys the keys
+     * @return the values associated with the keys
+     * @throws java.util.NoSuchElementException if any of the keys is not found in the hash table
+     */
+    default List<V> getAll(K[] keys) {
+        List<V> values = new ArrayList<>(keys.length);
+        for (K key : keys) values.add(get(key));
+
+        return values;
+    }
+
+    /**
+     * Performs the given action for each key-value pair in the hash table.
+     *
+     * @param action the action to be performed for each key-value pair
+     */
+    default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Entry<K, V> entry : this) action.accept(entry.getKey(), entry.getValue());
+    }
+
+    /**
+     * Returns a sequential stream over the entries of the hash table. Call {@code parallel()} on it to process the
+     * entries on several cores.
+     *
+     * @return a stream over the entries of the hash table
+     */
+    default Stream<Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -2,26 +2,59 @@ package io.github.aliazani.linear.hashtables.chaining;
 
 import io.github.aliazani.linear.hashtables.Entry;
 import io.github.aliazani.linear.hashtables.MyHashTable;
+import io.github.aliazani.linear.hashtables.metrics.HashTableMetrics;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * A hash table implementation using chaining to handle collisions.
+ * <p>
+ * When the load factor exceeds the maximum load factor the table grows to twice its capacity. The entries are not
+ * moved all at once: every {@code put}, {@code get} and {@code remove} migrates a few slots from the old table to the
+ * new one (incremental rehashing), so no single operation pays for a full-table rehash.
+ * <p>
+ * Slots that collect many colliding keys are turned into balanced trees ordered by the keys (see {@link Slot}), so
+ * lookups stay O(log n) even for adversarial keys. This requires {@code compareTo} to be consistent with
+ * {@code equals}.
  *
  * @param <K> the type of keys stored in the hash table, must implement Comparable interface.
  * @param <V> the type of values stored in the hash table, must implement Comparable interface.
  */
 public class MyHashTableChaining<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
-    private final LinkedList<Entry<K, V>>[] entries;
+    private static final float DEFAULT_MAX_LOAD_FACTOR = 1.0f;
+    private static final int REHASH_SLOTS_PER_OPERATION = 1;
+    private static final int MAX_EMPTY_SLOTS_VISITED_PER_SLOT = 10;
+
+    private final float maxLoadFactor;
+    private Slot<K, V>[] entries;
+    private Slot<K, V>[] rehashEntries;
+    private int rehashIndex;
     private int size;
+    private HashTableMetrics metrics;
 
     /**
      * Constructs a new hash table with the specified size.
      *
      * @param size the size of the hash table.
+     * @throws IllegalArgumentException if the size is not positive.
      */
     public MyHashTableChaining(int size) {
-        entries = (LinkedList<Entry<K, V>>[]) new LinkedList[size];
+        this(size, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new hash table with the specified size and maximum load factor.
+     *
+     * @param size          the initial size of the hash table.
+     * @param maxLoadFactor the load factor above which the table starts growing.
+     * @throws IllegalArgumentException if the size or the maximum load factor is not positive.
+     */
+    public MyHashTableChaining(int size, float maxLoadFactor) {
+        if (size <= 0 || !(maxLoadFactor > 0)) throw new IllegalArgumentException();
+
+        this.maxLoadFactor = maxLoadFactor;
+        entries = createSlots(size);
     }
 
     /**
@@ -32,41 +65,147 @@ public class MyHashTableChaining<K extends Comparable<K>, V extends Comparable<V
      */
     @Override
     public void put(K key, V value) {
+        rehashStep();
         Entry<K, V> entry = getEntry(key);
 
         if (entry != null) entry.setValue(value);
         else {
-            LinkedList<Entry<K, V>> slot = getOrCreateSlot(key);
-            slot.addLast(new Entry<>(key, value));
+            Slot<K, V> slot = getOrCreateSlot(key);
+            slot.add(new Entry<>(key, value));
 
             size++;
+            if (!isRehashing() && loadFactor() > maxLoadFactor) startRehash();
         }
     }
 
+    /**
+     * Looks the key up in the old table and, while a rehash is in progress and the key was not found there, in the new
+     * one. The lengths of the chains searched are recorded as one chain length.
+     */
     private Entry<K, V> getEntry(K key) {
-        LinkedList<Entry<K, V>> slot = getSlot(key);
+        Slot<K, V> slot = getSlot(entries, key);
+        Entry<K, V> entry = find(slot, key);
+        int chainLength = chainLength(slot);
+
+        if (entry == null && isRehashing()) {
+            slot = getSlot(rehashEntries, key);
+            entry = find(slot, key);
+            chainLength += chainLength(slot);
+        }
+
+        recordChainLength(chainLength);
+        return entry;
+    }
+
+    private Entry<K, V> find(Slot<K, V> slot, K key) {
+        return slot == null ? null : slot.find(key);
+    }
+
+    private int chainLength(Slot<K, V> slot) {
+        return slot == null ? 0 : slot.size();
+    }
+
+    private void recordChainLength(int chainLength) {
+        if (metrics != null && metrics.shouldSample()) {
+            metrics.recordChainLength(chainLength);
+            metrics.recordLoadFactor(loadFactor());
+        }
+    }
+
+    private Slot<K, V> getSlot(Slot<K, V>[] table, K key) {
+        return table[hash(key, table.length)];
+    }
+
+    private Slot<K, V> getOrCreateSlot(K key) {
+        Slot<K, V>[] table = isRehashing() ? rehashEntries : entries;
+        int index = hash(key, table.length);
+
+        if (table[index] == null) table[index] = new Slot<>();
+
+        return table[index];
+    }
+
+    private int hash(K key, int length) {
+        return (key == null) ? 0 : Math.abs(key.hashCode() % length);
+    }
+
+    private boolean isRehashing() {
+        return rehashEntries != null;
+    }
+
+    private void startRehash() {
+        rehashEntries = createSlots(2 * entries.length);
+        rehashIndex = 0;
+
+        if (metrics != null) metrics.recordResize(rehashEntries.length, loadFactor());
+    }
+
+    private void rehashStep() {
+        if (!isRehashing()) return;
+
+        int emptyVisits = REHASH_SLOTS_PER_OPERATION * MAX_EMPTY_SLOTS_VISITED_PER_SLOT;
+        for (int moved = 0; moved < REHASH_SLOTS_PER_OPERATION && rehashIndex < entries.length; rehashIndex++) {
+            Slot<K, V> slot = entries[rehashIndex];
+            if (slot == null || slot.isEmpty()) {
+                entries[rehashIndex] = null;
+                if (--emptyVisits == 0) {
+                    rehashIndex++;
+                    break;
+                }
+                continue;
+            }
+
+            for (Entry<K, V> entry : slot) addToSlot(rehashEntries, entry);
+            entries[rehashIndex] = null;
+            moved++;
+        }
+
+        if (rehashIndex == entries.length) finishRehash();
+    }
 
-        if (slot != null)
-            for (Entry<K, V> entry : slot)
-                if (Objects.equals(entry.getKey(), key)) return entry;
+    private void addToSlot(Slot<K, V>[] table, Entry<K, V> entry) {
+        int index = hash(entry.getKey(), table.length);
+        if (table[index] == null) table[index] = new Slot<>();
 
-        return null;
+        table[index].add(entry);
     }
 
-    private LinkedList<Entry<K, V>> getSlot(K key) {
-        return entries[hash(key)];
+    /**
+     * Moves every entry to a table large enough for the expected size in one pass, but only if neither the current
+     * table nor the one a rehash in progress is filling is large enough.
+     */
+    private void ensureCapacity(int expectedSize) {
+        int capacity = capacity();
+        while (expectedSize > capacity * maxLoadFactor) capacity *= 2;
+
+        if (capacity != capacity()) moveAllEntries(createSlots(capacity));
     }
 
-    private LinkedList<Entry<K, V>> getOrCreateSlot(K key) {
-        int index = hash(key);
+    private void moveAllEntries(Slot<K, V>[] table) {
+        moveEntries(entries, table);
+        if (isRehashing()) moveEntries(rehashEntries, table);
+
+        entries = table;
+        rehashEntries = null;
+        rehashIndex = 0;
+
+        if (metrics != null) metrics.recordResize(table.length, loadFactor());
+    }
 
-        if (entries[index] == null) entries[index] = new LinkedList<>();
+    private void moveEntries(Slot<K, V>[] from, Slot<K, V>[] to) {
+        for (Slot<K, V> slot : from)
+            if (slot != null)
+                for (Entry<K, V> entry : slot) addToSlot(to, entry);
+    }
 
-        return entries[index];
+    private void finishRehash() {
+        entries = rehashEntries;
+        rehashEntries = null;
+        rehashIndex = 0;
     }
 
-    private int hash(K key) {
-        return (key == null) ? 0 : Math.abs(key.hashCode() % entries.length);
+    private Slot<K, V>[] createSlots(int length) {
+        return (Slot<K, V>[]) new Slot[length];
     }
 
     /**
@@ -78,12 +217,34 @@ public class MyHashTableChaining<K extends Comparable<K>, V extends Comparable<V
      */
     @Override
     public V get(K key) {
+        rehashStep();
         Entry<K, V> entry = getEntry(key);
         if (entry == null) throw new NoSuchElementException();
 
         return entry.getValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        rehashStep();
+        Entry<K, V> entry = getEntry(key);
+
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        rehashStep();
+
+        return getEntry(key) != null;
+    }
+
     /**
      * Removes the entry with the specified key from the hash table.
      *
@@ -92,13 +253,82 @@ public class MyHashTableChaining<K extends Comparable<K>, V extends Comparable<V
      */
     @Override
     public void remove(K key) {
-        LinkedList<Entry<K, V>> slot = getSlot(key);
+        rehashStep();
 
-        if (slot == null || slot.isEmpty()) throw new NoSuchElementException();
-        if (slot.removeIf(entry -> Objects.equals(entry.getKey(), key))) size--;
+        if (removeEntry(key)) size--;
         else throw new NoSuchElementException();
     }
 
+    /**
+     * Removes the key from the old table or, while a rehash is in progress and the key was not found there, from the
+     * new one. The lengths of the chains searched are recorded as one chain length.
+     */
+    private boolean removeEntry(K key) {
+        Slot<K, V> slot = getSlot(entries, key);
+        int chainLength = chainLength(slot);
+        boolean removed = slot != null && slot.remove(key);
+
+        if (!removed && isRehashing()) {
+            slot = getSlot(rehashEntries, key);
+            chainLength += chainLength(slot);
+            removed = slot != null && slot.remove(key);
+        }
+
+        recordChainLength(chainLength);
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the batch needs a larger table than the current one, or than the one a rehash in progress is filling, the
+     * table is grown once for the whole batch instead of several times while the keys are added. Otherwise the keys
+     * are put one by one, and a rehash in progress keeps advancing a step per key. The size needed is counted as if
+     * every key were new, so a batch that mostly updates existing keys can grow the table further than adding the keys
+     * one by one would.
+     */
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException();
+
+        ensureCapacity(size + keys.length);
+        for (int i = 0; i < keys.length; i++) put(keys[i], values[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A single rehash step is taken for the whole batch.
+     */
+    @Override
+    public List<V> getAll(K[] keys) {
+        rehashStep();
+
+        List<V> values = new ArrayList<>(keys.length);
+        for (K key : keys) {
+            Entry<K, V> entry = getEntry(key);
+            if (entry == null) throw new NoSuchElementException();
+
+            values.add(entry.getValue());
+        }
+
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A single rehash step is taken for the whole batch.
+     */
+    @Override
+    public void removeAll(K[] keys) {
+        rehashStep();
+
+        for (K key : keys)
+            if (removeEntry(key)) size--;
+            else throw new NoSuchElementException();
+    }
+
     /**
      * Returns the number of entries in the hash table.
      *
@@ -120,12 +350,150 @@ public class MyHashTableChaining<K extends Comparable<K>, V extends Comparable<V
     }
 
     /**
-     * Returns a string representation of the hash table.
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the entries that splits the slots into halves. While a rehash is in progress the
+     * slots of both tables are covered.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new SlotSpliterator<>(entries, rehashEntries, size);
+    }
+
+    /**
+     * Returns the number of slots of the hash table. While a rehash is in progress this is the size of the table the
+     * entries are being moved to.
+     *
+     * @return the number of slots of the hash table.
+     */
+    public int capacity() {
+        return isRehashing() ? rehashEntries.length : entries.length;
+    }
+
+    /**
+     * Returns the current load factor, i.e. the number of entries divided by the capacity.
+     *
+     * @return the current load factor of the hash table.
+     */
+    public double loadFactor() {
+        return (double) size / capacity();
+    }
+
+    /**
+     * Attaches metrics that record the lengths of the visited chains, resizes and the load factor of this table, or
+     * detaches them. Attached metrics start from the current capacity.
+     *
+     * @param metrics the metrics to record into, or {@code null} to stop recording
+     */
+    public void setMetrics(HashTableMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null) metrics.recordCapacity(capacity());
+    }
+
+    /**
+     * Returns the metrics attached to this table.
+     *
+     * @return the attached metrics, or {@code null} if there are none
+     */
+    public HashTableMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns a string representation of the hash table. While a rehash is in progress both the old and the new
+     * table are shown, separated by {@code " -> "}.
      *
      * @return a string representation of the hash table.
      */
     @Override
     public String toString() {
+        if (isRehashing()) return Arrays.toString(entries) + " -> " + Arrays.toString(rehashEntries);
+
         return Arrays.toString(entries);
     }
-}
\ No newline at end of file
+
+    private static final class SlotSpliterator<K extends Comparable<K>, V extends Comparable<V>>
+            implements Spliterator<Entry<K, V>> {
+        private static final int MIN_SPLIT_SIZE = 64;
+
+        private final Slot<K, V>[] entries;
+        private final Slot<K, V>[] rehashEntries;
+        private final int fence;
+        private final long totalSize;
+        private int index;
+        private Iterator<Entry<K, V>> current;
+
+        private SlotSpliterator(Slot<K, V>[] entries, Slot<K, V>[] rehashEntries, long totalSize) {
+            this(entries, rehashEntries, 0,
+                    entries.length + (rehashEntries == null ? 0 : rehashEntries.length), totalSize);
+        }
+
+        private SlotSpliterator(Slot<K, V>[] entries, Slot<K, V>[] rehashEntries, int origin, int fence,
+                                long totalSize) {
+            this.entries = entries;
+            this.rehashEntries = rehashEntries;
+            this.index = origin;
+            this.fence = fence;
+            this.totalSize = totalSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            while (current == null || !current.hasNext()) {
+                if (index >= fence) return false;
+
+                Slot<K, V> slot = slotAt(index++);
+                current = slot == null ? null : slot.iterator();
+            }
+
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+            if (current != null) current.forEachRemaining(action);
+
+            for (; index < fence; index++) {
+                Slot<K, V> slot = slotAt(index);
+                if (slot != null)
+                    for (Entry<K, V> entry : slot) action.accept(entry);
+            }
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int remaining = fence - index;
+            if (remaining < MIN_SPLIT_SIZE) return null;
+
+            int middle = index + remaining / 2;
+            SlotSpliterator<K, V> prefix = new SlotSpliterator<>(entries, rehashEntries, index, middle, totalSize);
+            index = middle;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            int slots = entries.length + (rehashEntries == null ? 0 : rehashEntries.length);
+            return totalSize * (fence - index) / slots;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL;
+        }
+
+        private Slot<K, V> slotAt(int index) {
+            return index < entries.length ? entries[index] : rehashEntries[index - entries.length];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.aliazani.linear.hashtables.chaining;
+
+import io.github.aliazani.linear.hashtables.Entry;
+
+import java.util.*;
+
+/**
+ * A slot of a {@link MyHashTableChaining}, holding the entries whose keys hash to the same index.
+ * <p>
+ * Entries are kept in a linked list while the slot is short. Once it grows past {@link #TREEIFY_THRESHOLD} entries
+ * they are moved into a red-black tree ordered by the keys, which bounds lookups at O(log n) even when many keys
+ * collide, and they are moved back into a list when the slot shrinks to {@link #UNTREEIFY_THRESHOLD} entries.
+ *
+ * @param <K> the type of keys stored in the slot
+ * @param <V> the type of values stored in the slot
+ */
+class Slot<K extends Comparable<K>, V extends Comparable<V>> implements Iterable<Entry<K, V>> {
+    static final int TREEIFY_THRESHOLD = 8;
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    private LinkedList<Entry<K, V>> list = new LinkedList<>();
+    private TreeMap<K, Entry<K, V>> tree;
+
+    /**
+     * Returns the entry with the given key.
+     *
+     * @param key the key
+     * @return the entry with the given key, or {@code null} if there is none
+     */
+    Entry<K, V> find(K key) {
+        if (isTreeified()) return tree.get(key);
+
+        for (Entry<K, V> entry : list)
+            if (Objects.equals(entry.getKey(), key)) return entry;
+
+        return null;
+    }
+
+    /**
+     * Adds an entry whose key is not in the slot yet.
+     *
+     * @param entry the entry to add
+     */
+    void add(Entry<K, V> entry) {
+        if (isTreeified()) {
+            tree.put(entry.getKey(), entry);
+            return;
+        }
+
+        list.addLast(entry);
+        if (list.size() > TREEIFY_THRESHOLD) treeify();
+    }
+
+    /**
+     * Removes the entry with the given key.
+     *
+     * @param key the key
+     * @return {@code true} if an entry was removed, {@code false} otherwise
+     */
+    boolean remove(K key) {
+        if (!isTreeified()) return list.removeIf(entry -> Objects.equals(entry.getKey(), key));
+
+        if (tree.remove(key) == null) return false;
+        if (tree.size() <= UNTREEIFY_THRESHOLD) untreeify();
+
+        return true;
+    }
+
+    int size() {
+        return isTreeified() ? tree.size() : list.size();
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    boolean isTreeified() {
+        return tree != null;
+    }
+
+    private void treeify() {
+        tree = new TreeMap<>(Comparator.nullsFirst(Comparator.<K>naturalOrder()));
+        for (Entry<K, V> entry : list) tree.put(entry.getKey(), entry);
+        list = null;
+    }
+
+    private void untreeify() {
+        list = new LinkedList<>(tree.values());
+        tree = null;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return isTreeified() ? tree.values().iterator() : list.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return isTreeified() ? tree.values().toString() : list.toString();
+    }
+}
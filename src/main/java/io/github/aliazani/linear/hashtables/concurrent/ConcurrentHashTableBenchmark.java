@@ -0,0 +1,129 @@
+package io.github.aliazani.linear.hashtables.concurrent;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.MyHashTable;
+import io.github.aliazani.linear.hashtables.chaining.MyHashTableChaining;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Multi-threaded throughput benchmark comparing {@link MyConcurrentHashTable} with a {@link MyHashTableChaining}
+ * guarded by a single lock.
+ * <p>
+ * Every thread runs a read-mostly mix (90% {@code get}, 10% {@code put}) over a shared key range for a fixed duration
+ * and the total number of completed operations is reported. Usage: {@code ConcurrentHashTableBenchmark [threads]}.
+ */
+@Slf4j
+public class ConcurrentHashTableBenchmark {
+    private static final int KEY_RANGE = 1 << 16;
+    private static final int WRITE_PERCENTAGE = 10;
+    private static final long WARM_UP_MILLIS = 1_000;
+    private static final long MEASUREMENT_MILLIS = 3_000;
+
+    private ConcurrentHashTableBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double synchronizedThroughput = measure(
+                    () -> new SynchronizedHashTable<Integer, Integer>(new MyHashTableChaining<>(KEY_RANGE)), threads);
+            double concurrentThroughput = measure(() -> new MyConcurrentHashTable<>(KEY_RANGE), threads);
+
+            log.info(MessageFormat.format(
+                    "threads={0}: synchronized MyHashTableChaining {1,number,#} ops/s, " +
+                            "MyConcurrentHashTable {2,number,#} ops/s",
+                    threads, synchronizedThroughput, concurrentThroughput));
+        }
+    }
+
+    private static double measure(Supplier<MyHashTable<Integer, Integer>> tableFactory, int threads)
+            throws InterruptedException {
+        MyHashTable<Integer, Integer> table = tableFactory.get();
+        for (int key = 0; key < KEY_RANGE; key++) table.put(key, key);
+
+        run(table, threads, WARM_UP_MILLIS);
+        return run(table, threads, MEASUREMENT_MILLIS) * 1_000.0 / MEASUREMENT_MILLIS;
+    }
+
+    private static long run(MyHashTable<Integer, Integer> table, int threads, long millis)
+            throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                try {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        int key = random.nextInt(KEY_RANGE);
+                        if (random.nextInt(100) < WRITE_PERCENTAGE) table.put(key, key);
+                        else table.get(key);
+                        count++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    operations.add(count);
+                    done.countDown();
+                }
+            });
+            worker.start();
+        }
+
+        start.countDown();
+        done.await();
+        return operations.sum();
+    }
+
+    private static final class SynchronizedHashTable<K extends Comparable<K>, V extends Comparable<V>>
+            implements MyHashTable<K, V> {
+        private final MyHashTable<K, V> table;
+
+        private SynchronizedHashTable(MyHashTable<K, V> table) {
+            this.table = table;
+        }
+
+        @Override
+        public synchronized void put(K key, V value) {
+            table.put(key, value);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return table.get(key);
+        }
+
+        @Override
+        public synchronized void remove(K key) {
+            table.remove(key);
+        }
+
+        @Override
+        public synchronized int size() {
+            return table.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return table.isEmpty();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return table.iterator();
+        }
+    }
+}
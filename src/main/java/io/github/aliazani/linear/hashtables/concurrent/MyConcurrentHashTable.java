@@ -0,0 +1,367 @@
+package io.github.aliazani.linear.hashtables.concurrent;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.MyHashTable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe hash table that stripes its locks across segments.
+ * <p>
+ * Keys are spread over a fixed number of segments, each of which is a small chaining hash table guarded by its own
+ * lock, so writers to different segments proceed in parallel. Readers never lock: the chains are immutable apart
+ * from the (volatile) values, and writers publish new chain heads through an {@link AtomicReferenceArray}, so a
+ * reader always sees a consistent chain.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public class MyConcurrentHashTable<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+
+    /**
+     * Constructs a hash table with the specified size and the default concurrency level of 16 segments.
+     *
+     * @param size the initial size of the hash table
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public MyConcurrentHashTable(int size) {
+        this(size, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a hash table with the specified size and number of segments.
+     *
+     * @param size             the initial size of the hash table
+     * @param concurrencyLevel the expected number of concurrent writers, rounded up to a power of two
+     * @throws IllegalArgumentException if the size or the concurrency level is not positive
+     */
+    public MyConcurrentHashTable(int size, int concurrencyLevel) {
+        if (size <= 0 || concurrencyLevel <= 0 || concurrencyLevel > (1 << 16)) throw new IllegalArgumentException();
+
+        int segmentCount = powerOfTwoAtLeast(concurrencyLevel);
+        int segmentSize = powerOfTwoAtLeast(Math.max(2, (size + segmentCount - 1) / segmentCount));
+
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) segments[i] = new Segment<>(segmentSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        segmentFor(hash).put(hash, key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method never blocks.
+     */
+    @Override
+    public V get(K key) {
+        int hash = hash(key);
+        Node<K, V> node = segmentFor(hash).getNode(hash, key);
+
+        if (node == null) throw new NoSuchElementException();
+
+        return node.value;
+    }
+
+    /**
+     * Retrieves the value associated with the given key without throwing when the key is missing. Like
+     * {@link #get(Comparable)} this method never blocks.
+     *
+     * @param key the key
+     * @return the value associated with the key, or {@code null} if the key is not found
+     */
+    @Override
+    public V getOrNull(K key) {
+        int hash = hash(key);
+        Node<K, V> node = segmentFor(hash).getNode(hash, key);
+
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * {@inheritDoc} Like {@link #get(Comparable)} this method never blocks.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        int hash = hash(key);
+
+        return segmentFor(hash).getNode(hash, key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(K key) {
+        int hash = hash(key);
+
+        if (!segmentFor(hash).remove(hash, key)) throw new NoSuchElementException();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The result is a sum over the segments and may not reflect writes that are still in progress.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) size += segment.count;
+
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments)
+            if (segment.count != 0) return false;
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The iterator is weakly consistent: it never throws {@link java.util.ConcurrentModificationException} and may or
+     * may not reflect writes made after it was created. The returned entries are snapshots, so changing their value
+     * does not change the table.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a weakly consistent spliterator over the entries that splits the segments into halves.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new SegmentSpliterator(0, segments.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Like the iterator this is weakly consistent, and it does not lock.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Segment<K, V> segment : segments) segment.forEach(action);
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segmentShift == 32 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private int hash(K key) {
+        if (key == null) return 0;
+
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        return n == 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * Returns a string representation of the hash table, listing the entries of every segment.
+     *
+     * @return a string representation of the hash table
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<Node<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++)
+                for (Node<K, V> node = table.get(i); node != null; node = node.next)
+                    joiner.add(node.key + "=" + node.value);
+        }
+
+        return joiner.toString();
+    }
+
+    private static final class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private final Node<K, V> next;
+        private volatile V value;
+
+        private Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile AtomicReferenceArray<Node<K, V>> table;
+        private volatile int count;
+
+        private Segment(int size) {
+            table = new AtomicReferenceArray<>(size);
+        }
+
+        private Node<K, V> getNode(int hash, K key) {
+            AtomicReferenceArray<Node<K, V>> currentTable = table;
+
+            for (Node<K, V> node = currentTable.get(indexFor(hash, currentTable)); node != null; node = node.next)
+                if (node.hash == hash && Objects.equals(node.key, key)) return node;
+
+            return null;
+        }
+
+        private void put(int hash, K key, V value) {
+            lock.lock();
+            try {
+                Node<K, V> node = getNode(hash, key);
+                if (node != null) {
+                    node.value = value;
+                    return;
+                }
+
+                if (count + 1 > table.length() * MAX_LOAD_FACTOR) resize();
+
+                int index = indexFor(hash, table);
+                table.set(index, new Node<>(hash, key, value, table.get(index)));
+                count++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean remove(int hash, K key) {
+            lock.lock();
+            try {
+                int index = indexFor(hash, table);
+                Node<K, V> head = table.get(index);
+
+                Node<K, V> removed = head;
+                while (removed != null && !(removed.hash == hash && Objects.equals(removed.key, key)))
+                    removed = removed.next;
+                if (removed == null) return false;
+
+                Node<K, V> newHead = removed.next;
+                for (Node<K, V> node = head; node != removed; node = node.next)
+                    newHead = new Node<>(node.hash, node.key, node.value, newHead);
+
+                table.set(index, newHead);
+                count--;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void resize() {
+            AtomicReferenceArray<Node<K, V>> oldTable = table;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(2 * oldTable.length());
+
+            for (int i = 0; i < oldTable.length(); i++)
+                for (Node<K, V> node = oldTable.get(i); node != null; node = node.next) {
+                    int index = indexFor(node.hash, newTable);
+                    newTable.set(index, new Node<>(node.hash, node.key, node.value, newTable.get(index)));
+                }
+
+            table = newTable;
+        }
+
+        private void forEach(BiConsumer<? super K, ? super V> action) {
+            AtomicReferenceArray<Node<K, V>> currentTable = table;
+
+            for (int i = 0; i < currentTable.length(); i++)
+                for (Node<K, V> node = currentTable.get(i); node != null; node = node.next)
+                    action.accept(node.key, node.value);
+        }
+
+        private static int indexFor(int hash, AtomicReferenceArray<?> table) {
+            return hash & (table.length() - 1);
+        }
+    }
+
+    private final class SegmentSpliterator implements Spliterator<Entry<K, V>> {
+        private final int fence;
+        private int index;
+        private Spliterator<Entry<K, V>> current;
+
+        private SegmentSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            while (current == null || !current.tryAdvance(action)) {
+                if (index >= fence) return false;
+                current = snapshot(segments[index++]);
+            }
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Entry<K, V>> action) {
+            if (current != null) current.forEachRemaining(action);
+
+            for (; index < fence; index++)
+                segments[index].forEach((key, value) -> action.accept(new Entry<>(key, value)));
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int remaining = fence - index;
+            if (remaining < 2) return null;
+
+            int middle = index + remaining / 2;
+            SegmentSpliterator prefix = new SegmentSpliterator(index, middle);
+            index = middle;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = 0;
+            for (int i = index; i < fence; i++) size += segments[i].count;
+
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL | CONCURRENT;
+        }
+
+        private Spliterator<Entry<K, V>> snapshot(Segment<K, V> segment) {
+            List<Entry<K, V>> entries = new ArrayList<>(segment.count);
+            segment.forEach((key, value) -> entries.add(new Entry<>(key, value)));
+
+            return entries.spliterator();
+        }
+    }
+}
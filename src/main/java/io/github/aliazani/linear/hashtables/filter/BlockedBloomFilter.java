@@ -0,0 +1,118 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import java.util.Arrays;
+
+/**
+ * A Bloom filter whose bits are grouped into blocks of 512 bits, one 64-byte cache line each. A key picks one block
+ * with the upper half of its hash and sets {@code k} bits inside that block, so adding or checking a key touches a
+ * single cache line.
+ * <p>
+ * Because the keys are not spread evenly over the blocks, the false positive rate is somewhat higher than that of a
+ * {@link BloomFilter} of the same size; the constructor adds about a tenth more bits to make up for it.
+ *
+ * @param <K> the type of keys
+ */
+public class BlockedBloomFilter<K> implements MembershipFilter<K> {
+    /**
+     * The number of bits in a block, the size of a cache line.
+     */
+    public static final int BLOCK_BITS = 512;
+    private static final int WORDS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    private static final double BLOCKING_OVERHEAD = 1.1;
+    private static final int MAX_HASH_COUNT = 16;
+
+    private final long[] words;
+    private final int blockCount;
+    private final int hashCount;
+
+    /**
+     * Constructs a filter sized for the expected number of keys and the wanted false positive rate.
+     *
+     * @param expectedInsertions the number of keys the filter is expected to hold
+     * @param falsePositiveRate  the wanted false positive rate once it holds them, between 0 and 1
+     * @throws IllegalArgumentException if the expected number is not positive or the rate is not between 0 and 1
+     */
+    public BlockedBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException();
+
+        double bitsPerKey = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) * BLOCKING_OVERHEAD;
+        blockCount = (int) Math.max(1, Math.ceil(expectedInsertions * bitsPerKey / BLOCK_BITS));
+        words = new long[blockCount * WORDS_PER_BLOCK];
+        int optimalHashCount = (int) Math.round(bitsPerKey / BLOCKING_OVERHEAD * Math.log(2));
+        hashCount = Math.min(MAX_HASH_COUNT, Math.max(1, optimalHashCount));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A Bloom filter never fills up, so this always returns {@code true}; the false positive rate grows instead.
+     */
+    @Override
+    public boolean add(K key) {
+        long hash = FilterHashing.hash(key);
+        int block = blockOf(hash) * WORDS_PER_BLOCK;
+        int bits = (int) hash;
+
+        for (int i = 0; i < hashCount; i++, bits = next(bits)) {
+            int bit = bits >>> (Integer.SIZE - 9);
+            words[block + (bit >>> 6)] |= 1L << bit;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mightContain(K key) {
+        long hash = FilterHashing.hash(key);
+        int block = blockOf(hash) * WORDS_PER_BLOCK;
+        int bits = (int) hash;
+
+        for (int i = 0; i < hashCount; i++, bits = next(bits)) {
+            int bit = bits >>> (Integer.SIZE - 9);
+            if ((words[block + (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Returns the number of bits set by every key.
+     *
+     * @return the number of hash functions
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Returns the number of 512-bit blocks.
+     *
+     * @return the number of blocks
+     */
+    public int blockCount() {
+        return blockCount;
+    }
+
+    private int blockOf(long hash) {
+        return (int) (((hash >>> 32) * blockCount) >>> 32);
+    }
+
+    /**
+     * Steps a multiplicative generator whose top 9 bits give the next bit inside the block.
+     */
+    private static int next(int bits) {
+        return bits * 0x9E3779B9 + 0x7F4A7C15;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import java.util.Arrays;
+
+/**
+ * A classic Bloom filter: every key sets {@code k} bits spread over the whole bit array, chosen by double hashing
+ * ({@code h1 + i * h2}) from a single 64-bit hash.
+ * <p>
+ * The size and the number of bits per key are derived from the expected number of keys and the wanted false positive
+ * rate. Keys cannot be removed, and a check touches up to {@code k} different cache lines; {@link BlockedBloomFilter}
+ * trades a slightly higher false positive rate for touching a single one.
+ *
+ * @param <K> the type of keys
+ */
+public class BloomFilter<K> implements MembershipFilter<K> {
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs a filter sized for the expected number of keys and the wanted false positive rate.
+     *
+     * @param expectedInsertions the number of keys the filter is expected to hold
+     * @param falsePositiveRate  the wanted false positive rate once it holds them, between 0 and 1
+     * @throws IllegalArgumentException if the expected number is not positive or the rate is not between 0 and 1
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException();
+
+        double bitsPerKey = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long optimalBits = (long) Math.ceil(expectedInsertions * bitsPerKey);
+        bits = new long[(int) ((Math.max(Long.SIZE, optimalBits) + Long.SIZE - 1) / Long.SIZE)];
+        bitCount = (long) bits.length * Long.SIZE;
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A Bloom filter never fills up, so this always returns {@code true}; the false positive rate grows instead.
+     */
+    @Override
+    public boolean add(K key) {
+        long hash = FilterHashing.hash(key);
+        long first = hash >>> 32;
+        long second = hash & 0xFFFFFFFFL;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(first + i * second, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mightContain(K key) {
+        long hash = FilterHashing.hash(key);
+        long first = hash >>> 32;
+        long second = hash & 0xFFFFFFFFL;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(first + i * second, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(bits, 0);
+    }
+
+    /**
+     * Returns the number of bits set by every key.
+     *
+     * @return the number of hash functions
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Returns the size of the bit array.
+     *
+     * @return the number of bits
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+}
@@ -0,0 +1,224 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import java.util.Arrays;
+
+/**
+ * A cuckoo filter: a cuckoo hash table that stores a 16-bit fingerprint of each key instead of the key, which allows
+ * keys to be removed again.
+ * <p>
+ * Every bucket holds four fingerprints packed into one {@code long}, so a bucket is checked with a single memory
+ * access and a few SWAR operations. A key may live in two buckets, {@code i1} from its hash and {@code i2 = i1 ^ h(f)}
+ * from its fingerprint {@code f}, so either bucket can be computed from the other and the fingerprint alone. When both
+ * buckets are full, a random fingerprint is kicked out to its own other bucket, and so on for up to 500 moves. A
+ * fingerprint still homeless after that is kept aside as the victim; once the victim is taken, {@link #add} fails.
+ * <p>
+ * With four slots per bucket the table can be filled to about 95% and the false positive rate is about
+ * {@code 8 / 2^16}, roughly 0.012%.
+ *
+ * @param <K> the type of keys
+ */
+public class CuckooFilter<K> implements MembershipFilter<K> {
+    /**
+     * The number of fingerprints in a bucket.
+     */
+    public static final int BUCKET_SIZE = 4;
+    private static final int FINGERPRINT_BITS = 16;
+    private static final long FINGERPRINT_MASK = (1L << FINGERPRINT_BITS) - 1;
+    private static final long LOW_BITS = 0x0001000100010001L;
+    private static final long HIGH_BITS = 0x8000800080008000L;
+    private static final double MAX_LOAD_FACTOR = 0.95;
+    private static final int MAX_KICKS = 500;
+
+    private final long[] buckets;
+    private final int mask;
+    private int size;
+    private boolean hasVictim;
+    private int victimIndex;
+    private long victimFingerprint;
+    private int random = 0x2545F491;
+
+    /**
+     * Constructs a filter with room for at least the expected number of keys.
+     *
+     * @param expectedInsertions the number of keys the filter is expected to hold
+     * @throws IllegalArgumentException if the expected number is not positive
+     */
+    public CuckooFilter(int expectedInsertions) {
+        if (expectedInsertions <= 0) throw new IllegalArgumentException();
+
+        long bucketCount = (long) Math.ceil(expectedInsertions / MAX_LOAD_FACTOR / BUCKET_SIZE);
+        buckets = new long[FilterHashing.tableSizeFor(bucketCount)];
+        mask = buckets.length - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Adding the same key twice stores two fingerprints, so it has to be removed twice as well.
+     */
+    @Override
+    public boolean add(K key) {
+        if (hasVictim) return false;
+
+        long hash = FilterHashing.hash(key);
+        long fingerprint = fingerprintOf(hash);
+        int index = indexOf(hash);
+        size++;
+
+        if (insert(index, fingerprint) || insert(alternateIndex(index, fingerprint), fingerprint)) return true;
+
+        if ((nextRandom() & 1) == 0) index = alternateIndex(index, fingerprint);
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int slot = nextRandom() & (BUCKET_SIZE - 1);
+            long evicted = lane(buckets[index], slot);
+            buckets[index] = withLane(buckets[index], slot, fingerprint);
+            fingerprint = evicted;
+            index = alternateIndex(index, fingerprint);
+
+            if (insert(index, fingerprint)) return true;
+        }
+
+        hasVictim = true;
+        victimIndex = index;
+        victimFingerprint = fingerprint;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mightContain(K key) {
+        long hash = FilterHashing.hash(key);
+        long fingerprint = fingerprintOf(hash);
+        int first = indexOf(hash);
+        int second = alternateIndex(first, fingerprint);
+
+        return contains(buckets[first], fingerprint) || contains(buckets[second], fingerprint)
+                || hasVictim && victimFingerprint == fingerprint && (victimIndex == first || victimIndex == second);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsRemoval() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(K key) {
+        long hash = FilterHashing.hash(key);
+        long fingerprint = fingerprintOf(hash);
+        int first = indexOf(hash);
+        int second = alternateIndex(first, fingerprint);
+
+        if (hasVictim && victimFingerprint == fingerprint && (victimIndex == first || victimIndex == second)) {
+            hasVictim = false;
+            size--;
+            return true;
+        }
+
+        if (!delete(first, fingerprint) && !delete(second, fingerprint)) return false;
+
+        size--;
+        if (hasVictim) reinsertVictim();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(buckets, 0);
+        size = 0;
+        hasVictim = false;
+    }
+
+    /**
+     * Returns the number of fingerprints stored in the filter.
+     *
+     * @return the number of keys added and not removed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of fingerprints the filter has room for.
+     *
+     * @return the number of slots
+     */
+    public int capacity() {
+        return buckets.length * BUCKET_SIZE;
+    }
+
+    private void reinsertVictim() {
+        if (insert(victimIndex, victimFingerprint)
+                || insert(alternateIndex(victimIndex, victimFingerprint), victimFingerprint)) hasVictim = false;
+    }
+
+    private boolean insert(int index, long fingerprint) {
+        long bucket = buckets[index];
+        long empty = zeroLanes(bucket);
+        if (empty == 0) return false;
+
+        int slot = Long.numberOfTrailingZeros(empty) / FINGERPRINT_BITS;
+        buckets[index] = withLane(bucket, slot, fingerprint);
+        return true;
+    }
+
+    private boolean delete(int index, long fingerprint) {
+        long matches = zeroLanes(buckets[index] ^ (fingerprint * LOW_BITS));
+        if (matches == 0) return false;
+
+        int slot = Long.numberOfTrailingZeros(matches) / FINGERPRINT_BITS;
+        buckets[index] = withLane(buckets[index], slot, 0);
+        return true;
+    }
+
+    private static boolean contains(long bucket, long fingerprint) {
+        return zeroLanes(bucket ^ (fingerprint * LOW_BITS)) != 0;
+    }
+
+    /**
+     * Returns a word with the high bit of every 16-bit lane of {@code word} that is zero set. Borrows can only mark
+     * lanes above a zero lane, so the lowest marked lane is always a true zero, which is the one the callers use.
+     */
+    private static long zeroLanes(long word) {
+        return (word - LOW_BITS) & ~word & HIGH_BITS;
+    }
+
+    private static long lane(long bucket, int slot) {
+        return (bucket >>> (slot * FINGERPRINT_BITS)) & FINGERPRINT_MASK;
+    }
+
+    private static long withLane(long bucket, int slot, long fingerprint) {
+        int shift = slot * FINGERPRINT_BITS;
+        return (bucket & ~(FINGERPRINT_MASK << shift)) | (fingerprint << shift);
+    }
+
+    private static long fingerprintOf(long hash) {
+        long fingerprint = hash >>> (Long.SIZE - FINGERPRINT_BITS);
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private int indexOf(long hash) {
+        return (int) hash & mask;
+    }
+
+    private int alternateIndex(int index, long fingerprint) {
+        return (index ^ (int) FilterHashing.mix(fingerprint)) & mask;
+    }
+
+    private int nextRandom() {
+        random ^= random << 13;
+        random ^= random >>> 17;
+        random ^= random << 5;
+        return random;
+    }
+}
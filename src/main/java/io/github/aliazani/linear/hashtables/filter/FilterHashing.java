@@ -0,0 +1,28 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import java.util.Objects;
+
+/**
+ * The hash function shared by the filters. The key's hash code is spread over 64 bits, so each filter can take the
+ * independent-looking parts it needs from a single hash.
+ */
+final class FilterHashing {
+    private FilterHashing() {
+    }
+
+    static long hash(Object key) {
+        return mix(Objects.hashCode(key) * 0x9E3779B97F4A7C15L);
+    }
+
+    static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    static int tableSizeFor(long size) {
+        if (size > 1 << 30) throw new IllegalArgumentException();
+
+        return Math.max(1, Integer.highestOneBit((int) Math.max(1, size) - 1) << 1);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.MyHashTable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+/**
+ * A decorator that puts a {@link MembershipFilter} in front of any {@link MyHashTable}, so that lookups of keys the
+ * table does not contain are mostly answered by the filter without probing the table.
+ * <p>
+ * Every key put into the table is added to the filter. When the filter cannot hold another key, as a full
+ * {@link CuckooFilter} can, the decorator stops consulting it and sends every lookup to the table. Removed keys are
+ * removed from the filter if it {@link MembershipFilter#supportsRemoval() supports removal}; otherwise they stay in it
+ * and only make false positives a little more likely.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public class FilteredHashTable<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
+    private final MyHashTable<K, V> table;
+    private final MembershipFilter<? super K> filter;
+    private boolean filterOverflowed;
+    private long filteredLookups;
+
+    /**
+     * Constructs a decorator over the table, adding the keys the table already holds to the filter.
+     *
+     * @param table  the hash table
+     * @param filter an empty filter sized for the keys the table is expected to hold
+     */
+    public FilteredHashTable(MyHashTable<K, V> table, MembershipFilter<? super K> filter) {
+        this.table = table;
+        this.filter = filter;
+
+        for (Entry<K, V> entry : table)
+            if (!filterOverflowed && !filter.add(entry.getKey())) filterOverflowed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        boolean addToFilter = !filterOverflowed && (!filter.mightContain(key) || !table.containsKey(key));
+
+        table.put(key, value);
+        if (addToFilter && !filter.add(key)) filterOverflowed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(K key) {
+        if (!mightContain(key)) throw new NoSuchElementException();
+
+        return table.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        return mightContain(key) ? table.getOrNull(key) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return mightContain(key) && table.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(K key) {
+        if (!mightContain(key)) throw new NoSuchElementException();
+
+        table.remove(key);
+        if (filter.supportsRemoval() && !filterOverflowed) filter.remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return table.iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return table.spliterator();
+    }
+
+    /**
+     * Returns the number of lookups the filter answered without reaching the table.
+     *
+     * @return the number of filtered lookups
+     */
+    public long filteredLookups() {
+        return filteredLookups;
+    }
+
+    /**
+     * Tells whether the filter ran out of room, after which every lookup goes to the table.
+     *
+     * @return {@code true} if the filter is no longer consulted
+     */
+    public boolean isFilterOverflowed() {
+        return filterOverflowed;
+    }
+
+    private boolean mightContain(K key) {
+        if (filterOverflowed || filter.mightContain(key)) return true;
+
+        filteredLookups++;
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return table.toString();
+    }
+}
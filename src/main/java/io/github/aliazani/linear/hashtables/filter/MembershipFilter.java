@@ -0,0 +1,50 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+/**
+ * A probabilistic set that answers whether a key might have been added. A negative answer is always right, a positive
+ * answer is wrong with a small probability, the false positive rate.
+ *
+ * @param <K> the type of keys
+ */
+public interface MembershipFilter<K> {
+    /**
+     * Adds the key to the filter.
+     *
+     * @param key the key
+     * @return {@code true} if the key was added, {@code false} if the filter is too full to hold it
+     */
+    boolean add(K key);
+
+    /**
+     * Checks whether the key might have been added.
+     *
+     * @param key the key
+     * @return {@code false} if the key has certainly not been added, {@code true} if it probably has
+     */
+    boolean mightContain(K key);
+
+    /**
+     * Checks whether keys can be removed from the filter.
+     *
+     * @return {@code true} if {@link #remove(Object)} is supported
+     */
+    default boolean supportsRemoval() {
+        return false;
+    }
+
+    /**
+     * Removes a key that was added before. Removing a key that was never added may remove another key.
+     *
+     * @param key the key
+     * @return {@code true} if the key was found and removed
+     * @throws UnsupportedOperationException if the filter does not support removal
+     */
+    default boolean remove(K key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Removes all keys from the filter.
+     */
+    void clear();
+}
@@ -0,0 +1,284 @@
+package io.github.aliazani.linear.hashtables.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Opt-in metrics for a single hash table: probe length and chain length histograms, resize events and the load factor
+ * over time.
+ * <p>
+ * A table that has metrics attached asks {@link #shouldSample()} on every lookup and records the lookup only when it
+ * returns {@code true}, which happens once every {@code sampleInterval} lookups. Recording writes into arrays that are
+ * allocated up front, so the lookup path never allocates. Resizes are always recorded.
+ * <p>
+ * Like the tables that feed it, this class is not thread-safe. Readers on other threads, such as a JMX client, may see
+ * slightly stale or torn values, which is acceptable for monitoring.
+ */
+public class HashTableMetrics implements HashTableMetricsMXBean {
+    /**
+     * The number of histogram buckets. The last bucket also counts all longer probes or chains.
+     */
+    public static final int HISTOGRAM_SIZE = 32;
+    /**
+     * The number of load factors kept in the history.
+     */
+    public static final int LOAD_FACTOR_HISTORY_SIZE = 64;
+    private static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    private static final String DOMAIN = "io.github.aliazani.linear.hashtables";
+
+    private final int sampleInterval;
+    private final long[] probeLengths = new long[HISTOGRAM_SIZE];
+    private final long[] chainLengths = new long[HISTOGRAM_SIZE];
+    private final long[] loadFactorTimes = new long[LOAD_FACTOR_HISTORY_SIZE];
+    private final double[] loadFactors = new double[LOAD_FACTOR_HISTORY_SIZE];
+    private long operations;
+    private long probeLengthTotal;
+    private int maxProbeLength;
+    private long chainLengthTotal;
+    private int maxChainLength;
+    private long resizes;
+    private int capacity;
+    private long loadFactorCount;
+
+    /**
+     * Constructs metrics that sample one lookup in 64.
+     */
+    public HashTableMetrics() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs metrics that sample one lookup in {@code sampleInterval}.
+     *
+     * @param sampleInterval how many lookups pass between two samples, a power of two; 1 records every lookup
+     * @throws IllegalArgumentException if the sample interval is not a positive power of two
+     */
+    public HashTableMetrics(int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) throw new IllegalArgumentException();
+
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * Counts a lookup and tells whether it should be recorded.
+     *
+     * @return {@code true} if the lookup is sampled
+     */
+    public boolean shouldSample() {
+        return (operations++ & (sampleInterval - 1)) == 0;
+    }
+
+    /**
+     * Records the number of slots a lookup in an open-addressing table probed.
+     *
+     * @param probeLength the number of probed slots
+     */
+    public void recordProbeLength(int probeLength) {
+        probeLengths[Math.min(probeLength, HISTOGRAM_SIZE - 1)]++;
+        probeLengthTotal += probeLength;
+        maxProbeLength = Math.max(maxProbeLength, probeLength);
+    }
+
+    /**
+     * Records the length of the chain a lookup in a chaining table visited.
+     *
+     * @param chainLength the number of entries in the chain
+     */
+    public void recordChainLength(int chainLength) {
+        chainLengths[Math.min(chainLength, HISTOGRAM_SIZE - 1)]++;
+        chainLengthTotal += chainLength;
+        maxChainLength = Math.max(maxChainLength, chainLength);
+    }
+
+    /**
+     * Records the current load factor of the table, replacing the oldest value once the history is full.
+     *
+     * @param loadFactor the current load factor
+     */
+    public void recordLoadFactor(double loadFactor) {
+        int index = (int) (loadFactorCount++ % LOAD_FACTOR_HISTORY_SIZE);
+        loadFactorTimes[index] = System.nanoTime();
+        loadFactors[index] = loadFactor;
+    }
+
+    /**
+     * Records the capacity of the table without counting a resize. Tables call this when the metrics are attached.
+     *
+     * @param capacity the current capacity
+     */
+    public void recordCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records that the table was resized.
+     *
+     * @param capacity   the capacity after the resize
+     * @param loadFactor the load factor after the resize
+     */
+    public void recordResize(int capacity, double loadFactor) {
+        resizes++;
+        this.capacity = capacity;
+        recordLoadFactor(loadFactor);
+    }
+
+    /**
+     * Returns a copy of everything recorded so far.
+     *
+     * @return the current statistics
+     */
+    public HashTableStats snapshot() {
+        List<HashTableStats.LoadFactorSample> history = new ArrayList<>();
+        for (long i = Math.max(0, loadFactorCount - LOAD_FACTOR_HISTORY_SIZE); i < loadFactorCount; i++) {
+            int index = (int) (i % LOAD_FACTOR_HISTORY_SIZE);
+            history.add(new HashTableStats.LoadFactorSample(loadFactorTimes[index], loadFactors[index]));
+        }
+
+        return new HashTableStats(operations, sampleInterval,
+                getProbeLengthHistogram(), getMeanProbeLength(), maxProbeLength,
+                getChainLengthHistogram(), getMeanChainLength(), maxChainLength,
+                resizes, capacity, history);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     *
+     * @param name the name that identifies the table
+     * @return the object name the metrics are registered under
+     * @throws JMException if the name is invalid or already registered
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(DOMAIN, "name", ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+
+        return objectName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] getProbeLengthHistogram() {
+        return probeLengths.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMeanProbeLength() {
+        return mean(probeLengthTotal, probeLengths);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxProbeLength() {
+        return maxProbeLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] getChainLengthHistogram() {
+        return chainLengths.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMeanChainLength() {
+        return mean(chainLengthTotal, chainLengths);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxChainLength() {
+        return maxChainLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getResizes() {
+        return resizes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getLoadFactor() {
+        return loadFactorCount == 0 ? 0 : loadFactors[(int) ((loadFactorCount - 1) % LOAD_FACTOR_HISTORY_SIZE)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double[] getLoadFactorHistory() {
+        return snapshot().loadFactorHistory().stream()
+                .mapToDouble(HashTableStats.LoadFactorSample::loadFactor)
+                .toArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        Arrays.fill(probeLengths, 0);
+        Arrays.fill(chainLengths, 0);
+        operations = 0;
+        probeLengthTotal = 0;
+        maxProbeLength = 0;
+        chainLengthTotal = 0;
+        maxChainLength = 0;
+        resizes = 0;
+        loadFactorCount = 0;
+    }
+
+    private static double mean(long total, long[] histogram) {
+        long samples = Arrays.stream(histogram).sum();
+        return samples == 0 ? 0 : (double) total / samples;
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
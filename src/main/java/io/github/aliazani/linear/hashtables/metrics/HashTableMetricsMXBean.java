@@ -0,0 +1,97 @@
+package io.github.aliazani.linear.hashtables.metrics;
+
+/**
+ * The management interface of {@link HashTableMetrics}, as exposed through JMX.
+ */
+public interface HashTableMetricsMXBean {
+    /**
+     * Returns how many lookups pass between two recorded samples.
+     *
+     * @return the sample interval
+     */
+    int getSampleInterval();
+
+    /**
+     * Returns the number of lookups seen by the metrics, whether they were sampled or not.
+     *
+     * @return the number of lookups
+     */
+    long getOperations();
+
+    /**
+     * Returns the sampled probe lengths of an open-addressing table. Element {@code i} counts lookups that probed
+     * {@code i} slots; the last element also counts all longer lookups.
+     *
+     * @return the probe length histogram
+     */
+    long[] getProbeLengthHistogram();
+
+    /**
+     * Returns the mean of the sampled probe lengths.
+     *
+     * @return the mean probe length, or 0 if none was sampled
+     */
+    double getMeanProbeLength();
+
+    /**
+     * Returns the longest sampled probe length.
+     *
+     * @return the maximum probe length
+     */
+    int getMaxProbeLength();
+
+    /**
+     * Returns the sampled lengths of the chains visited by lookups in a chaining table, bucketed like
+     * {@link #getProbeLengthHistogram()}.
+     *
+     * @return the chain length histogram
+     */
+    long[] getChainLengthHistogram();
+
+    /**
+     * Returns the mean of the sampled chain lengths.
+     *
+     * @return the mean chain length, or 0 if none was sampled
+     */
+    double getMeanChainLength();
+
+    /**
+     * Returns the longest sampled chain length.
+     *
+     * @return the maximum chain length
+     */
+    int getMaxChainLength();
+
+    /**
+     * Returns the number of times the table has been resized.
+     *
+     * @return the number of resizes
+     */
+    long getResizes();
+
+    /**
+     * Returns the capacity of the table, as recorded when the metrics were attached or after its last resize.
+     *
+     * @return the capacity of the table, or 0 if none was recorded
+     */
+    int getCapacity();
+
+    /**
+     * Returns the most recently recorded load factor.
+     *
+     * @return the last load factor, or 0 if none was recorded
+     */
+    double getLoadFactor();
+
+    /**
+     * Returns the recently recorded load factors, oldest first.
+     *
+     * @return the load factor history
+     */
+    double[] getLoadFactorHistory();
+
+    /**
+     * Clears everything recorded so far except the capacity, which still describes the table.
+     */
+    void reset();
+}
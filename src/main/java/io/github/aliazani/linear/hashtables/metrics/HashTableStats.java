@@ -0,0 +1,47 @@
+package io.github.aliazani.linear.hashtables.metrics;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+/**
+ * A point-in-time copy of the values recorded by {@link HashTableMetrics}.
+ *
+ * @param operations           the number of lookups seen, whether they were sampled or not
+ * @param sampleInterval       how many lookups pass between two recorded samples
+ * @param probeLengthHistogram the sampled probe lengths, the last bucket counting all longer probes
+ * @param meanProbeLength      the mean sampled probe length
+ * @param maxProbeLength       the longest sampled probe length
+ * @param chainLengthHistogram the sampled chain lengths, the last bucket counting all longer chains
+ * @param meanChainLength      the mean sampled chain length
+ * @param maxChainLength       the longest sampled chain length
+ * @param resizes              the number of resizes
+ * @param capacity             the capacity of the table, or 0 if none was recorded
+ * @param loadFactorHistory    the recently recorded load factors, oldest first
+ */
+public record HashTableStats(long operations, int sampleInterval,
+                             long[] probeLengthHistogram, double meanProbeLength, int maxProbeLength,
+                             long[] chainLengthHistogram, double meanChainLength, int maxChainLength,
+                             long resizes, int capacity, List<LoadFactorSample> loadFactorHistory) {
+    /**
+     * A load factor recorded at a point in time.
+     *
+     * @param nanoTime   the value of {@link System#nanoTime()} when the load factor was recorded
+     * @param loadFactor the load factor
+     */
+    public record LoadFactorSample(long nanoTime, double loadFactor) {
+    }
+
+    /**
+     * Returns a short summary of the statistics.
+     *
+     * @return a string representation of the statistics
+     */
+    @Override
+    public String toString() {
+        return MessageFormat.format(
+                "operations={0}, probe length mean={1,number,#.##} max={2}, chain length mean={3,number,#.##} max={4}, "
+                        + "resizes={5}, load factor={6,number,#.##}",
+                operations, meanProbeLength, maxProbeLength, meanChainLength, maxChainLength, resizes,
+                loadFactorHistory.isEmpty() ? 0 : loadFactorHistory.get(loadFactorHistory.size() - 1).loadFactor());
+    }
+}
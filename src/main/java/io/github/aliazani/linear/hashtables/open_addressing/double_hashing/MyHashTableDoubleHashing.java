@@ -1,31 +1,56 @@
 package io.github.aliazani.linear.hashtables.open_addressing.double_hashing;
 
 import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.EntryArraySpliterator;
 import io.github.aliazani.linear.hashtables.MyHashTable;
+import io.github.aliazani.linear.hashtables.metrics.HashTableMetrics;
 
-import java.util.Arrays;
-import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * Implementation of a hash table using open addressing and double hashing collision resolution strategy.
+ * <p>
+ * The home slot of a key is its hash code modulo the capacity, and the probe step is derived from a mixed copy of the
+ * same hash code, so both are computed once per operation without allocating and work for any key type. The capacity
+ * is always prime, which makes every step visit every slot. Removed slots are marked as deleted, so a lookup can stop
+ * at the first slot that has never been used. The table grows to the next prime above twice its capacity before the
+ * used slots exceed the maximum load factor, and is rebuilt in place when deleted slots take up the room instead.
  *
  * @param <K> the type of keys stored in the hash table
  * @param <V> the type of values stored in the hash table
  */
 public class MyHashTableDoubleHashing<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
-    private final Entry<K, V>[] entries;
-    private final int prime;
+    private static final float DEFAULT_MAX_LOAD_FACTOR = 0.75f;
+
+    private final float maxLoadFactor;
+    private Entry<K, V>[] entries;
+    private boolean[] deleted;
     private int size;
+    private int deletedCount;
+    private HashTableMetrics metrics;
 
     /**
      * Constructs a hash table with the specified size.
      *
-     * @param size the size of the hash table
+     * @param size the initial size of the hash table, rounded up to a prime
+     * @throws IllegalArgumentException if the size is not positive
      */
     public MyHashTableDoubleHashing(int size) {
-        entries = (Entry<K, V>[]) new Entry[size];
-        prime = findLargestPrime(entries.length);
+        this(size, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a hash table with the specified size and maximum load factor.
+     *
+     * @param size          the initial size of the hash table, rounded up to a prime
+     * @param maxLoadFactor the share of used slots the table may reach before it grows, between 0 and 1 (exclusive)
+     * @throws IllegalArgumentException if the size is not positive or the maximum load factor is out of range
+     */
+    public MyHashTableDoubleHashing(int size, float maxLoadFactor) {
+        if (size <= 0 || !(maxLoadFactor > 0 && maxLoadFactor < 1)) throw new IllegalArgumentException();
+
+        this.maxLoadFactor = maxLoadFactor;
+        allocate(nextPrime(size));
     }
 
     /**
@@ -40,12 +65,31 @@ public class MyHashTableDoubleHashing<K extends Comparable<K>, V extends Compara
             return;
         }
 
-        if (isFull()) throw new IllegalStateException();
+        if (size + deletedCount + 1 > entries.length * maxLoadFactor)
+            resize(size + 1 > entries.length * maxLoadFactor ? nextPrime(2 * entries.length) : entries.length);
 
-        entries[getIndexOfEmptyEntry(key)] = new Entry<>(key, value);
+        insert(new Entry<>(key, value));
         size++;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The table is grown once for the whole batch instead of repeatedly while the keys are added. It is sized as if
+     * every key were new, so a batch that mostly updates existing keys can grow it further than adding the keys one by
+     * one would.
+     */
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException();
+
+        int capacity = entries.length;
+        while (size + keys.length > capacity * maxLoadFactor) capacity = nextPrime(2 * capacity);
+        if (capacity != entries.length) resize(capacity);
+
+        for (int i = 0; i < keys.length; i++) put(keys[i], values[i]);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -58,6 +102,42 @@ public class MyHashTableDoubleHashing<K extends Comparable<K>, V extends Compara
         return entries[index].getValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        int index = getIndexOfNonEmptyEntry(key);
+
+        return index < 0 ? null : entries[index].getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every key is probed for directly instead of through {@link #get(Comparable)}.
+     */
+    @Override
+    public List<V> getAll(K[] keys) {
+        List<V> values = new ArrayList<>(keys.length);
+        for (K key : keys) {
+            int index = getIndexOfNonEmptyEntry(key);
+            if (index < 0) throw new NoSuchElementException();
+
+            values.add(entries[index].getValue());
+        }
+
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return getIndexOfNonEmptyEntry(key) >= 0;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,9 +148,29 @@ public class MyHashTableDoubleHashing<K extends Comparable<K>, V extends Compara
         if (index < 0) throw new NoSuchElementException();
 
         entries[index] = null;
+        deleted[index] = true;
+        deletedCount++;
         size--;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every key is probed for directly instead of through {@link #remove(Comparable)}.
+     */
+    @Override
+    public void removeAll(K[] keys) {
+        for (K key : keys) {
+            int index = getIndexOfNonEmptyEntry(key);
+            if (index < 0) throw new NoSuchElementException();
+
+            entries[index] = null;
+            deleted[index] = true;
+            deletedCount++;
+            size--;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -87,51 +187,148 @@ public class MyHashTableDoubleHashing<K extends Comparable<K>, V extends Compara
         return size == 0;
     }
 
-    private int getIndexOfEmptyEntry(K key) {
-        for (int probeDistance = 0; probeDistance < entries.length; probeDistance++) {
-            int index = getIndex(key, probeDistance);
-            Entry<K, V> entry = entries[index];
-            if (Objects.equals(entry, null)) return index;
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
 
-        return -1;
+    /**
+     * Returns a spliterator over the entries that splits the backing array into halves.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new EntryArraySpliterator<>(entries, size);
+    }
+
+    /**
+     * Returns the number of slots of the hash table, which is always prime.
+     *
+     * @return the number of slots of the hash table
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the current load factor, i.e. the number of entries divided by the capacity.
+     *
+     * @return the current load factor of the hash table
+     */
+    public double loadFactor() {
+        return (double) size / entries.length;
+    }
+
+    /**
+     * Attaches metrics that record the probe lengths, resizes and the load factor of this table, or detaches them.
+     * Attached metrics start from the current capacity.
+     *
+     * @param metrics the metrics to record into, or {@code null} to stop recording
+     */
+    public void setMetrics(HashTableMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null) metrics.recordCapacity(capacity());
+    }
+
+    /**
+     * Returns the metrics attached to this table.
+     *
+     * @return the attached metrics, or {@code null} if there are none
+     */
+    public HashTableMetrics metrics() {
+        return metrics;
+    }
+
+    private void insert(Entry<K, V> entry) {
+        int hash = hash(entry.getKey());
+        int step = step(hash);
+
+        int index = home(hash);
+        while (entries[index] != null) index = next(index, step);
+
+        if (deleted[index]) {
+            deleted[index] = false;
+            deletedCount--;
+        }
+        entries[index] = entry;
     }
 
     private int getIndexOfNonEmptyEntry(K key) {
-        for (int probeDistance = 0; probeDistance < entries.length; probeDistance++) {
-            int index = getIndex(key, probeDistance);
+        int hash = hash(key);
+        int step = step(hash);
+
+        for (int index = home(hash), probes = 0; probes < entries.length; index = next(index, step), probes++) {
             Entry<K, V> entry = entries[index];
-            if (entry != null && Objects.equals(entry.getKey(), key)) return index;
+            if (entry == null ? !deleted[index] : Objects.equals(entry.getKey(), key)) {
+                recordProbeLength(probes + 1);
+                return entry == null ? -1 : index;
+            }
         }
 
+        recordProbeLength(entries.length);
         return -1;
     }
 
-    private boolean isFull() {
-        return size == entries.length;
+    private void recordProbeLength(int probeLength) {
+        if (metrics != null && metrics.shouldSample()) {
+            metrics.recordProbeLength(probeLength);
+            metrics.recordLoadFactor(loadFactor());
+        }
+    }
+
+    private void resize(int capacity) {
+        Entry<K, V>[] oldEntries = entries;
+        allocate(capacity);
+
+        for (Entry<K, V> entry : oldEntries)
+            if (entry != null) insert(entry);
+
+        if (metrics != null) metrics.recordResize(capacity, loadFactor());
+    }
+
+    private void allocate(int capacity) {
+        entries = (Entry<K, V>[]) new Entry[capacity];
+        deleted = new boolean[capacity];
+        deletedCount = 0;
     }
 
-    private int getIndex(K key, int i) {
-        int keyValue = key == null ? 0 : Integer.parseInt(String.valueOf(key));
-        int hash2 = prime - (keyValue % prime);
+    private int next(int index, int step) {
+        index += step;
+        return index >= entries.length ? index - entries.length : index;
+    }
+
+    private int home(int hash) {
+        return Math.abs(hash % entries.length);
+    }
+
+    /**
+     * Returns a probe step between 1 and {@code capacity - 1}. Since the capacity is prime, any such step is coprime
+     * with it, so the probe sequence visits every slot.
+     */
+    private int step(int hash) {
+        int mixed = hash * 0x9E3779B9;
+        mixed ^= mixed >>> 16;
 
-        return (hash(key) + (i * hash2)) % entries.length;
+        return 1 + Integer.remainderUnsigned(mixed, entries.length - 1);
     }
 
     private int hash(K key) {
-        return (key == null) ? 0 : Math.abs(key.hashCode() % entries.length);
+        return (key == null) ? 0 : key.hashCode();
     }
 
-    private int findLargestPrime(int n) {
-        for (int i = n - 1; i >= 2; i--)
+    private static int nextPrime(int n) {
+        for (int i = Math.max(2, n); ; i++)
             if (isPrime(i)) return i;
-        return 2;
     }
 
-    private boolean isPrime(int n) {
+    private static boolean isPrime(int n) {
         if (n <= 1) return false;
 
-        for (int i = 2; i <= Math.sqrt(n); i++)
+        for (int i = 2; (long) i * i <= n; i++)
             if (n % i == 0) return false;
 
         return true;
@@ -141,4 +338,4 @@ public class MyHashTableDoubleHashing<K extends Comparable<K>, V extends Compara
     public String toString() {
         return Arrays.toString(entries);
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,52 @@
 package io.github.aliazani.linear.hashtables.open_addressing.linear_probing;
 
 import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.EntryArraySpliterator;
 import io.github.aliazani.linear.hashtables.MyHashTable;
+import io.github.aliazani.linear.hashtables.metrics.HashTableMetrics;
 
-import java.util.Arrays;
-import java.util.NoSuchElementException;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * Implementation of a hash table using linear probing for collision resolution.
  * <p>
  * This implementation handles collisions by probing the next available slot in a linear manner.
+ * Removed entries are filled by shifting the following entries of the probe sequence backwards, so a lookup can
+ * stop at the first empty slot. The table doubles its capacity before the load factor exceeds the maximum load
+ * factor, which guarantees that there is always an empty slot to stop at.
  *
  * @param <K> the type of keys stored in the hash table
  * @param <V> the type of values stored in the hash table
  */
 public class MyHashTableLinearProbing<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
-    private final Entry<K, V>[] entries;
+    private static final float DEFAULT_MAX_LOAD_FACTOR = 0.75f;
+
+    private final float maxLoadFactor;
+    private Entry<K, V>[] entries;
     private int size;
+    private HashTableMetrics metrics;
 
+    /**
+     * Constructs a hash table with the specified size.
+     *
+     * @param size the initial size of the hash table
+     * @throws IllegalArgumentException if the size is not positive
+     */
     public MyHashTableLinearProbing(int size) {
+        this(size, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a hash table with the specified size and maximum load factor.
+     *
+     * @param size          the initial size of the hash table
+     * @param maxLoadFactor the load factor the table may reach before it grows, between 0 and 1 (exclusive)
+     * @throws IllegalArgumentException if the size is not positive or the maximum load factor is out of range
+     */
+    public MyHashTableLinearProbing(int size, float maxLoadFactor) {
+        if (size <= 0 || !(maxLoadFactor > 0 && maxLoadFactor < 1)) throw new IllegalArgumentException();
+
+        this.maxLoadFactor = maxLoadFactor;
         entries = (Entry<K, V>[]) new Entry[size];
     }
 
@@ -35,12 +62,38 @@ public class MyHashTableLinearProbing<K extends Comparable<K>, V extends Compara
             return;
         }
 
-        if (isFull()) throw new IllegalStateException();
+        if (size + 1 > entries.length * maxLoadFactor) resize(2 * entries.length);
 
         entries[getIndexOfEmptyEntry(key)] = new Entry<>(key, value);
         size++;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The table is grown once for the whole batch instead of doubling repeatedly while the keys are added. It is sized
+     * as if every key were new, so a batch that mostly updates existing keys can grow it further than adding the keys
+     * one by one would.
+     */
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException();
+
+        int capacity = entries.length;
+        while (size + keys.length > capacity * maxLoadFactor) capacity *= 2;
+        if (capacity != entries.length) resize(capacity);
+
+        for (int i = 0; i < keys.length; i++) {
+            int index = getIndexOfNonEmptyEntry(keys[i]);
+
+            if (index >= 0) entries[index].setValue(values[i]);
+            else {
+                entries[getIndexOfEmptyEntry(keys[i])] = new Entry<>(keys[i], values[i]);
+                size++;
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -53,6 +106,42 @@ public class MyHashTableLinearProbing<K extends Comparable<K>, V extends Compara
         return entries[index].getValue();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        int index = getIndexOfNonEmptyEntry(key);
+
+        return index < 0 ? null : entries[index].getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every key is probed for directly instead of through {@link #get(Comparable)}.
+     */
+    @Override
+    public List<V> getAll(K[] keys) {
+        List<V> values = new ArrayList<>(keys.length);
+        for (K key : keys) {
+            int index = getIndexOfNonEmptyEntry(key);
+            if (index < 0) throw new NoSuchElementException();
+
+            values.add(entries[index].getValue());
+        }
+
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return getIndexOfNonEmptyEntry(key) >= 0;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -64,6 +153,24 @@ public class MyHashTableLinearProbing<K extends Comparable<K>, V extends Compara
 
         entries[index] = null;
         size--;
+        shiftEntriesBackward(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every key is probed for directly instead of through {@link #remove(Comparable)}.
+     */
+    @Override
+    public void removeAll(K[] keys) {
+        for (K key : keys) {
+            int index = getIndexOfNonEmptyEntry(key);
+            if (index < 0) throw new NoSuchElementException();
+
+            entries[index] = null;
+            size--;
+            shiftEntriesBackward(index);
+        }
     }
 
     /**
@@ -82,6 +189,62 @@ public class MyHashTableLinearProbing<K extends Comparable<K>, V extends Compara
         return size == 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the entries that splits the backing array into halves.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new EntryArraySpliterator<>(entries, size);
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     *
+     * @return the number of slots of the hash table
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the current load factor, i.e. the number of entries divided by the capacity.
+     *
+     * @return the current load factor of the hash table
+     */
+    public double loadFactor() {
+        return (double) size / entries.length;
+    }
+
+    /**
+     * Attaches metrics that record the probe lengths, resizes and the load factor of this table, or detaches them.
+     * Attached metrics start from the current capacity.
+     *
+     * @param metrics the metrics to record into, or {@code null} to stop recording
+     */
+    public void setMetrics(HashTableMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null) metrics.recordCapacity(capacity());
+    }
+
+    /**
+     * Returns the metrics attached to this table.
+     *
+     * @return the attached metrics, or {@code null} if there are none
+     */
+    public HashTableMetrics metrics() {
+        return metrics;
+    }
+
     private int getIndexOfEmptyEntry(K key) {
         for (int probeDistance = 0; probeDistance < entries.length; probeDistance++) {
             int index = getIndex(key, probeDistance);
@@ -96,14 +259,52 @@ public class MyHashTableLinearProbing<K extends Comparable<K>, V extends Compara
         for (int probeDistance = 0; probeDistance < entries.length; probeDistance++) {
             int index = getIndex(key, probeDistance);
             Entry<K, V> entry = entries[index];
-            if (entry != null && Objects.equals(entry.getKey(), key)) return index;
+            if (entry == null || Objects.equals(entry.getKey(), key)) {
+                recordProbeLength(probeDistance + 1);
+                return entry == null ? -1 : index;
+            }
         }
 
+        recordProbeLength(entries.length);
         return -1;
     }
 
-    private boolean isFull() {
-        return size == entries.length;
+    private void recordProbeLength(int probeLength) {
+        if (metrics != null && metrics.shouldSample()) {
+            metrics.recordProbeLength(probeLength);
+            metrics.recordLoadFactor(loadFactor());
+        }
+    }
+
+    private void shiftEntriesBackward(int emptyIndex) {
+        for (int index = next(emptyIndex); entries[index] != null; index = next(index)) {
+            int home = hash(entries[index].getKey());
+            if (isCyclicallyBetween(home, emptyIndex, index)) continue;
+
+            entries[emptyIndex] = entries[index];
+            entries[index] = null;
+            emptyIndex = index;
+        }
+    }
+
+    private boolean isCyclicallyBetween(int index, int exclusiveStart, int inclusiveEnd) {
+        return exclusiveStart <= inclusiveEnd
+                ? exclusiveStart < index && index <= inclusiveEnd
+                : exclusiveStart < index || index <= inclusiveEnd;
+    }
+
+    private int next(int index) {
+        return (index + 1) % entries.length;
+    }
+
+    private void resize(int capacity) {
+        Entry<K, V>[] oldEntries = entries;
+        entries = (Entry<K, V>[]) new Entry[capacity];
+
+        for (Entry<K, V> entry : oldEntries)
+            if (entry != null) entries[getIndexOfEmptyEntry(entry.getKey())] = entry;
+
+        if (metrics != null) metrics.recordResize(capacity, loadFactor());
     }
 
     private int getIndex(K key, int i) {
@@ -0,0 +1,323 @@
+package io.github.aliazani.linear.hashtables.open_addressing.memory_mapped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash table mapping {@code long} keys to {@code long} values, stored off-heap in a memory-mapped file.
+ * <p>
+ * The layout follows {@code MyHashTableLinearProbing}: a power-of-two array of 16-byte slots (key, value) probed
+ * linearly, with backward-shift deletion. A slot is empty when its key is {@code 0}; the key {@code 0} itself is kept
+ * in the file header. Nothing lives on the Java heap apart from the mappings, and since the file is the table,
+ * reopening it only maps the file again instead of rebuilding the table. The file is mapped in chunks of at most 1 GiB,
+ * so it can grow beyond the 2 GiB limit of a single {@link MappedByteBuffer}.
+ * <p>
+ * This class is not thread-safe, and a file must not be opened by more than one instance at a time.
+ */
+public class MyMemoryMappedHashTable implements Closeable {
+    private static final long MAGIC = 0x4D4D41505F4854L;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int ZERO_KEY_OFFSET = 24;
+    private static final int ZERO_VALUE_OFFSET = 32;
+    private static final int SLOT_SIZE = 16;
+    private static final int MAX_CHUNK_SHIFT = 26;
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] chunks;
+    private int chunkShift;
+    private long chunkMask;
+    private long capacity;
+    private long size;
+
+    private MyMemoryMappedHashTable(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens the hash table stored in the given file, or creates it if the file does not exist or is empty.
+     *
+     * @param path the file backing the hash table
+     * @param size the initial size of the hash table if it is created, rounded up to a power of two
+     * @return the opened hash table
+     * @throws IllegalArgumentException if the size is not positive
+     * @throws IOException              if the file cannot be mapped or does not contain a hash table
+     */
+    public static MyMemoryMappedHashTable open(Path path, long size) throws IOException {
+        if (size <= 0) throw new IllegalArgumentException();
+
+        MyMemoryMappedHashTable table = new MyMemoryMappedHashTable(path);
+        if (Files.exists(path) && Files.size(path) > 0) table.map();
+        else table.create(Math.max(2, Long.highestOneBit(size - 1) << 1));
+
+        return table;
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     * @throws UncheckedIOException if the table has to grow and the file cannot be resized
+     */
+    public void put(long key, long value) {
+        if (key == 0) {
+            if (!containsZeroKey()) setSize(size + 1);
+            header.put(ZERO_KEY_OFFSET, (byte) 1);
+            header.putLong(ZERO_VALUE_OFFSET, value);
+            return;
+        }
+
+        long slot = slotOf(key);
+        if (slot >= 0) {
+            setValue(slot, value);
+            return;
+        }
+
+        if (size + 1 > capacity * MAX_LOAD_FACTOR) grow();
+
+        store(key, value);
+        setSize(size + 1);
+    }
+
+    /**
+     * Retrieves the value associated with the given key.
+     *
+     * @param key the key
+     * @return the value associated with the key
+     * @throws NoSuchElementException if the key is not found in the hash table
+     */
+    public long get(long key) {
+        if (key == 0) {
+            if (!containsZeroKey()) throw new NoSuchElementException();
+            return header.getLong(ZERO_VALUE_OFFSET);
+        }
+
+        long slot = slotOf(key);
+        if (slot < 0) throw new NoSuchElementException();
+
+        return valueAt(slot);
+    }
+
+    /**
+     * Checks whether the hash table contains the given key.
+     *
+     * @param key the key
+     * @return {@code true} if the key is found, {@code false} otherwise
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? containsZeroKey() : slotOf(key) >= 0;
+    }
+
+    /**
+     * Removes the given key and its value from the hash table.
+     *
+     * @param key the key
+     * @throws NoSuchElementException if the key is not found in the hash table
+     */
+    public void remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey()) throw new NoSuchElementException();
+            header.put(ZERO_KEY_OFFSET, (byte) 0);
+            setSize(size - 1);
+            return;
+        }
+
+        long slot = slotOf(key);
+        if (slot < 0) throw new NoSuchElementException();
+
+        setKey(slot, 0);
+        setSize(size - 1);
+        shiftEntriesBackward(slot);
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in the hash table.
+     *
+     * @return the number of key-value pairs
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks if the hash table is empty.
+     *
+     * @return {@code true} if the hash table is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     *
+     * @return the number of slots of the hash table
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Writes all changes to the underlying storage device.
+     */
+    public void force() {
+        header.force();
+        for (MappedByteBuffer chunk : chunks) chunk.force();
+    }
+
+    /**
+     * Writes all changes to the file and closes it. The mappings are released once they are garbage collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private long slotOf(long key) {
+        for (long slot = mix(key) & (capacity - 1); ; slot = next(slot)) {
+            long current = keyAt(slot);
+            if (current == 0) return -1;
+            if (current == key) return slot;
+        }
+    }
+
+    private void store(long key, long value) {
+        long slot = mix(key) & (capacity - 1);
+        while (keyAt(slot) != 0) slot = next(slot);
+
+        setKey(slot, key);
+        setValue(slot, value);
+    }
+
+    private void shiftEntriesBackward(long emptySlot) {
+        long mask = capacity - 1;
+
+        for (long slot = next(emptySlot); keyAt(slot) != 0; slot = next(slot)) {
+            long home = mix(keyAt(slot)) & mask;
+            if (((slot - home) & mask) < ((slot - emptySlot) & mask)) continue;
+
+            setKey(emptySlot, keyAt(slot));
+            setValue(emptySlot, valueAt(slot));
+            setKey(slot, 0);
+            emptySlot = slot;
+        }
+    }
+
+    private void grow() {
+        Path resized = path.resolveSibling(path.getFileName() + ".resize");
+
+        try {
+            Files.deleteIfExists(resized);
+            try (MyMemoryMappedHashTable table = new MyMemoryMappedHashTable(resized)) {
+                table.create(2 * capacity);
+                for (long slot = 0; slot < capacity; slot++)
+                    if (keyAt(slot) != 0) table.store(keyAt(slot), valueAt(slot));
+
+                table.setSize(size);
+                table.header.put(ZERO_KEY_OFFSET, header.get(ZERO_KEY_OFFSET));
+                table.header.putLong(ZERO_VALUE_OFFSET, header.getLong(ZERO_VALUE_OFFSET));
+            }
+
+            channel.close();
+            Files.move(resized, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            map();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void create(long capacity) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        mapRegions(capacity);
+
+        header.putLong(MAGIC_OFFSET, MAGIC);
+        header.putLong(CAPACITY_OFFSET, capacity);
+        setSize(0);
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < HEADER_SIZE) throw invalidFile();
+
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        long storedCapacity = header.getLong(CAPACITY_OFFSET);
+        if (header.getLong(MAGIC_OFFSET) != MAGIC || Long.bitCount(storedCapacity) != 1
+                || channel.size() != HEADER_SIZE + storedCapacity * SLOT_SIZE) throw invalidFile();
+
+        mapRegions(storedCapacity);
+        size = header.getLong(SIZE_OFFSET);
+    }
+
+    private IOException invalidFile() throws IOException {
+        channel.close();
+        return new IOException(path + " does not contain a memory-mapped hash table");
+    }
+
+    private void mapRegions(long capacity) throws IOException {
+        this.capacity = capacity;
+        chunkShift = Math.min(MAX_CHUNK_SHIFT, Long.numberOfTrailingZeros(capacity));
+        chunkMask = (1L << chunkShift) - 1;
+
+        long chunkBytes = (long) SLOT_SIZE << chunkShift;
+        chunks = new MappedByteBuffer[(int) (capacity >>> chunkShift)];
+        for (int i = 0; i < chunks.length; i++)
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * chunkBytes, chunkBytes);
+    }
+
+    private boolean containsZeroKey() {
+        return header.get(ZERO_KEY_OFFSET) != 0;
+    }
+
+    private void setSize(long size) {
+        this.size = size;
+        header.putLong(SIZE_OFFSET, size);
+    }
+
+    private long keyAt(long slot) {
+        return chunks[(int) (slot >>> chunkShift)].getLong(offsetOf(slot));
+    }
+
+    private long valueAt(long slot) {
+        return chunks[(int) (slot >>> chunkShift)].getLong(offsetOf(slot) + Long.BYTES);
+    }
+
+    private void setKey(long slot, long key) {
+        chunks[(int) (slot >>> chunkShift)].putLong(offsetOf(slot), key);
+    }
+
+    private void setValue(long slot, long value) {
+        chunks[(int) (slot >>> chunkShift)].putLong(offsetOf(slot) + Long.BYTES, value);
+    }
+
+    private int offsetOf(long slot) {
+        return (int) (slot & chunkMask) * SLOT_SIZE;
+    }
+
+    private long next(long slot) {
+        return (slot + 1) & (capacity - 1);
+    }
+
+    private static long mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+}
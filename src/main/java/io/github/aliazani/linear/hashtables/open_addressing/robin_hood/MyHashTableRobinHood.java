@@ -0,0 +1,247 @@
+package io.github.aliazani.linear.hashtables.open_addressing.robin_hood;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.EntryArraySpliterator;
+import io.github.aliazani.linear.hashtables.MyHashTable;
+
+import java.util.*;
+
+/**
+ * Implementation of a hash table using linear probing with Robin Hood displacement for collision resolution.
+ * <p>
+ * While probing for a free slot, a new entry takes the place of any entry that is closer to its home slot than the
+ * new entry is to its own, and the displaced entry continues probing. This keeps probe distances nearly uniform, and a
+ * lookup can stop as soon as it meets an entry closer to its home than the searched key would be. Removed entries
+ * are filled by shifting the following entries backwards.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public class MyHashTableRobinHood<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
+    private static final float DEFAULT_MAX_LOAD_FACTOR = 0.9f;
+
+    private final float maxLoadFactor;
+    private Entry<K, V>[] entries;
+    private int size;
+
+    /**
+     * Constructs a hash table with the specified size.
+     *
+     * @param size the initial size of the hash table
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public MyHashTableRobinHood(int size) {
+        this(size, DEFAULT_MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a hash table with the specified size and maximum load factor.
+     *
+     * @param size          the initial size of the hash table
+     * @param maxLoadFactor the load factor the table may reach before it grows, between 0 and 1 (exclusive)
+     * @throws IllegalArgumentException if the size is not positive or the maximum load factor is out of range
+     */
+    public MyHashTableRobinHood(int size, float maxLoadFactor) {
+        if (size <= 0 || !(maxLoadFactor > 0 && maxLoadFactor < 1)) throw new IllegalArgumentException();
+
+        this.maxLoadFactor = maxLoadFactor;
+        entries = (Entry<K, V>[]) new Entry[size];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        int index = getIndexOfNonEmptyEntry(key);
+
+        if (index >= 0) {
+            entries[index].setValue(value);
+            return;
+        }
+
+        if (size + 1 > entries.length * maxLoadFactor) resize(2 * entries.length);
+
+        insert(new Entry<>(key, value));
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(K key) {
+        int index = getIndexOfNonEmptyEntry(key);
+
+        if (index < 0) throw new NoSuchElementException();
+
+        return entries[index].getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        int index = getIndexOfNonEmptyEntry(key);
+
+        return index < 0 ? null : entries[index].getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return getIndexOfNonEmptyEntry(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(K key) {
+        int index = getIndexOfNonEmptyEntry(key);
+
+        if (index < 0) throw new NoSuchElementException();
+
+        for (int next = next(index); entries[next] != null && probeDistance(next) > 0; next = next(next)) {
+            entries[index] = entries[next];
+            index = next;
+        }
+        entries[index] = null;
+        size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the entries that splits the backing array into halves.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new EntryArraySpliterator<>(entries, size);
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     *
+     * @return the number of slots of the hash table
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Returns the current load factor, i.e. the number of entries divided by the capacity.
+     *
+     * @return the current load factor of the hash table
+     */
+    public double loadFactor() {
+        return (double) size / entries.length;
+    }
+
+    /**
+     * Returns the largest distance between an entry and its home slot.
+     *
+     * @return the maximum probe distance, or 0 if the table is empty
+     */
+    public int maxProbeDistance() {
+        int max = 0;
+        for (int index = 0; index < entries.length; index++)
+            if (entries[index] != null) max = Math.max(max, probeDistance(index));
+
+        return max;
+    }
+
+    /**
+     * Returns the average distance between the entries and their home slots.
+     *
+     * @return the mean probe distance, or 0 if the table is empty
+     */
+    public double meanProbeDistance() {
+        if (isEmpty()) return 0;
+
+        long total = 0;
+        for (int index = 0; index < entries.length; index++)
+            if (entries[index] != null) total += probeDistance(index);
+
+        return (double) total / size;
+    }
+
+    private void insert(Entry<K, V> entry) {
+        int index = hash(entry.getKey());
+
+        for (int distance = 0; entries[index] != null; index = next(index), distance++) {
+            int existingDistance = probeDistance(index);
+            if (existingDistance < distance) {
+                Entry<K, V> displaced = entries[index];
+                entries[index] = entry;
+                entry = displaced;
+                distance = existingDistance;
+            }
+        }
+
+        entries[index] = entry;
+    }
+
+    private int getIndexOfNonEmptyEntry(K key) {
+        int index = hash(key);
+
+        for (int distance = 0; entries[index] != null && probeDistance(index) >= distance; distance++) {
+            if (Objects.equals(entries[index].getKey(), key)) return index;
+            index = next(index);
+        }
+
+        return -1;
+    }
+
+    private int probeDistance(int index) {
+        return (index - hash(entries[index].getKey()) + entries.length) % entries.length;
+    }
+
+    private int next(int index) {
+        return (index + 1) % entries.length;
+    }
+
+    private void resize(int capacity) {
+        Entry<K, V>[] oldEntries = entries;
+        entries = (Entry<K, V>[]) new Entry[capacity];
+
+        for (Entry<K, V> entry : oldEntries)
+            if (entry != null) insert(entry);
+    }
+
+    private int hash(K key) {
+        return (key == null) ? 0 : Math.abs(key.hashCode() % entries.length);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(entries);
+    }
+}
@@ -0,0 +1,328 @@
+package io.github.aliazani.linear.hashtables.open_addressing.swiss_table;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.MyHashTable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of a hash table in the style of a Swiss table.
+ * <p>
+ * Besides the key and value arrays the table keeps one control byte per slot, which either marks the slot as empty
+ * or deleted, or holds 7 bits of the key's hash. The slots are probed in groups of 8: the 8 control bytes of a group
+ * are read as one {@code long} and compared against the hash fragment with SWAR arithmetic, so most non-matching
+ * slots are rejected without touching the keys. A lookup stops at the first group that has an empty slot.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public class MyHashTableSwissTable<K extends Comparable<K>, V extends Comparable<V>> implements MyHashTable<K, V> {
+    private static final int GROUP_SIZE = 8;
+    private static final byte EMPTY = (byte) 0x80;
+    private static final byte DELETED = (byte) 0xFE;
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+    private static final VarHandle CONTROL_GROUP =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private byte[] controls;
+    private K[] keys;
+    private V[] values;
+    private int groupMask;
+    private int size;
+    private int growthLeft;
+
+    /**
+     * Constructs a hash table with room for at least the specified number of entries before it grows.
+     *
+     * @param size the initial size of the hash table
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public MyHashTableSwissTable(int size) {
+        if (size <= 0) throw new IllegalArgumentException();
+
+        int capacity = GROUP_SIZE;
+        while (maxSizeFor(capacity) < size) capacity *= 2;
+        allocate(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int index = find(key, hash);
+
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+
+        index = findFreeSlot(hash);
+        if (growthLeft == 0 && controls[index] == EMPTY) {
+            rehash();
+            index = findFreeSlot(hash);
+        }
+
+        if (controls[index] == EMPTY) growthLeft--;
+        store(index, key, value, hash);
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(K key) {
+        int index = find(key, hash(key));
+
+        if (index < 0) throw new NoSuchElementException();
+
+        return values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        int index = find(key, hash(key));
+
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return find(key, hash(key)) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(K key) {
+        int index = find(key, hash(key));
+
+        if (index < 0) throw new NoSuchElementException();
+
+        keys[index] = null;
+        values[index] = null;
+        size--;
+
+        if (matchEmpty(loadGroup(index / GROUP_SIZE)) != 0) {
+            controls[index] = EMPTY;
+            growthLeft++;
+        } else controls[index] = DELETED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The table stores no entry objects, so the iterator creates one per key-value pair; {@link #forEach(BiConsumer)}
+     * does not allocate. Changing the value of a returned entry does not change the table.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the entries that splits the slots into halves.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new SwissTableSpliterator(0, controls.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < controls.length; i++)
+            if (controls[i] >= 0) action.accept(keys[i], values[i]);
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     *
+     * @return the number of slots of the hash table
+     */
+    public int capacity() {
+        return controls.length;
+    }
+
+    private int find(K key, int hash) {
+        long fragment = h2(hash) * LSBS;
+
+        for (int group = h1(hash) & groupMask, step = 1; step <= groupMask + 1; group = (group + step++) & groupMask) {
+            long controlGroup = loadGroup(group);
+
+            for (long matches = match(controlGroup, fragment); matches != 0; matches &= matches - 1) {
+                int index = group * GROUP_SIZE + (Long.numberOfTrailingZeros(matches) >>> 3);
+                if (Objects.equals(keys[index], key)) return index;
+            }
+
+            if (matchEmpty(controlGroup) != 0) return -1;
+        }
+
+        return -1;
+    }
+
+    private int findFreeSlot(int hash) {
+        for (int group = h1(hash) & groupMask, step = 1; ; group = (group + step++) & groupMask) {
+            long free = loadGroup(group) & MSBS;
+            if (free != 0) return group * GROUP_SIZE + (Long.numberOfTrailingZeros(free) >>> 3);
+        }
+    }
+
+    private void store(int index, K key, V value, int hash) {
+        controls[index] = (byte) h2(hash);
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    private void rehash() {
+        byte[] oldControls = controls;
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+
+        int capacity = size >= maxSizeFor(oldControls.length) / 2 ? 2 * oldControls.length : oldControls.length;
+        allocate(capacity);
+
+        for (int i = 0; i < oldControls.length; i++)
+            if (oldControls[i] >= 0) {
+                int hash = hash(oldKeys[i]);
+                store(findFreeSlot(hash), oldKeys[i], oldValues[i], hash);
+                growthLeft--;
+            }
+    }
+
+    private void allocate(int capacity) {
+        controls = new byte[capacity];
+        Arrays.fill(controls, EMPTY);
+        keys = (K[]) new Comparable[capacity];
+        values = (V[]) new Comparable[capacity];
+        groupMask = capacity / GROUP_SIZE - 1;
+        growthLeft = maxSizeFor(capacity);
+    }
+
+    private long loadGroup(int group) {
+        return (long) CONTROL_GROUP.get(controls, group * GROUP_SIZE);
+    }
+
+    /**
+     * Returns a mask with the high bit set in every byte of {@code controlGroup} that equals the fragment. Bytes above
+     * a real match may be reported as false positives, which are rejected by comparing the keys.
+     */
+    private static long match(long controlGroup, long fragment) {
+        long difference = controlGroup ^ fragment;
+        return (difference - LSBS) & ~difference & MSBS;
+    }
+
+    /**
+     * Returns a mask with the high bit set in every byte of {@code controlGroup} that is {@link #EMPTY}.
+     */
+    private static long matchEmpty(long controlGroup) {
+        return controlGroup & (~controlGroup << 6) & MSBS;
+    }
+
+    private static int maxSizeFor(int capacity) {
+        return capacity - capacity / 8;
+    }
+
+    private int hash(K key) {
+        int hash = (key == null ? 0 : key.hashCode()) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int h1(int hash) {
+        return hash >>> 7;
+    }
+
+    private static int h2(int hash) {
+        return hash & 0x7F;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < controls.length; i++)
+            joiner.add(controls[i] >= 0 ? keys[i] + "=" + values[i] : "null");
+
+        return joiner.toString();
+    }
+
+    private final class SwissTableSpliterator implements Spliterator<Entry<K, V>> {
+        private static final int MIN_SPLIT_SIZE = 64;
+
+        private final int fence;
+        private int index;
+
+        private SwissTableSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            for (; index < fence; index++)
+                if (controls[index] >= 0) {
+                    action.accept(new Entry<>(keys[index], values[index]));
+                    index++;
+                    return true;
+                }
+
+            return false;
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int remaining = fence - index;
+            if (remaining < MIN_SPLIT_SIZE) return null;
+
+            int middle = index + remaining / 2;
+            SwissTableSpliterator prefix = new SwissTableSpliterator(index, middle);
+            index = middle;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) size * (fence - index) / controls.length;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.aliazani.linear.hashtables.parallel;
+
+import io.github.aliazani.linear.hashtables.primitive.IntIntHashTable;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Maps every value of an {@code int} array to the index of its first occurrence, built in parallel by radix
+ * partitioning the array on a hash of the values.
+ * <p>
+ * The array is cut into chunks. Every chunk first counts how many of its values fall into each partition, a prefix sum
+ * over those counts gives every chunk its own range inside each partition, and the chunks then scatter their values
+ * and indices into those ranges without any synchronization. Because the chunks are laid out in array order, the
+ * indices inside a partition stay sorted, so each partition builds its own {@link IntIntHashTable} keeping the first
+ * index of every value. The tables are only read afterwards, so they can be shared by any number of threads.
+ */
+final class FirstIndexTable {
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final int shift;
+    private final int[] values;
+    private final int[] indices;
+    private final int[] partitionStarts;
+    private final IntIntHashTable[] tables;
+
+    private FirstIndexTable(int shift, int[] values, int[] indices, int[] partitionStarts) {
+        this.shift = shift;
+        this.values = values;
+        this.indices = indices;
+        this.partitionStarts = partitionStarts;
+        this.tables = new IntIntHashTable[partitionStarts.length - 1];
+    }
+
+    static FirstIndexTable build(int[] numbers, ForkJoinPool pool) {
+        int partitionBits = 32 - Integer.numberOfLeadingZeros(pool.getParallelism() * PARTITIONS_PER_THREAD - 1);
+        int partitions = 1 << partitionBits;
+        int chunks = partitions;
+        int chunkSize = (numbers.length + chunks - 1) / chunks;
+        int shift = Integer.SIZE - partitionBits;
+
+        int[][] counts = new int[chunks][partitions];
+        ParallelRange.forEach(pool, chunks, chunk -> {
+            int[] chunkCounts = counts[chunk];
+            int end = chunkStart(chunk + 1, chunkSize, numbers.length);
+            for (int i = chunkStart(chunk, chunkSize, numbers.length); i < end; i++)
+                chunkCounts[partitionOf(numbers[i], shift)]++;
+        });
+
+        int[] partitionStarts = new int[partitions + 1];
+        int[][] offsets = new int[chunks][partitions];
+        int offset = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            partitionStarts[partition] = offset;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                offsets[chunk][partition] = offset;
+                offset += counts[chunk][partition];
+            }
+        }
+        partitionStarts[partitions] = offset;
+
+        int[] values = new int[numbers.length];
+        int[] indices = new int[numbers.length];
+        ParallelRange.forEach(pool, chunks, chunk -> {
+            int[] next = offsets[chunk];
+            int end = chunkStart(chunk + 1, chunkSize, numbers.length);
+            for (int i = chunkStart(chunk, chunkSize, numbers.length); i < end; i++) {
+                int position = next[partitionOf(numbers[i], shift)]++;
+                values[position] = numbers[i];
+                indices[position] = i;
+            }
+        });
+
+        FirstIndexTable table = new FirstIndexTable(shift, values, indices, partitionStarts);
+        ParallelRange.forEach(pool, partitions, table::buildPartition);
+
+        return table;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value, or -1 if the array does not contain it.
+     */
+    int firstIndex(int value) {
+        return tables[partitionOf(value, shift)].getOrDefault(value, -1);
+    }
+
+    int partitionCount() {
+        return tables.length;
+    }
+
+    int partitionStart(int partition) {
+        return partitionStarts[partition];
+    }
+
+    int partitionEnd(int partition) {
+        return partitionStarts[partition + 1];
+    }
+
+    int valueAt(int position) {
+        return values[position];
+    }
+
+    int indexAt(int position) {
+        return indices[position];
+    }
+
+    private void buildPartition(int partition) {
+        IntIntHashTable table = new IntIntHashTable(Math.max(1, partitionEnd(partition) - partitionStart(partition)));
+
+        for (int position = partitionStart(partition); position < partitionEnd(partition); position++)
+            if (!table.containsKey(values[position])) table.put(values[position], indices[position]);
+
+        tables[partition] = table;
+    }
+
+    private static int chunkStart(int chunk, int chunkSize, int length) {
+        return (int) Math.min((long) chunk * chunkSize, length);
+    }
+
+    private static int partitionOf(int value, int shift) {
+        return (value * 0x9E3779B9) >>> shift;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.aliazani.linear.hashtables.parallel;
+
+import io.github.aliazani.linear.hashtables.MapHelper;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fork-join versions of {@link MapHelper#twoSum(int[], int)} and {@link MapHelper#countPairsWithDiff(int[], int)} for
+ * large arrays. Both build a {@link FirstIndexTable} in parallel and then answer from it in parallel, returning exactly
+ * what the single-threaded methods return. Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are handed to the
+ * single-threaded methods, which are faster at that size.
+ */
+public final class ParallelPairSearch {
+    /**
+     * The array length below which the single-threaded methods are used.
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private ParallelPairSearch() {
+    }
+
+    /**
+     * Finds two numbers in the given array that add up to the target value, like {@link MapHelper#twoSum(int[], int)}.
+     * <p>
+     * The single-threaded method returns at the first index {@code i} whose complement occurred before {@code i} (or
+     * whose double is the target), so this method looks for the smallest such {@code i} across all chunks, using the
+     * first index of every value, and then finds the latest earlier occurrence of its complement.
+     *
+     * @param numbers the input array of numbers
+     * @param target  the target value
+     * @param pool    the pool to run on
+     * @return an array containing the indices of the two numbers, or null if no such numbers exist
+     */
+    public static int[] twoSum(int[] numbers, int target, ForkJoinPool pool) {
+        if (numbers.length < SEQUENTIAL_THRESHOLD) return MapHelper.twoSum(numbers, target);
+
+        FirstIndexTable firstIndices = FirstIndexTable.build(numbers, pool);
+        int chunks = firstIndices.partitionCount();
+        int chunkSize = (numbers.length + chunks - 1) / chunks;
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+
+        ParallelRange.forEach(pool, chunks, chunk -> {
+            int end = (int) Math.min((long) (chunk + 1) * chunkSize, numbers.length);
+            for (int i = chunk * chunkSize; i < end && i < found.get(); i++) {
+                if (numbers[i] * 2 == target || isBefore(firstIndices.firstIndex(target - numbers[i]), i)) {
+                    found.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        });
+
+        int index = found.get();
+        if (index == Integer.MAX_VALUE) return null;
+        if (numbers[index] * 2 == target) return new int[]{index, index};
+
+        int complement = target - numbers[index];
+        int complementIndex = index - 1;
+        while (numbers[complementIndex] != complement) complementIndex--;
+
+        return new int[]{complementIndex, index};
+    }
+
+    /**
+     * Counts the number of pairs in the given array with the specified difference, like
+     * {@link MapHelper#countPairsWithDiff(int[], int)}.
+     * <p>
+     * Every partition counts the distinct values it holds, recognized as the position that holds their first index,
+     * whose partner {@code value + difference} occurs anywhere in the array.
+     *
+     * @param numbers    the input array of numbers
+     * @param difference the target difference
+     * @param pool       the pool to run on
+     * @return the number of pairs with the specified difference
+     */
+    public static int countPairsWithDiff(int[] numbers, int difference, ForkJoinPool pool) {
+        if (numbers.length < SEQUENTIAL_THRESHOLD) return MapHelper.countPairsWithDiff(numbers, difference);
+
+        FirstIndexTable firstIndices = FirstIndexTable.build(numbers, pool);
+        AtomicLong count = new AtomicLong();
+
+        ParallelRange.forEach(pool, firstIndices.partitionCount(), partition -> {
+            int pairs = 0;
+            int end = firstIndices.partitionEnd(partition);
+            for (int position = firstIndices.partitionStart(partition); position < end; position++) {
+                int value = firstIndices.valueAt(position);
+                if (firstIndices.firstIndex(value) == firstIndices.indexAt(position)
+                        && firstIndices.firstIndex(value + difference) >= 0) pairs++;
+            }
+            count.addAndGet(pairs);
+        });
+
+        return (int) count.get();
+    }
+
+    private static boolean isBefore(int index, int other) {
+        return index >= 0 && index < other;
+    }
+}
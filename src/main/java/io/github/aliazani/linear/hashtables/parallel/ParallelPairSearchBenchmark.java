@@ -0,0 +1,55 @@
+package io.github.aliazani.linear.hashtables.parallel;
+
+import io.github.aliazani.linear.hashtables.MapHelper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares {@link MapHelper#countPairsWithDiff(int[], int)} and {@link MapHelper#twoSum(int[], int)} with their
+ * fork-join versions in {@link ParallelPairSearch} on pools of 1, 2, 4, ... threads up to the number of processors.
+ * Usage: {@code ParallelPairSearchBenchmark [length]}.
+ */
+@Slf4j
+public class ParallelPairSearchBenchmark {
+    private static final int DEFAULT_LENGTH = 20_000_000;
+    private static final int DIFFERENCE = 7;
+    private static final int ROUNDS = 3;
+
+    private ParallelPairSearchBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LENGTH;
+        int[] numbers = new Random(42).ints(length, 0, length).toArray();
+        int target = -1;
+
+        log.info(MessageFormat.format("sequential: countPairsWithDiff {0,number,#} ms, twoSum {1,number,#} ms",
+                measure(() -> MapHelper.countPairsWithDiff(numbers, DIFFERENCE)),
+                measure(() -> MapHelper.twoSum(numbers, target) == null ? 0 : 1)));
+
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                log.info(MessageFormat.format("threads={0}: countPairsWithDiff {1,number,#} ms, twoSum {2,number,#} ms",
+                        threads,
+                        measure(() -> ParallelPairSearch.countPairsWithDiff(numbers, DIFFERENCE, pool)),
+                        measure(() -> ParallelPairSearch.twoSum(numbers, target, pool) == null ? 0 : 1)));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static double measure(IntSupplier run) {
+        run.getAsInt();
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) run.getAsInt();
+
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+}
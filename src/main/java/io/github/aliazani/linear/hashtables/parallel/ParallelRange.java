@@ -0,0 +1,40 @@
+package io.github.aliazani.linear.hashtables.parallel;
+
+import java.io.Serial;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs a body for every index of a range on a {@link ForkJoinPool}, splitting the range in halves until single indices
+ * are left.
+ */
+final class ParallelRange extends RecursiveAction {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final IntConsumer body;
+
+    private ParallelRange(int from, int to, IntConsumer body) {
+        this.from = from;
+        this.to = to;
+        this.body = body;
+    }
+
+    static void forEach(ForkJoinPool pool, int count, IntConsumer body) {
+        if (count > 0) pool.invoke(new ParallelRange(0, count, body));
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from == 1) {
+            body.accept(from);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParallelRange(from, middle, body), new ParallelRange(middle, to, body));
+    }
+}
@@ -0,0 +1,484 @@
+package io.github.aliazani.linear.hashtables.perfect_hashing;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.MyReadOnlyHashTable;
+import io.github.aliazani.linear.hashtables.chaining.MyHashTableChaining;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable hash table built from a fixed set of keys with a minimal perfect hash function in the style of CHD
+ * (compress, hash and displace).
+ * <p>
+ * The keys are hashed into buckets of about five keys each. Going from the largest bucket to the smallest, every bucket
+ * gets the first displacement that moves all its keys to slots no other key uses yet, so the {@code n} keys end up in
+ * exactly {@code n} slots. A lookup hashes the key, reads the displacement of its bucket from a bit-packed array and
+ * compares the single key at the resulting slot, so the only overhead over the keys and values themselves is the
+ * displacement array, a few bits per key.
+ * <p>
+ * The table can be written to a compact byte format with {@link #writeTo} and loaded back with {@link #readFrom}
+ * without rebuilding it. Character sequences are hashed by their characters, all other keys by their
+ * {@link Object#hashCode()}, so only keys whose hash codes are the same in every JVM can be written and read back.
+ *
+ * @param <K> the type of keys stored in the hash table
+ * @param <V> the type of values stored in the hash table
+ */
+public final class MyPerfectHashTable<K extends Comparable<K>, V extends Comparable<V>>
+        implements MyReadOnlyHashTable<K, V> {
+    private static final int MAGIC = 0x4D504854;
+    private static final byte VERSION = 1;
+    private static final int AVERAGE_BUCKET_SIZE = 5;
+    private static final int MAX_SEEDS = 1_000;
+    private static final int MAX_MULTIPLIERS_PER_BUCKET = 64;
+
+    private final long seed;
+    private final int bucketCount;
+    private final int bitsPerDisplacement;
+    private final long[] displacements;
+    private final K[] keys;
+    private final V[] values;
+
+    private MyPerfectHashTable(long seed, int bucketCount, int bitsPerDisplacement, long[] displacements, K[] keys,
+                               V[] values) {
+        this.seed = seed;
+        this.bucketCount = bucketCount;
+        this.bitsPerDisplacement = bitsPerDisplacement;
+        this.displacements = displacements;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Returns a builder that collects the key-value pairs of a new table.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return a new builder
+     */
+    public static <K extends Comparable<K>, V extends Comparable<V>> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(K key) {
+        int slot = slotOf(key);
+
+        if (slot < 0 || !Objects.equals(keys[slot], key)) throw new NoSuchElementException();
+
+        return values[slot];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getOrNull(K key) {
+        int slot = slotOf(key);
+
+        return slot < 0 || !Objects.equals(keys[slot], key) ? null : values[slot];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(K key) {
+        int slot = slotOf(key);
+
+        return slot >= 0 && Objects.equals(keys[slot], key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned entries are copies, so changing their value does not change the table.
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over copies of the entries that splits the slots into halves.
+     *
+     * @return a spliterator over the entries of the hash table
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return IntStream.range(0, keys.length).mapToObj(slot -> new Entry<>(keys[slot], values[slot])).spliterator();
+    }
+
+    /**
+     * Returns the number of bits the displacement array uses per key, which is the space overhead of the table on
+     * top of the keys and values.
+     *
+     * @return the displacement bits per key, or 0 if the table is empty
+     */
+    public double bitsPerKey() {
+        return isEmpty() ? 0 : (double) bucketCount * bitsPerDisplacement / keys.length;
+    }
+
+    /**
+     * Writes the table to the given stream. Neither the stream is closed nor the table rebuilt when it is read back.
+     *
+     * @param out         the stream to write to
+     * @param keyWriter   writes a single key
+     * @param valueWriter writes a single value
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream out, ElementWriter<? super K> keyWriter, ElementWriter<? super V> valueWriter)
+            throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(keys.length);
+        data.writeLong(seed);
+        data.writeInt(bucketCount);
+        data.writeByte(bitsPerDisplacement);
+        data.writeInt(displacements.length);
+        for (long word : displacements) data.writeLong(word);
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            keyWriter.write(data, keys[slot]);
+            valueWriter.write(data, values[slot]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a table written by {@link #writeTo}. The stream is not closed.
+     *
+     * @param in          the stream to read from
+     * @param keyReader   reads a single key
+     * @param valueReader reads a single value
+     * @param <K>         the type of keys
+     * @param <V>         the type of values
+     * @return the table
+     * @throws IOException if the stream cannot be read or does not contain a table
+     */
+    public static <K extends Comparable<K>, V extends Comparable<V>> MyPerfectHashTable<K, V> readFrom(
+            InputStream in, ElementReader<? extends K> keyReader, ElementReader<? extends V> valueReader)
+            throws IOException {
+        DataInputStream data = new DataInputStream(in);
+
+        if (data.readInt() != MAGIC || data.readByte() != VERSION)
+            throw new IOException("The stream does not contain a perfect hash table");
+
+        int size = data.readInt();
+        long seed = data.readLong();
+        int bucketCount = data.readInt();
+        int bitsPerDisplacement = data.readByte();
+        long[] displacements = new long[data.readInt()];
+        for (int i = 0; i < displacements.length; i++) displacements[i] = data.readLong();
+
+        K[] keys = (K[]) new Comparable[size];
+        V[] values = (V[]) new Comparable[size];
+        for (int slot = 0; slot < size; slot++) {
+            keys[slot] = keyReader.read(data);
+            values[slot] = valueReader.read(data);
+        }
+
+        return new MyPerfectHashTable<>(seed, bucketCount, bitsPerDisplacement, displacements, keys, values);
+    }
+
+    private int slotOf(K key) {
+        if (key == null || isEmpty()) return -1;
+
+        long hash = hash(key, seed);
+        int bucket = bucketOf(hash, bucketCount);
+
+        return slotOf(first(hash, keys.length), second(hash, keys.length), keys.length, displacement(bucket));
+    }
+
+    private long displacement(int bucket) {
+        return PackedArray.get(displacements, bitsPerDisplacement, bucket);
+    }
+
+    private static int bucketOf(long hash, int bucketCount) {
+        return (int) (((hash >>> 32) * bucketCount) >>> 32);
+    }
+
+    /**
+     * Returns {@code (f1 + d0 * f2 + d1) mod n}, where {@code f1} and {@code f2} come from the key's hash and
+     * {@code d0}, {@code d1} from the bucket's displacement.
+     */
+    private static int slotOf(int first, int second, int size, long displacement) {
+        return (int) ((first + (displacement / size) * second + displacement % size) % size);
+    }
+
+    private static int first(long hash, int size) {
+        return (int) (((hash & 0xFFFFFFFFL) * size) >>> 32);
+    }
+
+    private static int second(long hash, int size) {
+        return (int) (((mix(hash) & 0xFFFFFFFFL) * size) >>> 32);
+    }
+
+    private static long hash(Object key, long seed) {
+        if (key instanceof CharSequence sequence) {
+            long hash = seed;
+            for (int i = 0; i < sequence.length(); i++) hash = (hash ^ sequence.charAt(i)) * 0x100000001B3L;
+
+            return mix(hash);
+        }
+
+        return mix(key.hashCode() ^ seed);
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int slot = 0; slot < keys.length; slot++) joiner.add(keys[slot] + "=" + values[slot]);
+
+        return joiner.toString();
+    }
+
+    /**
+     * Writes a single element to a {@link DataOutput}.
+     *
+     * @param <T> the type of the element
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        /**
+         * Writes the element.
+         *
+         * @param out     the output to write to
+         * @param element the element
+         * @throws IOException if the output cannot be written
+         */
+        void write(DataOutput out, T element) throws IOException;
+    }
+
+    /**
+     * Reads a single element from a {@link DataInput}.
+     *
+     * @param <T> the type of the element
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        /**
+         * Reads the element.
+         *
+         * @param in the input to read from
+         * @return the element
+         * @throws IOException if the input cannot be read
+         */
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Collects the key-value pairs of a {@link MyPerfectHashTable}. Adding a key twice keeps the last value.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     */
+    public static final class Builder<K extends Comparable<K>, V extends Comparable<V>> {
+        private static final int INITIAL_SIZE = 16;
+
+        private final MyHashTableChaining<K, V> pairs = new MyHashTableChaining<>(INITIAL_SIZE);
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a key-value pair.
+         *
+         * @param key   the key
+         * @param value the value
+         * @return this builder
+         * @throws IllegalArgumentException if the key is {@code null}
+         */
+        public Builder<K, V> put(K key, V value) {
+            if (key == null) throw new IllegalArgumentException();
+
+            pairs.put(key, value);
+            return this;
+        }
+
+        /**
+         * Builds the table from the pairs added so far.
+         *
+         * @return the table
+         * @throws IllegalArgumentException if two different keys that are not character sequences have the same hash
+         *                                  code, which no perfect hash function can tell apart
+         */
+        public MyPerfectHashTable<K, V> build() {
+            int size = pairs.size();
+            K[] keys = (K[]) new Comparable[size];
+            V[] values = (V[]) new Comparable[size];
+
+            int index = 0;
+            for (Entry<K, V> entry : pairs) {
+                keys[index] = entry.getKey();
+                values[index++] = entry.getValue();
+            }
+
+            int bucketCount = Math.max(1, (size + AVERAGE_BUCKET_SIZE - 1) / AVERAGE_BUCKET_SIZE);
+            Random random = new Random(size);
+            for (int attempt = 0; attempt < MAX_SEEDS; attempt++) {
+                long seed = random.nextLong();
+                MyPerfectHashTable<K, V> table = tryBuild(seed, bucketCount, keys, values);
+                if (table != null) return table;
+            }
+
+            throw new IllegalArgumentException();
+        }
+
+        private MyPerfectHashTable<K, V> tryBuild(long seed, int bucketCount, K[] keys, V[] values) {
+            int size = keys.length;
+            long[] hashes = new long[size];
+            int[] firsts = new int[size];
+            int[] seconds = new int[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = hash(keys[i], seed);
+                firsts[i] = first(hashes[i], size);
+                seconds[i] = second(hashes[i], size);
+            }
+
+            int[][] buckets = bucketsBySizeDescending(hashes, bucketCount);
+            long[] bucketDisplacements = new long[bucketCount];
+            boolean[] taken = new boolean[size];
+            int[] slots = new int[size];
+            long maxDisplacement = 0;
+            int nextFreeSlot = 0;
+
+            for (int[] bucket : buckets) {
+                if (bucket.length == 0) break;
+
+                long displacement;
+                if (bucket.length == 1) {
+                    // keys alone in their bucket go straight to the next free slot instead of searching for one
+                    while (taken[nextFreeSlot]) nextFreeSlot++;
+                    displacement = Math.floorMod(nextFreeSlot - firsts[bucket[0]], size);
+                    slots[bucket[0]] = nextFreeSlot;
+                } else displacement = findDisplacement(bucket, firsts, seconds, taken, slots);
+
+                if (displacement < 0) {
+                    rejectEqualHashCodes(bucket, keys);
+                    return null;
+                }
+
+                for (int key : bucket) taken[slots[key]] = true;
+                bucketDisplacements[bucketOf(hashes[bucket[0]], bucketCount)] = displacement;
+                maxDisplacement = Math.max(maxDisplacement, displacement);
+            }
+
+            int bitsPerDisplacement = Math.max(1, 64 - Long.numberOfLeadingZeros(maxDisplacement));
+            long[] packed = PackedArray.create(bitsPerDisplacement, bucketCount);
+            for (int bucket = 0; bucket < bucketCount; bucket++)
+                PackedArray.set(packed, bitsPerDisplacement, bucket, bucketDisplacements[bucket]);
+
+            K[] slotKeys = (K[]) new Comparable[size];
+            V[] slotValues = (V[]) new Comparable[size];
+            for (int i = 0; i < size; i++) {
+                slotKeys[slots[i]] = keys[i];
+                slotValues[slots[i]] = values[i];
+            }
+
+            return new MyPerfectHashTable<>(seed, bucketCount, bitsPerDisplacement, packed, slotKeys, slotValues);
+        }
+
+        /**
+         * Tries the displacements {@code 0, 1, 2, ...} until all keys of the bucket land in distinct free slots,
+         * storing the slots in {@code slots}. Returns -1 if none of the tried displacements works.
+         * <p>
+         * A displacement {@code d} stands for the multiplier {@code d0 = d / n} and the shift {@code d1 = d % n}. For
+         * each multiplier the shifts are walked by moving every slot one to the right, so no try divides.
+         */
+        private static long findDisplacement(int[] bucket, int[] firsts, int[] seconds, boolean[] taken,
+                                             int[] slots) {
+            int size = taken.length;
+
+            for (int multiplier = 0; multiplier < MAX_MULTIPLIERS_PER_BUCKET; multiplier++) {
+                for (int key : bucket) slots[key] = slotOf(firsts[key], seconds[key], size, (long) multiplier * size);
+                if (!distinct(bucket, slots)) continue;
+
+                for (int shift = 0; shift < size; shift++) {
+                    if (free(bucket, taken, slots)) return (long) multiplier * size + shift;
+
+                    for (int key : bucket)
+                        if (++slots[key] == size) slots[key] = 0;
+                }
+            }
+
+            return -1;
+        }
+
+        private static boolean distinct(int[] bucket, int[] slots) {
+            for (int i = 1; i < bucket.length; i++)
+                for (int j = 0; j < i; j++)
+                    if (slots[bucket[i]] == slots[bucket[j]]) return false;
+
+            return true;
+        }
+
+        private static boolean free(int[] bucket, boolean[] taken, int[] slots) {
+            for (int key : bucket)
+                if (taken[slots[key]]) return false;
+
+            return true;
+        }
+
+        private static int[][] bucketsBySizeDescending(long[] hashes, int bucketCount) {
+            int[] counts = new int[bucketCount];
+            for (long hash : hashes) counts[bucketOf(hash, bucketCount)]++;
+
+            int[][] buckets = new int[bucketCount][];
+            for (int bucket = 0; bucket < bucketCount; bucket++) buckets[bucket] = new int[counts[bucket]];
+
+            int[] filled = new int[bucketCount];
+            for (int key = 0; key < hashes.length; key++) {
+                int bucket = bucketOf(hashes[key], bucketCount);
+                buckets[bucket][filled[bucket]++] = key;
+            }
+
+            Arrays.sort(buckets, (first, second) -> Integer.compare(second.length, first.length));
+            return buckets;
+        }
+
+        private static <K> void rejectEqualHashCodes(int[] bucket, K[] keys) {
+            for (int i = 0; i < bucket.length; i++)
+                for (int j = 0; j < i; j++) {
+                    K first = keys[bucket[i]];
+                    K second = keys[bucket[j]];
+                    if (!(first instanceof CharSequence) && first.hashCode() == second.hashCode())
+                        throw new IllegalArgumentException();
+                }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.aliazani.linear.hashtables.perfect_hashing;
+
+/**
+ * Static helpers for an array of unsigned values of a fixed bit width packed into {@code long} words. A value may
+ * straddle two words.
+ */
+final class PackedArray {
+    private PackedArray() {
+    }
+
+    static long[] create(int bitsPerValue, int length) {
+        return new long[(int) (((long) bitsPerValue * length + Long.SIZE - 1) / Long.SIZE)];
+    }
+
+    static long get(long[] words, int bitsPerValue, int index) {
+        long bit = (long) bitsPerValue * index;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        long mask = mask(bitsPerValue);
+
+        long value = words[word] >>> offset;
+        if (offset + bitsPerValue > Long.SIZE) value |= words[word + 1] << (Long.SIZE - offset);
+
+        return value & mask;
+    }
+
+    static void set(long[] words, int bitsPerValue, int index, long value) {
+        long bit = (long) bitsPerValue * index;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        long mask = mask(bitsPerValue);
+
+        words[word] = (words[word] & ~(mask << offset)) | ((value & mask) << offset);
+        if (offset + bitsPerValue > Long.SIZE) {
+            int shift = Long.SIZE - offset;
+            words[word + 1] = (words[word + 1] & ~(mask >>> shift)) | ((value & mask) >>> shift);
+        }
+    }
+
+    private static long mask(int bitsPerValue) {
+        return bitsPerValue == Long.SIZE ? -1L : (1L << bitsPerValue) - 1;
+    }
+}
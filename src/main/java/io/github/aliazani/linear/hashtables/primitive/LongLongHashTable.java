@@ -0,0 +1,208 @@
+package io.github.aliazani.linear.hashtables.primitive;
+
+import java.util.NoSuchElementException;
+
+import static io.github.aliazani.linear.hashtables.primitive.PrimitiveHashing.*;
+
+/**
+ * A hash table mapping {@code long} keys to {@code long} values.
+ * <p>
+ * Keys and values are kept in parallel primitive arrays and collisions are resolved by linear probing with
+ * backward-shift deletion, so {@code put}, {@code get} and {@code remove} never allocate (apart from growing the
+ * table) and no key or value is boxed.
+ */
+public class LongLongHashTable {
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs a hash table with room for at least the specified number of slots.
+     *
+     * @param size the initial size of the hash table, rounded up to a power of two
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public LongLongHashTable(int size) {
+        allocate(tableSizeFor(size));
+    }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     * @throws IllegalStateException if the key is new and the table is full at its maximum capacity
+     */
+    public void put(long key, long value) {
+        int index = indexOf(key);
+
+        if (index >= 0) values[index] = value;
+        else insert(key, value);
+    }
+
+    /**
+     * Adds the specified amount to the value associated with the key, treating a missing key as {@code 0}.
+     *
+     * @param key   the key
+     * @param delta the amount to add
+     * @return the new value associated with the key
+     * @throws IllegalStateException if the key is new and the table is full at its maximum capacity
+     */
+    public long addTo(long key, long delta) {
+        int index = indexOf(key);
+
+        if (index >= 0) return values[index] += delta;
+
+        insert(key, delta);
+        return delta;
+    }
+
+    /**
+     * Retrieves the value associated with the given key.
+     *
+     * @param key the key
+     * @return the value associated with the key
+     * @throws NoSuchElementException if the key is not found in the hash table
+     */
+    public long get(long key) {
+        int index = indexOf(key);
+
+        if (index < 0) throw new NoSuchElementException();
+
+        return values[index];
+    }
+
+    /**
+     * Retrieves the value associated with the given key, or the default value if the key is not found.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return if the key is not found
+     * @return the value associated with the key, or {@code defaultValue}
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        int index = indexOf(key);
+
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * Checks whether the hash table contains the given key.
+     *
+     * @param key the key
+     * @return {@code true} if the key is found, {@code false} otherwise
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes the given key and its value from the hash table.
+     *
+     * @param key the key
+     * @throws NoSuchElementException if the key is not found in the hash table
+     */
+    public void remove(long key) {
+        int index = indexOf(key);
+
+        if (index < 0) throw new NoSuchElementException();
+
+        used[index] = false;
+        size--;
+        shiftEntriesBackward(index);
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in the hash table.
+     *
+     * @return the number of key-value pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the hash table is empty.
+     *
+     * @return {@code true} if the hash table is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots of the hash table.
+     *
+     * @return the number of slots of the hash table
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    private int indexOf(long key) {
+        for (int index = mix(key) & mask; used[index]; index = (index + 1) & mask)
+            if (keys[index] == key) return index;
+
+        return -1;
+    }
+
+    private void insert(long key, long value) {
+        int capacity = capacityForInsert(size, keys.length);
+        if (capacity != keys.length) resize(capacity);
+
+        store(key, value);
+        size++;
+    }
+
+    private void store(long key, long value) {
+        int index = mix(key) & mask;
+        while (used[index]) index = (index + 1) & mask;
+
+        used[index] = true;
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    private void shiftEntriesBackward(int emptyIndex) {
+        for (int index = (emptyIndex + 1) & mask; used[index]; index = (index + 1) & mask) {
+            if (staysInPlace(index, mix(keys[index]) & mask, emptyIndex, mask)) continue;
+
+            keys[emptyIndex] = keys[index];
+            values[emptyIndex] = values[index];
+            used[emptyIndex] = true;
+            used[index] = false;
+            emptyIndex = index;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldUsed[i]) store(oldKeys[i], oldValues[i]);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("[");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) stringBuilder.append(", ");
+            if (used[i]) stringBuilder.append(keys[i]).append('=').append(values[i]);
+            else stringBuilder.append("null");
+        }
+
+        return stringBuilder.append("]").toString();
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.aliazani.linear.hashtables.primitive;
+
+/**
+ * Hash functions and table sizing shared by the primitive-specialized hash tables.
+ * <p>
+ * The tables use power-of-two capacities, so the keys are mixed before masking to spread consecutive ids over the
+ * whole table.
+ */
+final class PrimitiveHashing {
+    static final float MAX_LOAD_FACTOR = 0.75f;
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private PrimitiveHashing() {
+    }
+
+    static int mix(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    static int tableSizeFor(int size) {
+        if (size <= 0) throw new IllegalArgumentException();
+        if (size >= MAXIMUM_CAPACITY) return MAXIMUM_CAPACITY;
+
+        return Math.max(2, Integer.highestOneBit(size - 1) << 1);
+    }
+
+    static boolean exceedsMaxLoadFactor(int size, int capacity) {
+        return size > capacity * MAX_LOAD_FACTOR;
+    }
+
+    /**
+     * Returns the capacity a table of {@code size} entries needs before one more entry is inserted: twice the current
+     * capacity once the maximum load factor would be exceeded. A table at the maximum capacity keeps its capacity and
+     * fills past the load factor, leaving one slot empty so that probes still end.
+     *
+     * @throws IllegalStateException if the table is at the maximum capacity and has no slot to spare
+     */
+    static int capacityForInsert(int size, int capacity) {
+        if (!exceedsMaxLoadFactor(size + 1, capacity)) return capacity;
+        if (capacity < MAXIMUM_CAPACITY) return 2 * capacity;
+        if (size + 1 < capacity) return capacity;
+
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Returns whether the entry at {@code index} whose home slot is {@code home} must stay in place when the slot at
+     * {@code emptyIndex} (which precedes it in the probe sequence) is emptied.
+     */
+    static boolean staysInPlace(int index, int home, int emptyIndex, int mask) {
+        return ((index - home) & mask) < ((index - emptyIndex) & mask);
+    }
+}
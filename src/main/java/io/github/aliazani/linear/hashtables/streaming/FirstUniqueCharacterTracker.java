@@ -0,0 +1,74 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+import io.github.aliazani.linear.linkedlist.doubly.DoublyLinkedListNode;
+import io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Tracks the first character of a stream of characters that has occurred exactly once, ignoring case like
+ * {@link io.github.aliazani.linear.hashtables.MapHelper#findFirstNonRepeatingCharacter(String)}.
+ * <p>
+ * The characters seen once are kept in a doubly linked list in the order they first appeared, and each character
+ * remembers its list node, so adding a character and asking for the first unique one both take constant time. Memory
+ * is bounded by the size of the {@code char} alphabet, not by the length of the stream.
+ */
+public class FirstUniqueCharacterTracker {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final MyDoublyLinkedList<Character> uniques = new MyDoublyLinkedList<>();
+    private final DoublyLinkedListNode<Character>[] nodes = new DoublyLinkedListNode[Character.MAX_VALUE + 1];
+    private final boolean[] repeated = new boolean[Character.MAX_VALUE + 1];
+
+    /**
+     * Adds one character to the stream.
+     *
+     * @param ch the character
+     */
+    public void add(char ch) {
+        ch = Character.toLowerCase(ch);
+        if (repeated[ch]) return;
+
+        DoublyLinkedListNode<Character> node = nodes[ch];
+        if (node == null) nodes[ch] = uniques.addLastNode(ch);
+        else {
+            uniques.unlink(node);
+            nodes[ch] = null;
+            repeated[ch] = true;
+        }
+    }
+
+    /**
+     * Adds every character of the sequence.
+     *
+     * @param chars the characters
+     */
+    public void addAll(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) add(chars.charAt(i));
+    }
+
+    /**
+     * Adds every character the reader returns until its end, reading a buffer at a time. The reader is not closed.
+     *
+     * @param reader the characters
+     * @throws IOException if the reader fails
+     */
+    public void addAll(Reader reader) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+
+        for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer))
+            for (int i = 0; i < read; i++) add(buffer[i]);
+    }
+
+    /**
+     * Returns the first character, in lower case, that has occurred exactly once so far.
+     *
+     * @return the first unique character, or {@link Character#MIN_VALUE} if there is none
+     */
+    public char firstUnique() {
+        DoublyLinkedListNode<Character> first = uniques.firstNode();
+
+        return first == null ? Character.MIN_VALUE : first.getValue();
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+/**
+ * An element reported by {@link SpaceSavingCounter} together with the bounds on its frequency.
+ *
+ * @param element the element
+ * @param count   an upper bound on the number of times the element occurred
+ * @param error   how much {@code count} may overestimate the true number of occurrences
+ */
+public record HeavyHitter(int element, long count, long error) {
+    /**
+     * Returns a lower bound on the number of times the element occurred.
+     *
+     * @return the guaranteed number of occurrences
+     */
+    public long guaranteedCount() {
+        return count - error;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+import io.github.aliazani.linear.hashtables.primitive.IntIntHashTable;
+
+import java.util.stream.IntStream;
+
+/**
+ * Counts, over a stream of {@code int}s, the distinct numbers {@code x} for which {@code x + difference} has also
+ * occurred, giving the same result as
+ * {@link io.github.aliazani.linear.hashtables.MapHelper#countPairsWithDiff(int[], int)} on the whole stream.
+ * <p>
+ * Each pair is counted when its second number first arrives, so only the distinct numbers are stored: memory grows
+ * with the number of distinct values, not with the length of the stream.
+ */
+public class PairCounter {
+    private static final int INITIAL_SIZE = 16;
+
+    private final int difference;
+    private final IntIntHashTable seen = new IntIntHashTable(INITIAL_SIZE);
+    private long pairs;
+
+    /**
+     * Constructs a counter for pairs with the specified difference.
+     *
+     * @param difference the target difference
+     */
+    public PairCounter(int difference) {
+        this.difference = difference;
+    }
+
+    /**
+     * Adds one number to the stream.
+     *
+     * @param number the number
+     */
+    public void add(int number) {
+        if (seen.containsKey(number)) return;
+
+        seen.put(number, 0);
+        if (seen.containsKey(number + difference)) pairs++;
+        if (difference != 0 && seen.containsKey(number - difference)) pairs++;
+    }
+
+    /**
+     * Adds every number of the batch.
+     *
+     * @param batch the numbers
+     */
+    public void addAll(int[] batch) {
+        for (int number : batch) add(number);
+    }
+
+    /**
+     * Adds every number of the stream, consuming it.
+     *
+     * @param stream the numbers
+     */
+    public void addAll(IntStream stream) {
+        stream.sequential().forEach(this::add);
+    }
+
+    /**
+     * Returns the number of pairs with the target difference among the numbers added so far.
+     *
+     * @return the number of pairs
+     */
+    public long count() {
+        return pairs;
+    }
+
+    /**
+     * Returns the number of distinct numbers added so far, which is what the memory use grows with.
+     *
+     * @return the number of distinct numbers
+     */
+    public int distinctCount() {
+        return seen.size();
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+import io.github.aliazani.linear.hashtables.primitive.IntIntHashTable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * Finds the most frequent elements of a stream of {@code int}s with the Space-Saving algorithm, using a fixed number of
+ * counters however long the stream is.
+ * <p>
+ * Every counter monitors one element. An element that is not monitored while all counters are in use takes over the
+ * counter with the smallest count, inheriting that count as its error. Each reported count is therefore at most
+ * {@code error} too high, and every element that occurs more than {@code count() / capacity} times is guaranteed to be
+ * monitored.
+ * <p>
+ * The counters sit in an indexed min-heap ordered by count, and an {@link IntIntHashTable} maps each monitored element
+ * to its counter, so adding an element takes {@code O(log capacity)} time and never allocates.
+ */
+public class SpaceSavingCounter {
+    private final int[] elements;
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] heap;
+    private final int[] heapIndices;
+    private final IntIntHashTable counters;
+    private int used;
+    private long total;
+
+    /**
+     * Constructs a counter with the specified number of counters.
+     *
+     * @param capacity the number of elements monitored at once
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException();
+
+        elements = new int[capacity];
+        counts = new long[capacity];
+        errors = new long[capacity];
+        heap = new int[capacity];
+        heapIndices = new int[capacity];
+        counters = new IntIntHashTable(capacity * 2);
+    }
+
+    /**
+     * Counts one occurrence of the element.
+     *
+     * @param element the element
+     */
+    public void add(int element) {
+        total++;
+        int counter = counters.getOrDefault(element, -1);
+
+        if (counter >= 0) {
+            counts[counter]++;
+            siftDown(heapIndices[counter]);
+        } else if (used < elements.length) {
+            counter = used;
+            monitor(counter, element, 1, 0);
+            heap[used] = counter;
+            heapIndices[counter] = used++;
+            siftUp(heapIndices[counter]);
+        } else {
+            counter = heap[0];
+            counters.remove(elements[counter]);
+            monitor(counter, element, counts[counter] + 1, counts[counter]);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Counts every element of the batch.
+     *
+     * @param batch the elements
+     */
+    public void addAll(int[] batch) {
+        addAll(batch, 0, batch.length);
+    }
+
+    /**
+     * Counts the elements of the batch between {@code from} (inclusive) and {@code to} (exclusive).
+     *
+     * @param batch the elements
+     * @param from  the index of the first element to count
+     * @param to    the index after the last element to count
+     * @throws IndexOutOfBoundsException if the range is outside the batch
+     */
+    public void addAll(int[] batch, int from, int to) {
+        if (from < 0 || to > batch.length || from > to) throw new IndexOutOfBoundsException();
+
+        for (int i = from; i < to; i++) add(batch[i]);
+    }
+
+    /**
+     * Counts every element of the stream, consuming it.
+     *
+     * @param stream the elements
+     */
+    public void addAll(IntStream stream) {
+        stream.sequential().forEach(this::add);
+    }
+
+    /**
+     * Returns the element with the highest count, preferring among equal counts the one with the highest guaranteed
+     * count, {@code count - error}. The count of the returned element may be an overestimate, so it is not always the
+     * truly most frequent element.
+     *
+     * @return the most frequent element seen so far
+     * @throws NoSuchElementException if nothing has been added
+     */
+    public int mostFrequent() {
+        if (used == 0) throw new NoSuchElementException();
+
+        int best = 0;
+        for (int counter = 1; counter < used; counter++)
+            if (counts[counter] > counts[best]
+                    || counts[counter] == counts[best] && errors[counter] < errors[best]) best = counter;
+
+        return elements[best];
+    }
+
+    /**
+     * Returns the monitored elements with the highest counts, most frequent first.
+     *
+     * @param k the maximum number of elements to return
+     * @return up to {@code k} heavy hitters
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<HeavyHitter> topK(int k) {
+        if (k < 0) throw new IllegalArgumentException();
+
+        List<HeavyHitter> hitters = new ArrayList<>(used);
+        for (int counter = 0; counter < used; counter++)
+            hitters.add(new HeavyHitter(elements[counter], counts[counter], errors[counter]));
+        hitters.sort(Comparator.comparingLong(HeavyHitter::count).thenComparingLong(HeavyHitter::guaranteedCount)
+                .reversed());
+
+        return hitters.subList(0, Math.min(k, hitters.size()));
+    }
+
+    /**
+     * Returns the number of elements added so far.
+     *
+     * @return the length of the stream seen so far
+     */
+    public long count() {
+        return total;
+    }
+
+    /**
+     * Returns the number of counters.
+     *
+     * @return the number of elements monitored at once
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    private void monitor(int counter, int element, long count, long error) {
+        elements[counter] = element;
+        counts[counter] = count;
+        errors[counter] = error;
+        counters.put(element, counter);
+    }
+
+    private void siftUp(int index) {
+        int counter = heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (counts[heap[parent]] <= counts[counter]) break;
+
+            heap[index] = heap[parent];
+            heapIndices[heap[index]] = index;
+            index = parent;
+        }
+
+        heap[index] = counter;
+        heapIndices[counter] = index;
+    }
+
+    private void siftDown(int index) {
+        int counter = heap[index];
+
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= used) break;
+            if (child + 1 < used && counts[heap[child + 1]] < counts[heap[child]]) child++;
+            if (counts[heap[child]] >= counts[counter]) break;
+
+            heap[index] = heap[child];
+            heapIndices[heap[index]] = index;
+            index = child;
+        }
+
+        heap[index] = counter;
+        heapIndices[counter] = index;
+    }
+}
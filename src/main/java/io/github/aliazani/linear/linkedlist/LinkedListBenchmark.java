@@ -0,0 +1,79 @@
+package io.github.aliazani.linear.linkedlist;
+
+import io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList;
+import io.github.aliazani.linear.linkedlist.indexed.IndexedLinkedList;
+import io.github.aliazani.linear.linkedlist.singly.MySinglyLinkedList;
+import io.github.aliazani.linear.linkedlist.skiplist.IndexableSkipList;
+import io.github.aliazani.linear.linkedlist.unrolled.UnrolledLinkedList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link MySinglyLinkedList}, {@link MyDoublyLinkedList}, {@link UnrolledLinkedList},
+ * {@link IndexableSkipList} and {@link IndexedLinkedList} on the memory taken per element, on {@code indexOf} of an
+ * element that is not in the list and on {@code getNodeValue} at random indexes. The elements are shared between the
+ * lists, so only the memory of the lists themselves is counted. Usage: {@code LinkedListBenchmark [length]}.
+ */
+@Slf4j
+public class LinkedListBenchmark {
+    private static final int DEFAULT_LENGTH = 1_000_000;
+    private static final int ROUNDS = 10;
+    private static final int RANDOM_READS = 100;
+
+    private LinkedListBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LENGTH;
+        Integer[] items = new Integer[length];
+        for (int i = 0; i < length; i++) items[i] = i;
+
+        run("MySinglyLinkedList", MySinglyLinkedList::new, items);
+        run("MyDoublyLinkedList", MyDoublyLinkedList::new, items);
+        run("UnrolledLinkedList", UnrolledLinkedList::new, items);
+        run("IndexableSkipList", IndexableSkipList::new, items);
+        run("IndexedLinkedList", IndexedLinkedList::new, items);
+    }
+
+    private static void run(String name, Supplier<MyLinkedList<Integer>> factory, Integer[] items) {
+        long before = usedMemory();
+        MyLinkedList<Integer> list = factory.get();
+        for (Integer item : items) list.addLast(item);
+        double bytesPerElement = (double) (usedMemory() - before) / items.length;
+
+        double indexOfMillis = measure(() -> list.indexOf(-1));
+        Random random = new Random(42);
+        double readMillis = measure(() -> {
+            int sum = 0;
+            for (int i = 0; i < RANDOM_READS; i++) sum += list.getNodeValue(random.nextInt(items.length));
+            return sum;
+        });
+
+        log.info(MessageFormat.format(
+                "{0}: {1,number,#.#} bytes per element, indexOf {2,number,#.###} ms, " +
+                        "{3} random reads {4,number,#.###} ms",
+                name, bytesPerElement, indexOfMillis, RANDOM_READS, readMillis));
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double measure(Supplier<Integer> run) {
+        int sink = 0;
+        for (int round = 0; round < ROUNDS; round++) sink += run.get();
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) sink += run.get();
+        double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        if (sink == 42) log.info("");
+        return millis;
+    }
+}
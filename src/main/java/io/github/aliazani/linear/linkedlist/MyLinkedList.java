@@ -34,4 +34,22 @@ public interface MyLinkedList<N extends Comparable<N>> {
     LinkedListNode<N> getNode(int index);
 
     N getNodeValue(int index);
+
+    /**
+     * Adds the specified items to the end of this list in order.
+     *
+     * @param items the items to be added to the list
+     */
+    default void addAll(N[] items) {
+        for (N item : items) addLast(item);
+    }
+
+    /**
+     * Adds the items of the specified iterable to the end of this list in iteration order.
+     *
+     * @param items the items to be added to the list
+     */
+    default void addAll(Iterable<? extends N> items) {
+        for (N item : items) addLast(item);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package io.github.aliazani.linear.linkedlist;
+
+import io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList;
+import io.github.aliazani.linear.linkedlist.indexed.IndexedLinkedList;
+import io.github.aliazani.linear.linkedlist.singly.MySinglyLinkedList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated and the time taken per operation when a list is used as a queue of steady length, each
+ * operation adding an element at the end and deleting the one at the front. Compares {@link MySinglyLinkedList} and
+ * {@link MyDoublyLinkedList} without and with a node pool against {@link IndexedLinkedList}. The elements are
+ * allocated before the measurement, so only the allocations of the lists are counted. Usage:
+ * {@code NodeChurnBenchmark [queueLength] [operations]}.
+ */
+@Slf4j
+public class NodeChurnBenchmark {
+    private static final int DEFAULT_QUEUE_LENGTH = 1_000;
+    private static final int DEFAULT_OPERATIONS = 10_000_000;
+
+    private NodeChurnBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int queueLength = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_QUEUE_LENGTH;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS;
+        Integer[] items = new Integer[queueLength];
+        for (int i = 0; i < queueLength; i++) items[i] = i;
+
+        run("MySinglyLinkedList", MySinglyLinkedList::new, items, operations);
+        run("MySinglyLinkedList pooled", () -> new MySinglyLinkedList<>(queueLength), items, operations);
+        run("MyDoublyLinkedList", MyDoublyLinkedList::new, items, operations);
+        run("MyDoublyLinkedList pooled", () -> new MyDoublyLinkedList<>(queueLength), items, operations);
+        run("IndexedLinkedList", IndexedLinkedList::new, items, operations);
+    }
+
+    private static void run(String name, Supplier<MyLinkedList<Integer>> factory, Integer[] items, int operations) {
+        MyLinkedList<Integer> list = factory.get();
+        for (Integer item : items) list.addLast(item);
+        churn(list, items, operations);
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        churn(list, items, operations);
+        double nanosPerOperation = (double) (System.nanoTime() - start) / operations;
+        double bytesPerOperation = (double) (allocatedBytes() - allocatedBefore) / operations;
+
+        log.info(MessageFormat.format("{0}: {1,number,#.##} bytes and {2,number,#.#} ns per operation",
+                name, bytesPerOperation, nanosPerOperation));
+    }
+
+    private static void churn(MyLinkedList<Integer> list, Integer[] items, int operations) {
+        for (int i = 0; i < operations; i++) {
+            list.deleteFirst();
+            list.addLast(items[i % items.length]);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.aliazani.linear.linkedlist;
+
+import io.github.aliazani.linear.linkedlist.doubly.MyDoublyLinkedList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+
+/**
+ * Compares moving every element of one {@link MyDoublyLinkedList} to the end of another and back, element by element,
+ * against {@link MyDoublyLinkedList#concat(MyDoublyLinkedList)} followed by {@link MyDoublyLinkedList#split(int)},
+ * which walks to the split point but allocates and copies nothing. Usage: {@code SpliceBenchmark [length]}.
+ */
+@Slf4j
+public class SpliceBenchmark {
+    private static final int DEFAULT_LENGTH = 1_000_000;
+    private static final int ROUNDS = 10;
+
+    private SpliceBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LENGTH;
+        Integer[] items = new Integer[length];
+        for (int i = 0; i < length; i++) items[i] = i;
+
+        MyDoublyLinkedList<Integer> target = new MyDoublyLinkedList<>();
+        MyDoublyLinkedList<Integer> source = new MyDoublyLinkedList<>();
+        target.addAll(items);
+        source.addAll(items);
+
+        for (int round = 0; round < ROUNDS; round++) moveOneByOne(source, target, length);
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) moveOneByOne(source, target, length);
+        double oneByOneMillis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        for (int round = 0; round < ROUNDS; round++) moveByConcat(source, target, length);
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) moveByConcat(source, target, length);
+        double concatMillis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+        log.info(MessageFormat.format("moving {0} elements: addLast {1,number,#.###} ms, concat and split " +
+                "{2,number,#.###} ms", length, oneByOneMillis, concatMillis));
+    }
+
+    private static void moveOneByOne(MyDoublyLinkedList<Integer> source, MyDoublyLinkedList<Integer> target,
+                                     int length) {
+        for (int i = 0; i < length; i++) {
+            target.addLast(source.getNodeValue(0));
+            source.deleteFirst();
+        }
+        for (int i = 0; i < length; i++) {
+            source.addFirst(target.getKthFromTheEnd(1));
+            target.deleteLast();
+        }
+    }
+
+    private static void moveByConcat(MyDoublyLinkedList<Integer> source, MyDoublyLinkedList<Integer> target,
+                                     int length) {
+        target.concat(source);
+        source.concat(target.split(length));
+    }
+}
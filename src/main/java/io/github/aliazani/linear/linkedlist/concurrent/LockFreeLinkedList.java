@@ -0,0 +1,283 @@
+package io.github.aliazani.linear.linkedlist.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * A lock-free singly linked list that many threads can share without a monitor, after Harris and Michael.
+ * <p>
+ * Nodes are linked through a {@code volatile} field updated with compare-and-set through a {@link VarHandle}. Deleting
+ * a node first swaps its successor for a marker node that points on to that successor, which deletes the node
+ * logically and stops any thread from linking a node after it, and then unlinks the node and its marker with a
+ * compare-and-set on its predecessor. The marker plays the part of the mark bit of a Harris list without a separate
+ * object per link. A thread that fails to unlink leaves the node to the next traversal, which unlinks every deleted
+ * node it passes. Insertions and deletions retry when a compare-and-set fails, so some thread always makes progress;
+ * {@link #contains(Comparable)} and iteration only read links and never retry or block.
+ * <p>
+ * The list keeps the order of insertion, not of value, and does not hold {@code null}s. Iteration is weakly consistent:
+ * it never throws because of concurrent changes and returns every element that stays in the list for the whole
+ * iteration. {@link #size()} walks the list and is exact only when no other thread is changing it.
+ *
+ * @param <N> the type of elements stored in the list
+ */
+public class LockFreeLinkedList<N extends Comparable<N>> implements Iterable<N> {
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Node<N> head = new Node<>(null, null);
+    /**
+     * A node at or near the end of the list that {@link #addLast(Comparable)} starts searching from.
+     */
+    private final AtomicReference<Node<N>> tail = new AtomicReference<>(head);
+
+    /**
+     * A list node, or a marker when its value is {@code null}. The head is the only other node without a value, and it
+     * is never the successor of a node.
+     */
+    private static final class Node<N> {
+        private final N value;
+        private volatile Node<N> next;
+
+        private Node(N value, Node<N> next) {
+            this.value = value;
+            this.next = next;
+        }
+
+        private boolean isMarker() {
+            return value == null;
+        }
+
+        private boolean isDeleted() {
+            Node<N> successor = next;
+            return successor != null && successor.isMarker();
+        }
+
+        private boolean casNext(Node<N> expected, Node<N> node) {
+            return NEXT.compareAndSet(this, expected, node);
+        }
+    }
+
+    /**
+     * The nodes on either side of the position a search stopped at.
+     */
+    private record Window<N>(Node<N> pred, Node<N> curr) {
+    }
+
+    /**
+     * Adds the specified item to the beginning of this list.
+     *
+     * @param item the item to be added to the beginning of this list
+     * @throws IllegalArgumentException if the item is {@code null}
+     */
+    public void addFirst(N item) {
+        if (item == null) throw new IllegalArgumentException();
+
+        Node<N> node = new Node<>(item, null);
+        while (true) {
+            Node<N> first = head.next;
+            node.next = first;
+
+            if (head.casNext(first, node)) return;
+        }
+    }
+
+    /**
+     * Adds the specified item to the end of this list.
+     *
+     * @param item the item to be added to the end of this list
+     * @throws IllegalArgumentException if the item is {@code null}
+     */
+    public void addLast(N item) {
+        if (item == null) throw new IllegalArgumentException();
+
+        Node<N> node = new Node<>(item, null);
+        while (true) {
+            Node<N> last = find(tail.get(), candidate -> false).pred();
+
+            if (last.casNext(null, node)) {
+                tail.set(node);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of this list.
+     *
+     * @return the first element, or {@code null} if this list is empty
+     */
+    public N pollFirst() {
+        while (true) {
+            Window<N> window = find(head, candidate -> true);
+            if (window.curr() == null) return null;
+
+            if (delete(window)) return window.curr().value;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list.
+     *
+     * @param item the element to be removed
+     * @return {@code true} if this thread removed the element, {@code false} if the list did not contain it
+     */
+    public boolean delete(N item) {
+        while (true) {
+            Window<N> window = find(head, candidate -> candidate.equals(item));
+            if (window.curr() == null) return false;
+
+            if (delete(window)) return true;
+        }
+    }
+
+    /**
+     * Marks the current node of the window as deleted and tries once to unlink it.
+     *
+     * @return {@code true} if this thread marked the node, {@code false} if its link changed first
+     */
+    private boolean delete(Window<N> window) {
+        Node<N> curr = window.curr();
+        Node<N> succ = curr.next;
+        if (succ != null && succ.isMarker()) return false;
+        if (!curr.casNext(succ, new Node<>(null, succ))) return false;
+
+        window.pred().casNext(curr, succ);
+        return true;
+    }
+
+    /**
+     * Walks the list from the start node, or from the head if the start node is deleted, unlinking every deleted node
+     * on the way, and stops at the first node whose value matches. The window holds that node and its predecessor, or
+     * the last node and {@code null} if no value matches.
+     */
+    private Window<N> find(Node<N> start, Predicate<N> matches) {
+        retry:
+        while (true) {
+            Node<N> pred = start.isDeleted() ? head : start;
+            Node<N> curr = pred.next;
+            if (curr != null && curr.isMarker()) {
+                start = head;
+                continue;
+            }
+
+            while (curr != null) {
+                Node<N> succ = curr.next;
+                if (succ != null && succ.isMarker()) {
+                    Node<N> after = succ.next;
+                    if (!pred.casNext(curr, after)) {
+                        start = head;
+                        continue retry;
+                    }
+                    curr = after;
+                    continue;
+                }
+
+                if (matches.test(curr.value)) return new Window<>(pred, curr);
+
+                pred = curr;
+                curr = succ;
+            }
+
+            return new Window<>(pred, null);
+        }
+    }
+
+    /**
+     * Returns the given node, or the first node after it that is neither a marker nor deleted.
+     */
+    private static <N> Node<N> live(Node<N> node) {
+        while (node != null && (node.isMarker() || node.isDeleted())) node = node.next;
+
+        return node;
+    }
+
+    /**
+     * Returns true if this list contains the specified element. Deleted nodes are skipped, not unlinked, so the call
+     * never writes to the list.
+     *
+     * @param item the element to check for
+     * @return true if this list contains the specified element, false otherwise
+     */
+    public boolean contains(N item) {
+        for (Node<N> node = live(head.next); node != null; node = live(node.next))
+            if (node.value.equals(item)) return true;
+
+        return false;
+    }
+
+    /**
+     * Returns the number of elements in this list by walking it.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        int size = 0;
+        for (Node<N> node = live(head.next); node != null; node = live(node.next)) size++;
+
+        return size;
+    }
+
+    /**
+     * Checks if this list is empty.
+     *
+     * @return {@code true} if this list has no elements, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return live(head.next) == null;
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringFormOfLinkedList = new StringBuilder("[");
+
+        Iterator<N> iterator = iterator();
+        while (iterator.hasNext()) {
+            stringFormOfLinkedList.append(iterator.next());
+            if (iterator.hasNext()) stringFormOfLinkedList.append(" -> ");
+        }
+
+        stringFormOfLinkedList.append("]");
+
+        return stringFormOfLinkedList.toString();
+    }
+
+    @Override
+    public Iterator<N> iterator() {
+        return new LockFreeLinkedListIterator();
+    }
+
+    private class LockFreeLinkedListIterator implements Iterator<N> {
+        private Node<N> nextNode = live(head.next);
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public N next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            N result = nextNode.value;
+            nextNode = live(nextNode.next);
+
+            return result;
+        }
+    }
+}
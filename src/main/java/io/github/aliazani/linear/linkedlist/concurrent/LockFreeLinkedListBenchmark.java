@@ -0,0 +1,131 @@
+package io.github.aliazani.linear.linkedlist.concurrent;
+
+import io.github.aliazani.linear.linkedlist.singly.MySinglyLinkedList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Multi-threaded throughput benchmark comparing {@link LockFreeLinkedList} with a {@link MySinglyLinkedList} guarded by
+ * a single lock.
+ * <p>
+ * The list starts with {@value #INITIAL_SIZE} elements. Every thread runs a producer-consumer mix (25% appends, 25%
+ * removals from the front, 50% {@code contains}) for a fixed duration, and the total number of completed operations is
+ * reported. Usage: {@code LockFreeLinkedListBenchmark [threads]}.
+ */
+@Slf4j
+public class LockFreeLinkedListBenchmark {
+    private static final int INITIAL_SIZE = 256;
+    private static final long WARM_UP_MILLIS = 1_000;
+    private static final long MEASUREMENT_MILLIS = 3_000;
+
+    private LockFreeLinkedListBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double synchronizedThroughput = measure(SynchronizedList::new, threads);
+            double lockFreeThroughput = measure(LockFreeList::new, threads);
+
+            log.info(MessageFormat.format(
+                    "threads={0}: synchronized MySinglyLinkedList {1,number,#} ops/s, " +
+                            "LockFreeLinkedList {2,number,#} ops/s",
+                    threads, synchronizedThroughput, lockFreeThroughput));
+        }
+    }
+
+    private static double measure(Supplier<SharedList> listFactory, int threads) throws InterruptedException {
+        SharedList list = listFactory.get();
+        for (int i = 0; i < INITIAL_SIZE; i++) list.addLast(i);
+
+        run(list, threads, WARM_UP_MILLIS);
+        return run(list, threads, MEASUREMENT_MILLIS) * 1_000.0 / MEASUREMENT_MILLIS;
+    }
+
+    private static long run(SharedList list, int threads, long millis) throws InterruptedException {
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long count = 0;
+                try {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        int operation = random.nextInt(4);
+                        if (operation == 0) list.addLast(random.nextInt(INITIAL_SIZE));
+                        else if (operation == 1) list.pollFirst();
+                        else list.contains(random.nextInt(INITIAL_SIZE));
+                        count++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    operations.add(count);
+                    done.countDown();
+                }
+            });
+            worker.start();
+        }
+
+        start.countDown();
+        done.await();
+        return operations.sum();
+    }
+
+    private interface SharedList {
+        void addLast(int item);
+
+        void pollFirst();
+
+        void contains(int item);
+    }
+
+    private static final class SynchronizedList implements SharedList {
+        private final MySinglyLinkedList<Integer> list = new MySinglyLinkedList<>();
+
+        @Override
+        public synchronized void addLast(int item) {
+            list.addLast(item);
+        }
+
+        @Override
+        public synchronized void pollFirst() {
+            if (list.size() > 0) list.deleteFirst();
+        }
+
+        @Override
+        public synchronized void contains(int item) {
+            list.contains(item);
+        }
+    }
+
+    private static final class LockFreeList implements SharedList {
+        private final LockFreeLinkedList<Integer> list = new LockFreeLinkedList<>();
+
+        @Override
+        public void addLast(int item) {
+            list.addLast(item);
+        }
+
+        @Override
+        public void pollFirst() {
+            list.pollFirst();
+        }
+
+        @Override
+        public void contains(int item) {
+            list.contains(item);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package io.github.aliazani.linear.linkedlist.doubly;
 
 import io.github.aliazani.linear.linkedlist.LinkedListNode;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -11,10 +11,15 @@ import lombok.Setter;
  * @param <N> the type of the value contained in the node.
  */
 @Getter
-@Setter
-@RequiredArgsConstructor
-class DoublyLinkedListNode<N> implements LinkedListNode<N> {
-    private final N value;
+public class DoublyLinkedListNode<N> implements LinkedListNode<N> {
+    @Setter(AccessLevel.PACKAGE)
+    private N value;
+    @Setter(AccessLevel.PACKAGE)
     private DoublyLinkedListNode<N> next;
+    @Setter(AccessLevel.PACKAGE)
     private DoublyLinkedListNode<N> prev;
-}
\ No newline at end of file
+
+    public DoublyLinkedListNode(N value) {
+        this.value = value;
+    }
+}
@@ -18,16 +18,66 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
     private DoublyLinkedListNode<N> first;
     private DoublyLinkedListNode<N> last;
     private int size;
+    private final int nodePoolCapacity;
+    private DoublyLinkedListNode<N> freeNodes;
+    private int freeNodeCount;
 
     /**
      * Creates an empty doubly linked list.
      */
     public MyDoublyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty doubly linked list that keeps up to {@code nodePoolCapacity} deleted or unlinked nodes and
+     * reuses them for the next insertions, so a list whose size rises and falls within that bound stops allocating
+     * nodes once it has warmed up. A node must not be used after its element is deleted or the node is unlinked,
+     * because the list may hand it out again with another element.
+     *
+     * @param nodePoolCapacity the maximum number of deleted nodes to keep, 0 to keep none
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public MyDoublyLinkedList(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) throw new IllegalArgumentException();
+
+        this.nodePoolCapacity = nodePoolCapacity;
         first = null;
         last = null;
         size = 0;
     }
 
+    private DoublyLinkedListNode<N> newNode(N item) {
+        if (freeNodes == null) return new DoublyLinkedListNode<>(item);
+
+        DoublyLinkedListNode<N> node = freeNodes;
+        freeNodes = node.getNext();
+        freeNodeCount--;
+
+        node.setNext(null);
+        node.setValue(item);
+
+        return node;
+    }
+
+    private void recycle(DoublyLinkedListNode<N> node) {
+        if (freeNodeCount == nodePoolCapacity) return;
+
+        node.setValue(null);
+        node.setNext(freeNodes);
+        freeNodes = node;
+        freeNodeCount++;
+    }
+
+    /**
+     * Returns the number of deleted nodes this list keeps for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return freeNodeCount;
+    }
+
     /**
      * Adds the specified item to the beginning of this list.
      *
@@ -35,7 +85,7 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
      */
     @Override
     public void addFirst(N item) {
-        DoublyLinkedListNode<N> node = new DoublyLinkedListNode<>(item);
+        DoublyLinkedListNode<N> node = newNode(item);
 
         if (isEmpty())
             insertNewNodeIntoEmptyLinkedList(node);
@@ -68,7 +118,7 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
      */
     @Override
     public void addLast(N item) {
-        DoublyLinkedListNode<N> node = new DoublyLinkedListNode<>(item);
+        DoublyLinkedListNode<N> node = newNode(item);
 
         if (isEmpty())
             insertNewNodeIntoEmptyLinkedList(node);
@@ -85,6 +135,77 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
         last = node;
     }
 
+    /**
+     * Adds the specified item to the end of this list and returns the node holding it, so the node can later be moved
+     * or unlinked in constant time.
+     *
+     * @param item the item to be added to the end of this list
+     * @return the node holding the item
+     */
+    public DoublyLinkedListNode<N> addLastNode(N item) {
+        addLast(item);
+
+        return last;
+    }
+
+    /**
+     * Removes the specified node from this list in constant time. The node must belong to this list.
+     *
+     * @param node the node to remove
+     */
+    public void unlink(DoublyLinkedListNode<N> node) {
+        detach(node);
+        recycle(node);
+    }
+
+    private void detach(DoublyLinkedListNode<N> node) {
+        DoublyLinkedListNode<N> prevNode = node.getPrev();
+        DoublyLinkedListNode<N> nextNode = node.getNext();
+
+        if (prevNode == null) first = nextNode;
+        else prevNode.setNext(nextNode);
+
+        if (nextNode == null) last = prevNode;
+        else nextNode.setPrev(prevNode);
+
+        node.setPrev(null);
+        node.setNext(null);
+
+        size--;
+    }
+
+    /**
+     * Moves the specified node to the end of this list in constant time. The node must belong to this list.
+     *
+     * @param node the node to move
+     */
+    public void moveToLast(DoublyLinkedListNode<N> node) {
+        if (node == last) return;
+
+        detach(node);
+        insertNewNodeAtTheEnd(node);
+
+        size++;
+    }
+
+    /**
+     * Returns the first node of this list.
+     *
+     * @return the first node, or {@code null} if this list is empty
+     */
+    public DoublyLinkedListNode<N> firstNode() {
+        return first;
+    }
+
+    /**
+     * Returns the last node of this list.
+     *
+     * @return the last node, or {@code null} if this list is empty
+     */
+    public DoublyLinkedListNode<N> lastNode() {
+        return last;
+    }
+
 
     /**
      * Adds an element at a specific index of this list.
@@ -102,7 +223,7 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
         else if (index == size)
             addLast(item);
         else {
-            DoublyLinkedListNode<N> insertedNode = new DoublyLinkedListNode<>(item);
+            DoublyLinkedListNode<N> insertedNode = newNode(item);
             DoublyLinkedListNode<N> previousNode = getNode(index - 1);
             DoublyLinkedListNode<N> nodeAtIndex = previousNode.getNext();
 
@@ -124,9 +245,12 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
     @Override
     public void deleteFirst() {
         if (isEmpty()) throw new NoSuchElementException();
-        else if (hasOneItem()) first = last = null;
+
+        DoublyLinkedListNode<N> deleted = first;
+        if (hasOneItem()) first = last = null;
         else removeFirstNode();
 
+        recycle(deleted);
         size--;
     }
 
@@ -151,9 +275,12 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
     @Override
     public void deleteLast() {
         if (isEmpty()) throw new NoSuchElementException();
-        else if (hasOneItem()) first = last = null;
+
+        DoublyLinkedListNode<N> deleted = last;
+        if (hasOneItem()) first = last = null;
         else replaceTheLastNodeWithPrevious();
 
+        recycle(deleted);
         size--;
     }
 
@@ -188,11 +315,94 @@ public class MyDoublyLinkedList<N extends Comparable<N>> implements Iterable<Dou
 
             nodeToDelete.setPrev(null);
             nodeToDelete.setNext(null);
+            recycle(nodeToDelete);
 
             size--;
         }
     }
 
+    /**
+     * Moves every element of the specified list to the end of this list in constant time by relinking the nodes. The
+     * other list is left empty.
+     *
+     * @param other the list whose elements are to be moved
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void concat(MyDoublyLinkedList<N> other) {
+        splice(other, size);
+    }
+
+    /**
+     * Moves every element of the specified list into this list at the specified index by relinking the nodes, so the
+     * first moved element ends up at the index. The other list is left empty. Splicing at either end takes constant
+     * time; splicing in the middle walks to the index from the nearer end.
+     *
+     * @param other the list whose elements are to be moved
+     * @param index the index at which the elements are to be inserted
+     * @throws IllegalArgumentException  if the other list is this list
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    public void splice(MyDoublyLinkedList<N> other, int index) {
+        if (other == this) throw new IllegalArgumentException();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (other.isEmpty()) return;
+
+        DoublyLinkedListNode<N> nodeAtIndex = index == size ? null : nodeFromTheNearerEnd(index);
+        DoublyLinkedListNode<N> previousNode = index == 0 ? null : nodeAtIndex == null ? last : nodeAtIndex.getPrev();
+
+        other.first.setPrev(previousNode);
+        other.last.setNext(nodeAtIndex);
+
+        if (previousNode == null) first = other.first;
+        else previousNode.setNext(other.first);
+
+        if (nodeAtIndex == null) last = other.last;
+        else nodeAtIndex.setPrev(other.last);
+
+        size += other.size;
+        other.first = other.last = null;
+        other.size = 0;
+    }
+
+    /**
+     * Removes the elements from the specified index to the end of this list and returns them as a new list, relinking
+     * the nodes after walking to the index from the nearer end. The new list pools nodes like this one.
+     *
+     * @param index the index of the first element to move to the new list
+     * @return a list holding the elements from the index to the end
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    public MyDoublyLinkedList<N> split(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        MyDoublyLinkedList<N> tail = new MyDoublyLinkedList<>(nodePoolCapacity);
+        if (index == size) return tail;
+
+        DoublyLinkedListNode<N> nodeAtIndex = nodeFromTheNearerEnd(index);
+        DoublyLinkedListNode<N> previousNode = nodeAtIndex.getPrev();
+
+        tail.first = nodeAtIndex;
+        tail.last = last;
+        tail.size = size - index;
+        nodeAtIndex.setPrev(null);
+
+        if (previousNode == null) first = null;
+        else previousNode.setNext(null);
+        last = previousNode;
+        size = index;
+
+        return tail;
+    }
+
+    private DoublyLinkedListNode<N> nodeFromTheNearerEnd(int index) {
+        if (index < size / 2) return getNode(index);
+
+        DoublyLinkedListNode<N> node = last;
+        for (int i = size - 1; i > index; i--) node = node.getPrev();
+
+        return node;
+    }
+
     /**
      * Returns the index of the first occurrence of the specified element in this list,
      * or -1 if this list does not contain the element.
@@ -0,0 +1,424 @@
+package io.github.aliazani.linear.linkedlist.indexed;
+
+import io.github.aliazani.linear.arrays.MyArray;
+import io.github.aliazani.linear.linkedlist.MyLinkedList;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A doubly linked list implementation of the MyLinkedList interface whose nodes are slots of three parallel arrays
+ * instead of objects: a slot holds its value in {@code values} and the slots of its neighbours in {@code next} and
+ * {@code prev}, with -1 for no neighbour.
+ * <p>
+ * Deleted slots are threaded through {@code next} into a free list and taken again by the next insertions, and the
+ * arrays double when no slot is free. A list whose size stays within the capacity it has reached therefore allocates
+ * nothing per insertion or deletion, and its links are plain ints the garbage collector never has to trace. The nodes
+ * returned by {@link #getNode(int)} are views of a slot, made on each call. This class is iterable over the elements
+ * to enable for-each loop usage.
+ *
+ * @param <N> the type of elements stored in the list
+ */
+public class IndexedLinkedList<N extends Comparable<N>> implements Iterable<N>, MyLinkedList<N> {
+    /**
+     * The number of slots of a list created without a capacity.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private static final int NIL = -1;
+
+    private Object[] values;
+    private int[] next;
+    private int[] prev;
+    private int first = NIL;
+    private int last = NIL;
+    private int free = NIL;
+    private int used;
+    private int size;
+
+    /**
+     * Creates an empty list with {@link #DEFAULT_CAPACITY} slots.
+     */
+    public IndexedLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list with the specified number of slots.
+     *
+     * @param capacity the number of elements the list holds before its arrays grow
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    public IndexedLinkedList(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException();
+
+        values = new Object[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+    }
+
+    /**
+     * Adds the specified item to the beginning of this list.
+     *
+     * @param item the item to be added to the beginning of this list
+     */
+    @Override
+    public void addFirst(N item) {
+        linkBefore(first, item);
+    }
+
+    /**
+     * Adds the specified item to the end of this list.
+     *
+     * @param item the item to be added to the end of this list
+     */
+    @Override
+    public void addLast(N item) {
+        linkBefore(NIL, item);
+    }
+
+    /**
+     * Adds an element at a specific index of this list, walking from the nearer end to the index.
+     *
+     * @param item  the element to be added to the list
+     * @param index the index at which the element is to be inserted
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    @Override
+    public void add(N item, int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        linkBefore(index == size ? NIL : slotAt(index), item);
+    }
+
+    /**
+     * Links a new slot holding the item before the given slot, or at the end if the given slot is -1.
+     */
+    private void linkBefore(int successor, N item) {
+        int slot = allocate();
+        int predecessor = successor == NIL ? last : prev[successor];
+
+        values[slot] = item;
+        next[slot] = successor;
+        prev[slot] = predecessor;
+
+        if (predecessor == NIL) first = slot;
+        else next[predecessor] = slot;
+
+        if (successor == NIL) last = slot;
+        else prev[successor] = slot;
+
+        size++;
+    }
+
+    private int allocate() {
+        if (free != NIL) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+
+        if (used == values.length) grow();
+
+        return used++;
+    }
+
+    private void grow() {
+        int capacity = 2 * values.length;
+        values = Arrays.copyOf(values, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    /**
+     * Deletes the first element of this list.
+     *
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public void deleteFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+
+        unlink(first);
+    }
+
+    private boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes the last element from this linked list.
+     *
+     * @throws NoSuchElementException if the linked list is empty.
+     */
+    @Override
+    public void deleteLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+
+        unlink(last);
+    }
+
+    /**
+     * Removes the element at the specified position in this linked list, walking from the nearer end to the index.
+     *
+     * @param index The index of the element to be removed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public void delete(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        unlink(slotAt(index));
+    }
+
+    /**
+     * Unlinks the slot from the list and pushes it onto the free list.
+     */
+    private void unlink(int slot) {
+        int predecessor = prev[slot];
+        int successor = next[slot];
+
+        if (predecessor == NIL) first = successor;
+        else next[predecessor] = successor;
+
+        if (successor == NIL) last = predecessor;
+        else prev[successor] = predecessor;
+
+        values[slot] = null;
+        prev[slot] = NIL;
+        next[slot] = free;
+        free = slot;
+
+        size--;
+    }
+
+    private int slotAt(int index) {
+        int slot;
+        if (index < size / 2) {
+            slot = first;
+            for (int i = 0; i < index; i++) slot = next[slot];
+        } else {
+            slot = last;
+            for (int i = size - 1; i > index; i--) slot = prev[slot];
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param item the element to search for
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element
+     */
+    @Override
+    public int indexOf(N item) {
+        if (item == null) return -1;
+
+        int index = 0;
+        for (int slot = first; slot != NIL; slot = next[slot]) {
+            if (item.equals(values[slot])) return index;
+
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     *
+     * @param item the element to check for
+     * @return true if this list contains the specified element, false otherwise
+     */
+    @Override
+    public boolean contains(N item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots this list holds before its arrays grow.
+     *
+     * @return the number of slots of this list
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Returns true if the forward links of this list contain a loop, false otherwise.
+     *
+     * @return true if this linked list contains a loop, false otherwise
+     */
+    @Override
+    public boolean hasLoop() {
+        int slow = first;
+        int fast = first;
+
+        while (slow != NIL && fast != NIL && next[fast] != NIL) {
+            slow = next[slow];
+            fast = next[next[fast]];
+
+            if (slow == fast) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     *
+     * @return an array containing all the elements in this list in proper sequence
+     */
+    @Override
+    public MyArray<N> toArray() {
+        MyArray<N> array = new MyArray<>(size);
+
+        for (N item : this) array.insert(item);
+
+        return array;
+    }
+
+    /**
+     * Reverses the order of the elements in this list by swapping the links of every slot.
+     */
+    @Override
+    public void reverse() {
+        for (int slot = first; slot != NIL; slot = prev[slot]) {
+            int successor = next[slot];
+            next[slot] = prev[slot];
+            prev[slot] = successor;
+        }
+
+        int oldFirst = first;
+        first = last;
+        last = oldFirst;
+    }
+
+    /**
+     * Returns the value of the k-th element from the end of this list.
+     *
+     * @param k the distance from the end of the list (1 {@literal <}= k {@literal <}= size)
+     * @return the value of the k-th element from the end of this list
+     * @throws IllegalArgumentException if this list is empty or if k is not between 1 and the size of the list
+     */
+    @Override
+    public N getKthFromTheEnd(int k) {
+        if (isEmpty() || k < 1 || k > size) throw new IllegalArgumentException();
+
+        int slot = last;
+        for (int i = 1; i < k; i++) slot = prev[slot];
+
+        return value(slot);
+    }
+
+    /**
+     * Returns the value of the middle element(s) in this list.
+     *
+     * @return the value of the middle element(s) in this list
+     * @throws IllegalArgumentException if this list is empty
+     */
+    @Override
+    public String getMiddle() {
+        if (isEmpty()) throw new IllegalArgumentException();
+
+        int middle = slotAt((size - 1) / 2);
+        if (size % 2 == 1)
+            return MessageFormat.format("Middle = {0}", value(middle));
+        else
+            return MessageFormat.format("Middle = {0}, {1}", value(middle), value(next[middle]));
+    }
+
+    /**
+     * Returns a view of the node at the specified index in this list.
+     *
+     * @param index the index of the node to return
+     * @return the node at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size)
+     */
+    @Override
+    public IndexedLinkedListNode<N> getNode(int index) {
+        if (index > size - 1 || index < 0)
+            throw new IndexOutOfBoundsException();
+
+        int slot = slotAt(index);
+
+        return new IndexedLinkedListNode<>(slot, value(slot));
+    }
+
+    /**
+     * Returns the value of the node at the specified index in this list.
+     *
+     * @param index the index of the node to return
+     * @return the value of the node at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size)
+     */
+    @Override
+    public N getNodeValue(int index) {
+        if (index > size - 1 || index < 0)
+            throw new IndexOutOfBoundsException();
+
+        return value(slotAt(index));
+    }
+
+    private N value(int slot) {
+        return (N) values[slot];
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringFormOfLinkedList = new StringBuilder("[");
+
+        for (int slot = first; slot != NIL; slot = next[slot]) {
+            stringFormOfLinkedList.append(values[slot]);
+            if (next[slot] != NIL) stringFormOfLinkedList.append(" ↔ ");
+        }
+
+        stringFormOfLinkedList.append("]");
+
+        return stringFormOfLinkedList.toString();
+    }
+
+    @Override
+    public Iterator<N> iterator() {
+        return new IndexedLinkedListIterator();
+    }
+
+    private class IndexedLinkedListIterator implements Iterator<N> {
+        private int current = first;
+
+        @Override
+        public boolean hasNext() {
+            return current != NIL;
+        }
+
+        @Override
+        public N next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            N result = value(current);
+            current = next[current];
+
+            return result;
+        }
+    }
+}
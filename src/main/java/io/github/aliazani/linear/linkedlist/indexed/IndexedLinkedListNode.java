@@ -0,0 +1,18 @@
+package io.github.aliazani.linear.linkedlist.indexed;
+
+import io.github.aliazani.linear.linkedlist.LinkedListNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A view of a node of an indexed linked list: the slot of the node in the arrays of the list and the value it held when
+ * the view was taken.
+ *
+ * @param <N> the type of the value contained in the node.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IndexedLinkedListNode<N> implements LinkedListNode<N> {
+    private final int slot;
+    private final N value;
+}
@@ -18,16 +18,66 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
     private SinglyLinkedListNode<N> first;
     private SinglyLinkedListNode<N> last;
     private int size;
+    private final int nodePoolCapacity;
+    private SinglyLinkedListNode<N> freeNodes;
+    private int freeNodeCount;
 
     /**
      * Constructs an empty list.
      */
     public MySinglyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty list that keeps up to {@code nodePoolCapacity} deleted nodes and reuses them for the next
+     * insertions, so a list whose size rises and falls within that bound stops allocating nodes once it has warmed up.
+     * A node returned by {@link #getNode(int)} or the iterator must not be used after its element is deleted, because
+     * the list may hand it out again with another element.
+     *
+     * @param nodePoolCapacity the maximum number of deleted nodes to keep, 0 to keep none
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public MySinglyLinkedList(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) throw new IllegalArgumentException();
+
+        this.nodePoolCapacity = nodePoolCapacity;
         first = null;
         last = null;
         size = 0;
     }
 
+    private SinglyLinkedListNode<N> newNode(N item) {
+        if (freeNodes == null) return new SinglyLinkedListNode<>(item);
+
+        SinglyLinkedListNode<N> node = freeNodes;
+        freeNodes = node.getNext();
+        freeNodeCount--;
+
+        node.setNext(null);
+        node.setValue(item);
+
+        return node;
+    }
+
+    private void recycle(SinglyLinkedListNode<N> node) {
+        if (freeNodeCount == nodePoolCapacity) return;
+
+        node.setValue(null);
+        node.setNext(freeNodes);
+        freeNodes = node;
+        freeNodeCount++;
+    }
+
+    /**
+     * Returns the number of deleted nodes this list keeps for reuse.
+     *
+     * @return the number of pooled nodes
+     */
+    public int pooledNodes() {
+        return freeNodeCount;
+    }
+
     /**
      * Adds an element to the beginning of this list.
      *
@@ -35,7 +85,7 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
      */
     @Override
     public void addFirst(N item) {
-        SinglyLinkedListNode<N> node = new SinglyLinkedListNode<>(item);
+        SinglyLinkedListNode<N> node = newNode(item);
 
         if (isEmpty())
             insertNewNodeToEmptyLinkedList(node);
@@ -57,7 +107,7 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
      */
     @Override
     public void addLast(N item) {
-        SinglyLinkedListNode<N> node = new SinglyLinkedListNode<>(item);
+        SinglyLinkedListNode<N> node = newNode(item);
 
         if (isEmpty())
             insertNewNodeToEmptyLinkedList(node);
@@ -97,7 +147,7 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
         else if (index == size)
             addLast(item);
         else {
-            SinglyLinkedListNode<N> insertedNode = new SinglyLinkedListNode<>(item);
+            SinglyLinkedListNode<N> insertedNode = newNode(item);
             SinglyLinkedListNode<N> previousNode = getNode(index - 1);
             SinglyLinkedListNode<N> nodeAtIndex = previousNode.getNext();
 
@@ -117,9 +167,11 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
     public void deleteFirst() {
         if (isEmpty()) throw new NoSuchElementException();
 
+        SinglyLinkedListNode<N> deleted = first;
         if (hasOneItem()) first = last = null;
         else removeFirstNode();
 
+        recycle(deleted);
         size--;
     }
 
@@ -138,9 +190,11 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
     public void deleteLast() {
         if (isEmpty()) throw new NoSuchElementException();
 
+        SinglyLinkedListNode<N> deleted = last;
         if (hasOneItem()) first = last = null;
         else replaceTheLastNodeWithPrevious(getPrevious(last));
 
+        recycle(deleted);
         size--;
     }
 
@@ -180,11 +234,80 @@ public class MySinglyLinkedList<N extends Comparable<N>> implements Iterable<Sin
 
             prevNode.setNext(nodeToDelete.getNext());
             nodeToDelete.setNext(null);
+            recycle(nodeToDelete);
 
             size--;
         }
     }
 
+    /**
+     * Moves every element of the specified list to the end of this list in constant time by relinking the nodes. The
+     * other list is left empty.
+     *
+     * @param other the list whose elements are to be moved
+     * @throws IllegalArgumentException if the other list is this list
+     */
+    public void concat(MySinglyLinkedList<N> other) {
+        splice(other, size);
+    }
+
+    /**
+     * Moves every element of the specified list into this list at the specified index by relinking the nodes, so the
+     * first moved element ends up at the index. The other list is left empty. Splicing at either end takes constant
+     * time; splicing in the middle walks to the index.
+     *
+     * @param other the list whose elements are to be moved
+     * @param index the index at which the elements are to be inserted
+     * @throws IllegalArgumentException  if the other list is this list
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    public void splice(MySinglyLinkedList<N> other, int index) {
+        if (other == this) throw new IllegalArgumentException();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Invalid index: " + index);
+        if (other.isEmpty()) return;
+
+        if (index == 0) {
+            other.last.setNext(first);
+            first = other.first;
+        } else {
+            SinglyLinkedListNode<N> previousNode = index == size ? last : getNode(index - 1);
+            other.last.setNext(previousNode.getNext());
+            previousNode.setNext(other.first);
+        }
+        if (index == size) last = other.last;
+
+        size += other.size;
+        other.first = other.last = null;
+        other.size = 0;
+    }
+
+    /**
+     * Removes the elements from the specified index to the end of this list and returns them as a new list, relinking
+     * the nodes in time proportional to the index. The new list pools nodes like this one.
+     *
+     * @param index the index of the first element to move to the new list
+     * @return a list holding the elements from the index to the end
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    public MySinglyLinkedList<N> split(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Invalid index: " + index);
+
+        MySinglyLinkedList<N> tail = new MySinglyLinkedList<>(nodePoolCapacity);
+        if (index == size) return tail;
+
+        SinglyLinkedListNode<N> previousNode = index == 0 ? null : getNode(index - 1);
+        tail.first = previousNode == null ? first : previousNode.getNext();
+        tail.last = last;
+        tail.size = size - index;
+
+        if (previousNode == null) first = null;
+        else previousNode.setNext(null);
+        last = previousNode;
+        size = index;
+
+        return tail;
+    }
+
     /**
      * Returns the index of the first occurrence of the specified element in this list,
      * or -1 if this list does not contain the element.
@@ -2,7 +2,6 @@ package io.github.aliazani.linear.linkedlist.singly;
 
 import io.github.aliazani.linear.linkedlist.LinkedListNode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 
@@ -13,8 +12,11 @@ import lombok.Setter;
  */
 @Getter
 @Setter
-@RequiredArgsConstructor
 class SinglyLinkedListNode<N> implements LinkedListNode<N> {
-    private final N value;
+    private N value;
     private SinglyLinkedListNode<N> next;
-}
\ No newline at end of file
+
+    SinglyLinkedListNode(N value) {
+        this.value = value;
+    }
+}
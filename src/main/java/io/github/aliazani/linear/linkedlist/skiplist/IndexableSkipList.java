@@ -0,0 +1,385 @@
+package io.github.aliazani.linear.linkedlist.skiplist;
+
+import io.github.aliazani.linear.arrays.MyArray;
+import io.github.aliazani.linear.linkedlist.MyLinkedList;
+
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An indexable skip list implementation of the MyLinkedList interface. Level 0 links every element in list order like
+ * a singly linked list, and each higher level links a random half of the nodes of the level below as an express lane.
+ * Every link records how many positions it skips, so {@link #getNode(int)}, {@link #add(Comparable, int)} and
+ * {@link #delete(int)} descend the lanes by position in O(log n) expected time, while iteration walks level 0 only.
+ * <p>
+ * The list is ordered by position, not by value. This class is iterable over the elements to enable for-each loop
+ * usage.
+ *
+ * @param <N> the type of elements stored in the list
+ */
+public class IndexableSkipList<N extends Comparable<N>> implements Iterable<N>, MyLinkedList<N> {
+    static final int MAX_LEVEL = 32;
+
+    private final SkipListNode<N> head = new SkipListNode<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    /**
+     * Adds the specified item to the beginning of this list.
+     *
+     * @param item the item to be added to the beginning of this list
+     */
+    @Override
+    public void addFirst(N item) {
+        add(item, 0);
+    }
+
+    /**
+     * Adds the specified item to the end of this list.
+     *
+     * @param item the item to be added to the end of this list
+     */
+    @Override
+    public void addLast(N item) {
+        add(item, size);
+    }
+
+    /**
+     * Adds an element at a specific index of this list in O(log n) expected time.
+     *
+     * @param item  the element to be added to the list
+     * @param index the index at which the element is to be inserted
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    @Override
+    public void add(N item, int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        SkipListNode<N>[] predecessors = new SkipListNode[MAX_LEVEL];
+        int[] positions = new int[MAX_LEVEL];
+        findPredecessors(index, predecessors, positions);
+
+        SkipListNode<N> node = new SkipListNode<>(item, randomLevel());
+        for (int lvl = level; lvl < node.level(); lvl++) {
+            predecessors[lvl] = head;
+            positions[lvl] = 0;
+            head.setSpan(lvl, size + 1);
+        }
+        level = Math.max(level, node.level());
+
+        for (int lvl = 0; lvl < level; lvl++) {
+            SkipListNode<N> predecessor = predecessors[lvl];
+            if (lvl < node.level()) {
+                int skipped = index - positions[lvl];
+                node.setNext(lvl, predecessor.getNext(lvl));
+                node.setSpan(lvl, predecessor.getSpan(lvl) - skipped);
+                predecessor.setNext(lvl, node);
+                predecessor.setSpan(lvl, skipped + 1);
+            } else {
+                predecessor.setSpan(lvl, predecessor.getSpan(lvl) + 1);
+            }
+        }
+
+        size++;
+    }
+
+    /**
+     * Finds, on every level, the last node before position {@code index + 1}, counting the head as position 0, and its
+     * position.
+     */
+    private void findPredecessors(int index, SkipListNode<N>[] predecessors, int[] positions) {
+        SkipListNode<N> node = head;
+        int position = 0;
+        for (int lvl = level - 1; lvl >= 0; lvl--) {
+            while (node.getNext(lvl) != null && position + node.getSpan(lvl) <= index) {
+                position += node.getSpan(lvl);
+                node = node.getNext(lvl);
+            }
+
+            predecessors[lvl] = node;
+            positions[lvl] = position;
+        }
+    }
+
+    private static int randomLevel() {
+        return Math.min(MAX_LEVEL, 1 + Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt()));
+    }
+
+    /**
+     * Deletes the first element of this list.
+     *
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public void deleteFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+
+        delete(0);
+    }
+
+    private boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes the last element from this linked list.
+     *
+     * @throws NoSuchElementException if the linked list is empty.
+     */
+    @Override
+    public void deleteLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+
+        delete(size - 1);
+    }
+
+    /**
+     * Removes the element at the specified position in this linked list in O(log n) expected time.
+     *
+     * @param index The index of the element to be removed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public void delete(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        SkipListNode<N>[] predecessors = new SkipListNode[MAX_LEVEL];
+        findPredecessors(index, predecessors, new int[MAX_LEVEL]);
+
+        SkipListNode<N> target = predecessors[0].getNext();
+        for (int lvl = 0; lvl < level; lvl++) {
+            SkipListNode<N> predecessor = predecessors[lvl];
+            if (predecessor.getNext(lvl) == target) {
+                predecessor.setSpan(lvl, predecessor.getSpan(lvl) + target.getSpan(lvl) - 1);
+                predecessor.setNext(lvl, target.getNext(lvl));
+                target.setNext(lvl, null);
+            } else {
+                predecessor.setSpan(lvl, predecessor.getSpan(lvl) - 1);
+            }
+        }
+
+        while (level > 1 && head.getNext(level - 1) == null) level--;
+        size--;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param item the element to search for
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element
+     */
+    @Override
+    public int indexOf(N item) {
+        if (item == null) return -1;
+
+        int index = 0;
+        for (N value : this) {
+            if (item.equals(value)) return index;
+
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     *
+     * @param item the element to check for
+     * @return true if this list contains the specified element, false otherwise
+     */
+    @Override
+    public boolean contains(N item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the level 0 links of this list contain a loop, false otherwise.
+     *
+     * @return true if this linked list contains a loop, false otherwise
+     */
+    @Override
+    public boolean hasLoop() {
+        SkipListNode<N> slow = head.getNext();
+        SkipListNode<N> fast = slow;
+
+        while (slow != null && fast != null && fast.getNext() != null) {
+            slow = slow.getNext();
+            fast = fast.getNext().getNext();
+
+            if (slow == fast) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     *
+     * @return an array containing all the elements in this list in proper sequence
+     */
+    @Override
+    public MyArray<N> toArray() {
+        MyArray<N> array = new MyArray<>(size);
+
+        for (N item : this) array.insert(item);
+
+        return array;
+    }
+
+    /**
+     * Reverses the order of the elements in this list in O(n) time, relinking the nodes in reverse order on every level
+     * they belong to.
+     */
+    @Override
+    public void reverse() {
+        SkipListNode<N>[] nodes = new SkipListNode[size];
+        SkipListNode<N> node = head.getNext();
+        for (int i = size - 1; i >= 0; i--) {
+            nodes[i] = node;
+            node = node.getNext();
+        }
+
+        SkipListNode<N>[] tails = new SkipListNode[MAX_LEVEL];
+        int[] tailPositions = new int[MAX_LEVEL];
+        for (int lvl = 0; lvl < MAX_LEVEL; lvl++) {
+            tails[lvl] = head;
+            head.setNext(lvl, null);
+        }
+
+        for (int i = 0; i < size; i++) {
+            SkipListNode<N> current = nodes[i];
+            for (int lvl = 0; lvl < current.level(); lvl++) {
+                tails[lvl].setNext(lvl, current);
+                tails[lvl].setSpan(lvl, i + 1 - tailPositions[lvl]);
+                current.setNext(lvl, null);
+                tails[lvl] = current;
+                tailPositions[lvl] = i + 1;
+            }
+        }
+
+        for (int lvl = 0; lvl < level; lvl++) tails[lvl].setSpan(lvl, size + 1 - tailPositions[lvl]);
+    }
+
+    /**
+     * Returns the value of the k-th element from the end of this list.
+     *
+     * @param k the distance from the end of the list (1 {@literal <}= k {@literal <}= size)
+     * @return the value of the k-th element from the end of this list
+     * @throws IllegalArgumentException if this list is empty or if k is not between 1 and the size of the list
+     */
+    @Override
+    public N getKthFromTheEnd(int k) {
+        if (isEmpty() || k < 1 || k > size) throw new IllegalArgumentException();
+
+        return getNodeValue(size - k);
+    }
+
+    /**
+     * Returns the value of the middle element(s) in this list.
+     *
+     * @return the value of the middle element(s) in this list
+     * @throws IllegalArgumentException if this list is empty
+     */
+    @Override
+    public String getMiddle() {
+        if (isEmpty()) throw new IllegalArgumentException();
+
+        if (size % 2 == 1)
+            return MessageFormat.format("Middle = {0}", getNodeValue(size / 2));
+        else
+            return MessageFormat.format("Middle = {0}, {1}", getNodeValue(size / 2 - 1), getNodeValue(size / 2));
+    }
+
+    /**
+     * Returns the node at the specified index in this list in O(log n) expected time.
+     *
+     * @param index the index of the node to return
+     * @return the node at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size)
+     */
+    @Override
+    public SkipListNode<N> getNode(int index) {
+        if (index > size - 1 || index < 0)
+            throw new IndexOutOfBoundsException();
+
+        SkipListNode<N> node = head;
+        int position = 0;
+        for (int lvl = level - 1; lvl >= 0; lvl--)
+            while (node.getNext(lvl) != null && position + node.getSpan(lvl) <= index + 1) {
+                position += node.getSpan(lvl);
+                node = node.getNext(lvl);
+            }
+
+        return node;
+    }
+
+    /**
+     * Returns the value of the node at the specified index in this list.
+     *
+     * @param index the index of the node to return
+     * @return the value of the node at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size)
+     */
+    @Override
+    public N getNodeValue(int index) {
+        return getNode(index).getValue();
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringFormOfLinkedList = new StringBuilder("[");
+
+        for (SkipListNode<N> node = head.getNext(); node != null; node = node.getNext()) {
+            stringFormOfLinkedList.append(node.getValue());
+            if (node.getNext() != null) stringFormOfLinkedList.append(" -> ");
+        }
+
+        stringFormOfLinkedList.append("]");
+
+        return stringFormOfLinkedList.toString();
+    }
+
+    @Override
+    public Iterator<N> iterator() {
+        return new IndexableSkipListIterator();
+    }
+
+    private class IndexableSkipListIterator implements Iterator<N> {
+        private SkipListNode<N> current = head.getNext();
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public N next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            N result = current.getValue();
+            current = current.getNext();
+
+            return result;
+        }
+    }
+}
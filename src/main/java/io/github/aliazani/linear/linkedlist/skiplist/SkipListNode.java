@@ -0,0 +1,58 @@
+package io.github.aliazani.linear.linkedlist.skiplist;
+
+import io.github.aliazani.linear.linkedlist.LinkedListNode;
+import lombok.Getter;
+
+/**
+ * Represents a node in an indexable skip list. On every level the node belongs to, it links to the next node of that
+ * level and records the span, the number of positions the link skips. The level 0 link, which always spans one
+ * position, is a plain field so that walking the list in order reads no arrays; only nodes that reach the express
+ * lanes allocate arrays for them.
+ *
+ * @param <N> the type of the value contained in the node.
+ */
+class SkipListNode<N> implements LinkedListNode<N> {
+    private static final SkipListNode<?>[] NO_LINKS = new SkipListNode<?>[0];
+    private static final int[] NO_SPANS = new int[0];
+
+    @Getter
+    private final N value;
+    private SkipListNode<N> next;
+    private final SkipListNode<N>[] expressNext;
+    private final int[] expressSpan;
+
+    SkipListNode(N value, int level) {
+        this.value = value;
+        expressNext = level == 1 ? (SkipListNode<N>[]) NO_LINKS : new SkipListNode[level - 1];
+        expressSpan = level == 1 ? NO_SPANS : new int[level - 1];
+    }
+
+    int level() {
+        return expressNext.length + 1;
+    }
+
+    SkipListNode<N> getNext() {
+        return next;
+    }
+
+    SkipListNode<N> getNext(int level) {
+        return level == 0 ? next : expressNext[level - 1];
+    }
+
+    void setNext(int level, SkipListNode<N> node) {
+        if (level == 0) next = node;
+        else expressNext[level - 1] = node;
+    }
+
+    int getSpan(int level) {
+        return level == 0 ? 1 : expressSpan[level - 1];
+    }
+
+    /**
+     * Sets the span of the link on the given level. Level 0 links always span one position, so setting their span does
+     * nothing.
+     */
+    void setSpan(int level, int span) {
+        if (level > 0) expressSpan[level - 1] = span;
+    }
+}
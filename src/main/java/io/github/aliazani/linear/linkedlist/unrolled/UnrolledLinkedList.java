@@ -0,0 +1,459 @@
+package io.github.aliazani.linear.linkedlist.unrolled;
+
+import io.github.aliazani.linear.arrays.MyArray;
+import io.github.aliazani.linear.linkedlist.MyLinkedList;
+
+import java.text.MessageFormat;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled linked list implementation of the MyLinkedList interface. Each UnrolledLinkedListNode holds up to a fixed
+ * number of consecutive elements in an array, so a traversal follows one pointer per node instead of one per element
+ * and reads the elements from contiguous memory. Nodes are linked in both directions, and a node is split when an
+ * insertion finds it full and merged with its successor when it falls below half full.
+ * <p>
+ * The nodes returned by {@link #getNode(int)} are the nodes holding the element at the index. This class is iterable
+ * over the elements to enable for-each loop usage.
+ *
+ * @param <N> the type of elements stored in the list
+ */
+public class UnrolledLinkedList<N extends Comparable<N>> implements Iterable<N>, MyLinkedList<N> {
+    /**
+     * The number of elements a node holds when no capacity is given. With compressed references a full node costs
+     * about 4.6 bytes per element, against 24 bytes per element for a singly linked list node.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private UnrolledLinkedListNode<N> first;
+    private UnrolledLinkedListNode<N> last;
+    private int size;
+
+    /**
+     * Creates an empty unrolled linked list with nodes of {@link #DEFAULT_NODE_CAPACITY} elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Creates an empty unrolled linked list with nodes of the specified number of elements.
+     *
+     * @param nodeCapacity the number of elements a node holds
+     * @throws IllegalArgumentException if the node capacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) throw new IllegalArgumentException();
+
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * Adds the specified item to the beginning of this list.
+     *
+     * @param item the item to be added to the beginning of this list
+     */
+    @Override
+    public void addFirst(N item) {
+        if (isEmpty() || first.isFull()) linkBefore(first, new UnrolledLinkedListNode<>(nodeCapacity));
+
+        first.insert(0, item);
+        size++;
+    }
+
+    private boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds the specified item to the end of this list.
+     *
+     * @param item the item to be added to the end of this list
+     */
+    @Override
+    public void addLast(N item) {
+        if (isEmpty() || last.isFull()) linkAfter(last, new UnrolledLinkedListNode<>(nodeCapacity));
+
+        last.insert(last.getCount(), item);
+        size++;
+    }
+
+    private void linkBefore(UnrolledLinkedListNode<N> successor, UnrolledLinkedListNode<N> node) {
+        if (successor == null) {
+            first = last = node;
+            return;
+        }
+
+        UnrolledLinkedListNode<N> predecessor = successor.getPrev();
+        node.setPrev(predecessor);
+        node.setNext(successor);
+        successor.setPrev(node);
+
+        if (predecessor == null) first = node;
+        else predecessor.setNext(node);
+    }
+
+    private void linkAfter(UnrolledLinkedListNode<N> predecessor, UnrolledLinkedListNode<N> node) {
+        if (predecessor == null) {
+            first = last = node;
+            return;
+        }
+
+        UnrolledLinkedListNode<N> successor = predecessor.getNext();
+        node.setPrev(predecessor);
+        node.setNext(successor);
+        predecessor.setNext(node);
+
+        if (successor == null) last = node;
+        else successor.setPrev(node);
+    }
+
+    private void unlink(UnrolledLinkedListNode<N> node) {
+        UnrolledLinkedListNode<N> prevNode = node.getPrev();
+        UnrolledLinkedListNode<N> nextNode = node.getNext();
+
+        if (prevNode == null) first = nextNode;
+        else prevNode.setNext(nextNode);
+
+        if (nextNode == null) last = prevNode;
+        else nextNode.setPrev(prevNode);
+
+        node.setPrev(null);
+        node.setNext(null);
+    }
+
+    /**
+     * Adds an element at a specific index of this list. A full node is split in halves first.
+     *
+     * @param item  the element to be added to the list
+     * @param index the index at which the element is to be inserted
+     * @throws IndexOutOfBoundsException if index is out of range (index {@literal <} 0 || index {@literal >} size())
+     */
+    @Override
+    public void add(N item, int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        if (index == size) {
+            addLast(item);
+            return;
+        }
+
+        Position<N> position = locate(index);
+        UnrolledLinkedListNode<N> node = position.node();
+        int offset = position.offset();
+        if (node.isFull()) {
+            UnrolledLinkedListNode<N> sibling = new UnrolledLinkedListNode<>(nodeCapacity);
+            linkAfter(node, sibling);
+
+            int half = node.getCount() / 2;
+            node.moveTail(half, sibling);
+            if (offset > half) {
+                node = sibling;
+                offset -= half;
+            }
+        }
+
+        node.insert(offset, item);
+        size++;
+    }
+
+    /**
+     * Deletes the first element of this list.
+     *
+     * @throws NoSuchElementException if this list is empty
+     */
+    @Override
+    public void deleteFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+
+        delete(0);
+    }
+
+    /**
+     * Removes the last element from this linked list.
+     *
+     * @throws NoSuchElementException if the linked list is empty.
+     */
+    @Override
+    public void deleteLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+
+        delete(size - 1);
+    }
+
+    /**
+     * Removes the element at the specified position in this linked list. A node left less than half full takes over the
+     * elements of its successor when they fit.
+     *
+     * @param index The index of the element to be removed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @Override
+    public void delete(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        Position<N> position = locate(index);
+        UnrolledLinkedListNode<N> node = position.node();
+        node.remove(position.offset());
+        size--;
+
+        UnrolledLinkedListNode<N> nextNode = node.getNext();
+        if (node.getCount() == 0) unlink(node);
+        else if (node.getCount() < nodeCapacity / 2 && nextNode != null
+                && node.getCount() + nextNode.getCount() <= nodeCapacity) {
+            nextNode.moveTail(0, node);
+            unlink(nextNode);
+        }
+    }
+
+    /**
+     * Finds the node holding the element at the index and the offset of the element in it, walking from the nearer end
+     * of the list.
+     */
+    private Position<N> locate(int index) {
+        if (index < size / 2) {
+            UnrolledLinkedListNode<N> node = first;
+            while (index >= node.getCount()) {
+                index -= node.getCount();
+                node = node.getNext();
+            }
+
+            return new Position<>(node, index);
+        }
+
+        int fromTheEnd = size - 1 - index;
+        UnrolledLinkedListNode<N> node = last;
+        while (fromTheEnd >= node.getCount()) {
+            fromTheEnd -= node.getCount();
+            node = node.getPrev();
+        }
+
+        return new Position<>(node, node.getCount() - 1 - fromTheEnd);
+    }
+
+    private record Position<N>(UnrolledLinkedListNode<N> node, int offset) {
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element.
+     *
+     * @param item the element to search for
+     * @return the index of the first occurrence of the specified element in this list,
+     * or -1 if this list does not contain the element
+     */
+    @Override
+    public int indexOf(N item) {
+        if (item == null) return -1;
+
+        int index = 0;
+        for (UnrolledLinkedListNode<N> node = first; node != null; node = node.getNext()) {
+            Object[] values = node.getValues();
+            for (int i = 0; i < node.getCount(); i++)
+                if (item.equals(values[i])) return index + i;
+
+            index += node.getCount();
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if this list contains the specified element.
+     *
+     * @param item the element to check for
+     * @return true if this list contains the specified element, false otherwise
+     */
+    @Override
+    public boolean contains(N item) {
+        return indexOf(item) != -1;
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if the nodes of this linked list contain a loop, false otherwise.
+     *
+     * @return true if this linked list contains a loop, false otherwise
+     */
+    @Override
+    public boolean hasLoop() {
+        UnrolledLinkedListNode<N> slow = first;
+        UnrolledLinkedListNode<N> fast = first;
+
+        while (slow != null && fast != null && fast.getNext() != null) {
+            slow = slow.getNext();
+            fast = fast.getNext().getNext();
+
+            if (slow == fast) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns an array containing all the elements in this list in proper sequence.
+     *
+     * @return an array containing all the elements in this list in proper sequence
+     */
+    @Override
+    public MyArray<N> toArray() {
+        MyArray<N> array = new MyArray<>(size);
+
+        for (N item : this) array.insert(item);
+
+        return array;
+    }
+
+    /**
+     * Reverses the order of the elements in this list by reversing the order of the nodes and of the elements within
+     * every node.
+     */
+    @Override
+    public void reverse() {
+        UnrolledLinkedListNode<N> node = first;
+        while (node != null) {
+            UnrolledLinkedListNode<N> nextNode = node.getNext();
+            node.setNext(node.getPrev());
+            node.setPrev(nextNode);
+            node.reverseValues();
+
+            node = nextNode;
+        }
+
+        UnrolledLinkedListNode<N> oldFirst = first;
+        first = last;
+        last = oldFirst;
+    }
+
+    /**
+     * Returns the value of the k-th element from the end of this list.
+     *
+     * @param k the distance from the end of the list (1 {@literal <}= k {@literal <}= size)
+     * @return the value of the k-th element from the end of this list
+     * @throws IllegalArgumentException if this list is empty or if k is not between 1 and the size of the list
+     */
+    @Override
+    public N getKthFromTheEnd(int k) {
+        if (isEmpty() || k < 1 || k > size) throw new IllegalArgumentException();
+
+        return getNodeValue(size - k);
+    }
+
+    /**
+     * Returns the value of the middle element(s) in this list.
+     *
+     * @return the value of the middle element(s) in this list
+     * @throws IllegalArgumentException if this list is empty
+     */
+    @Override
+    public String getMiddle() {
+        if (isEmpty()) throw new IllegalArgumentException();
+
+        if (size % 2 == 1)
+            return MessageFormat.format("Middle = {0}", getNodeValue(size / 2));
+        else
+            return MessageFormat.format("Middle = {0}, {1}", getNodeValue(size / 2 - 1), getNodeValue(size / 2));
+    }
+
+    /**
+     * Returns the node holding the element at the specified index in this list.
+     *
+     * @param index the index of the element whose node to return
+     * @return the node holding the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size)
+     */
+    @Override
+    public UnrolledLinkedListNode<N> getNode(int index) {
+        if (index > size - 1 || index < 0)
+            throw new IndexOutOfBoundsException();
+
+        return locate(index).node();
+    }
+
+    /**
+     * Returns the element at the specified index in this list.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index in this list
+     * @throws IndexOutOfBoundsException if the index is out of range (index {@literal <} 0 || index {@literal >}= size)
+     */
+    @Override
+    public N getNodeValue(int index) {
+        if (index > size - 1 || index < 0)
+            throw new IndexOutOfBoundsException();
+
+        Position<N> position = locate(index);
+
+        return position.node().getValue(position.offset());
+    }
+
+    /**
+     * Returns the number of nodes holding the elements of this list.
+     *
+     * @return the number of nodes in this list
+     */
+    public int nodeCount() {
+        int count = 0;
+        for (UnrolledLinkedListNode<N> node = first; node != null; node = node.getNext()) count++;
+
+        return count;
+    }
+
+    /**
+     * Returns a string representation of this list.
+     *
+     * @return a string representation of this list
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringFormOfLinkedList = new StringBuilder("[");
+
+        Iterator<N> iterator = iterator();
+        while (iterator.hasNext()) {
+            stringFormOfLinkedList.append(iterator.next());
+            if (iterator.hasNext()) stringFormOfLinkedList.append(" -> ");
+        }
+
+        stringFormOfLinkedList.append("]");
+
+        return stringFormOfLinkedList.toString();
+    }
+
+    @Override
+    public Iterator<N> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    private class UnrolledLinkedListIterator implements Iterator<N> {
+        private UnrolledLinkedListNode<N> current = first;
+        private int offset;
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public N next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            N result = current.getValue(offset++);
+            if (offset == current.getCount()) {
+                current = current.getNext();
+                offset = 0;
+            }
+
+            return result;
+        }
+    }
+}
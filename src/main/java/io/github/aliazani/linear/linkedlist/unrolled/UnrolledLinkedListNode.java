@@ -0,0 +1,63 @@
+package io.github.aliazani.linear.linkedlist.unrolled;
+
+import io.github.aliazani.linear.linkedlist.LinkedListNode;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Represents a node in an unrolled linked list, holding up to a fixed number of consecutive values of the list in an
+ * array.
+ *
+ * @param <N> the type of the values contained in the node.
+ */
+@Getter
+@Setter
+class UnrolledLinkedListNode<N> implements LinkedListNode<N> {
+    private final Object[] values;
+    private int count;
+    private UnrolledLinkedListNode<N> next;
+    private UnrolledLinkedListNode<N> prev;
+
+    UnrolledLinkedListNode(int capacity) {
+        values = new Object[capacity];
+    }
+
+    N getValue(int offset) {
+        return (N) values[offset];
+    }
+
+    boolean isFull() {
+        return count == values.length;
+    }
+
+    void insert(int offset, N value) {
+        System.arraycopy(values, offset, values, offset + 1, count - offset);
+        values[offset] = value;
+        count++;
+    }
+
+    void remove(int offset) {
+        System.arraycopy(values, offset + 1, values, offset, count - offset - 1);
+        values[--count] = null;
+    }
+
+    /**
+     * Moves the values from the offset on to the end of the given node, which must have room for them.
+     */
+    void moveTail(int offset, UnrolledLinkedListNode<N> target) {
+        int moved = count - offset;
+        System.arraycopy(values, offset, target.values, target.count, moved);
+        target.count += moved;
+
+        for (int i = offset; i < count; i++) values[i] = null;
+        count = offset;
+    }
+
+    void reverseValues() {
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            Object value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.aliazani.linear.arrays;
+
+import io.github.aliazani.linear.arrays.ArraySetOperations.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArraySetOperations")
+class ArraySetOperationsTest {
+    @Test
+    @DisplayName("choose - " +
+            "When both arrays are sorted and of similar size - " +
+            "Should merge them")
+    void choose_sortedSimilarSizes_sortMerge() {
+        for (Operation operation : Operation.values())
+            assertEquals(SetOperationStrategy.SORT_MERGE, ArraySetOperations.choose(operation, 4, 3, true, 1));
+    }
+
+    @Test
+    @DisplayName("choose - " +
+            "When both arrays are sorted and one is much smaller - " +
+            "Should gallop when the small side drives the result")
+    void choose_sortedVeryDifferentSizes_gallop() {
+        int large = ArraySetOperations.GALLOPING_RATIO;
+
+        assertEquals(SetOperationStrategy.GALLOPING, ArraySetOperations.choose(Operation.INTERSECT, large, 1, true, 1));
+        assertEquals(SetOperationStrategy.GALLOPING,
+                ArraySetOperations.choose(Operation.DIFFERENCE, 1, large, true, 1));
+        assertEquals(SetOperationStrategy.SORT_MERGE,
+                ArraySetOperations.choose(Operation.DIFFERENCE, large, 1, true, 1));
+        assertEquals(SetOperationStrategy.SORT_MERGE, ArraySetOperations.choose(Operation.UNION, 1, large, true, 1));
+    }
+
+    @Test
+    @DisplayName("choose - " +
+            "When an array is unsorted - " +
+            "Should hash, in parallel only for large inputs on several cores")
+    void choose_unsortedArrays_hash() {
+        int large = ArraySetOperations.PARALLEL_THRESHOLD;
+
+        assertEquals(SetOperationStrategy.HASH, ArraySetOperations.choose(Operation.INTERSECT, 3, 3, false, 8));
+        assertEquals(SetOperationStrategy.HASH, ArraySetOperations.choose(Operation.UNION, large, 3, false, 1));
+        assertEquals(SetOperationStrategy.PARALLEL_HASH,
+                ArraySetOperations.choose(Operation.UNION, large, 3, false, 8));
+    }
+
+    @Test
+    @DisplayName("apply - " +
+            "When sorted arrays with duplicates are combined - " +
+            "Should return the same result with every strategy")
+    void apply_sortedArraysWithDuplicates_sameResultForEveryStrategy() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            Integer[] a = sortedRandom(random, random.nextInt(40), 60);
+            Integer[] b = sortedRandom(random, random.nextInt(round % 2 == 0 ? 4 : 400), 60);
+
+            for (Operation operation : Operation.values()) {
+                String expected = ArraySetOperations.apply(operation, a, a.length, b, b.length,
+                        SetOperationStrategy.HASH).toString();
+                for (SetOperationStrategy strategy : SetOperationStrategy.values())
+                    assertEquals(expected, ArraySetOperations.apply(operation, a, a.length, b, b.length, strategy)
+                            .toString(), operation + " " + strategy);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("apply - " +
+            "When large unsorted arrays with nulls are combined in parallel - " +
+            "Should return the same result as hashing sequentially")
+    void apply_largeUnsortedArrays_parallelMatchesSequential() {
+        Random random = new Random(11);
+        int length = ArraySetOperations.PARALLEL_THRESHOLD + 1000;
+        Integer[] a = new Integer[length];
+        Integer[] b = new Integer[length / 2];
+        for (int i = 0; i < a.length; i++) a[i] = random.nextInt(20) == 0 ? null : random.nextInt(length);
+        for (int i = 0; i < b.length; i++) b[i] = random.nextInt(20) == 0 ? null : random.nextInt(length);
+
+        for (Operation operation : Operation.values()) {
+            MyArray<Integer> sequential = ArraySetOperations.apply(operation, a, a.length, b, b.length,
+                    SetOperationStrategy.HASH);
+            MyArray<Integer> parallel = ArraySetOperations.apply(operation, a, a.length, b, b.length,
+                    SetOperationStrategy.PARALLEL_HASH);
+
+            assertEquals(sequential.size(), parallel.size(), operation.toString());
+            for (int i = 0; i < sequential.size(); i++) assertEquals(sequential.get(i), parallel.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("isSorted - " +
+            "When checking arrays - " +
+            "Should accept ascending arrays with duplicates and reject descents and nulls")
+    void isSorted_variousArrays_detectAscendingOrder() {
+        assertTrue(ArraySetOperations.isSorted(new Integer[]{1, 1, 2}, 3));
+        assertTrue(ArraySetOperations.isSorted(new Integer[]{2, 1}, 1));
+        assertFalse(ArraySetOperations.isSorted(new Integer[]{2, 1}, 2));
+        assertFalse(ArraySetOperations.isSorted(new Integer[]{1, null}, 2));
+    }
+
+    private static Integer[] sortedRandom(Random random, int length, int bound) {
+        Integer[] items = new Integer[length];
+        int value = random.nextInt(bound);
+        for (int i = 0; i < length; i++) {
+            value += random.nextInt(3);
+            items[i] = value;
+        }
+
+        return items;
+    }
+}
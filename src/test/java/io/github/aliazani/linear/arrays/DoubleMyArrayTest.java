@@ -0,0 +1,83 @@
+package io.github.aliazani.linear.arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DoubleMyArray")
+class DoubleMyArrayTest {
+    private DoubleMyArray array;
+
+    @BeforeEach
+    void setup() {
+        array = new DoubleMyArray(4);
+        for (double item : new double[]{1.5, -0.0, 2.5, 0.0, 3.5, 4.5, 5.5, 6.5, 7.5, 1.5}) array.insert(item);
+    }
+
+    @Test
+    @DisplayName("indexOf - " +
+            "When searching for regular values - " +
+            "Should return the first occurrence or -1")
+    void indexOf_regularValues_returnFirstOccurrence() {
+        assertEquals(0, array.indexOf(1.5));
+        assertEquals(8, array.indexOf(7.5));
+        assertEquals(-1, array.indexOf(8.5));
+    }
+
+    @Test
+    @DisplayName("indexOf - " +
+            "When searching for zeros and NaN - " +
+            "Should compare like Double.equals")
+    void indexOf_zerosAndNaN_compareLikeDoubleEquals() {
+        assertEquals(1, array.indexOf(-0.0));
+        assertEquals(3, array.indexOf(0.0));
+        assertEquals(-1, array.indexOf(Double.NaN));
+
+        array.insert(Double.NaN);
+        assertEquals(10, array.indexOf(Double.NaN));
+    }
+
+    @Test
+    @DisplayName("max - " +
+            "When the array holds zeros or NaN - " +
+            "Should order like Double.compareTo")
+    void max_zerosAndNaN_orderLikeDoubleCompareTo() {
+        assertEquals(7.5, array.max());
+
+        DoubleMyArray zeros = new DoubleMyArray(2);
+        zeros.insert(-0.0);
+        zeros.insert(0.0);
+        assertEquals(0.0, zeros.max());
+        assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(zeros.max()));
+
+        array.insertAt(2, Double.NaN);
+        assertTrue(Double.isNaN(array.max()));
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When the arrays share items - " +
+            "Should return the distinct shared items in the order of this array")
+    void intersect_sharedItems_returnDistinctSharedItems() {
+        DoubleMyArray other = new DoubleMyArray(3);
+        other.insert(0.0);
+        other.insert(1.5);
+        other.insert(9.0);
+
+        assertEquals("[1.5, 0.0]", array.intersect(other).toString());
+    }
+
+    @Test
+    @DisplayName("reverse and removeAt - " +
+            "When editing the array - " +
+            "Should keep the items in the expected order")
+    void reverseAndRemoveAt_editArray_expectedOrder() {
+        array.removeAt(9);
+        array.removeAt(0);
+
+        assertEquals("[7.5, 6.5, 5.5, 4.5, 3.5, 0.0, 2.5, -0.0]", array.reverse().toString());
+        assertEquals(30.0, array.stream().sum());
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.aliazani.linear.arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GapBufferArrayTest {
+    private GapBufferArray<Integer> array;
+
+    @BeforeEach
+    void setup() {
+        array = new GapBufferArray<>(3);
+    }
+
+    @Test
+    @DisplayName("insert - " +
+            "When inserting past the capacity - " +
+            "Should grow and keep the elements in order")
+    void insert_pastCapacity_growAndKeepOrder() {
+        for (int i = 1; i <= 5; i++) array.insert(i * 10);
+
+        assertEquals("[10, 20, 30, 40, 50]", array.toString());
+        assertEquals(5, array.size());
+    }
+
+    @Test
+    @DisplayName("insertAt - " +
+            "When the initial capacity is zero - " +
+            "Should grow to hold the element")
+    void insertAt_zeroCapacity_grow() {
+        GapBufferArray<Integer> empty = new GapBufferArray<>(0);
+
+        empty.insertAt(0, 10);
+
+        assertEquals("[10]", empty.toString());
+    }
+
+    @Test
+    @DisplayName("insertAt - " +
+            "When inserting before and after earlier edits - " +
+            "Should place every element at its index")
+    void insertAt_editsOnBothSidesOfGap_placeElements() {
+        array.insert(10);
+        array.insert(40);
+        array.insertAt(1, 20);
+        array.insertAt(2, 30);
+        array.insertAt(0, 0);
+        array.insertAt(5, 50);
+
+        assertEquals("[0, 10, 20, 30, 40, 50]", array.toString());
+    }
+
+    @Test
+    @DisplayName("insertAt - " +
+            "When index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void insertAt_indexOutOfRange_throwIndexOutOfBounds() {
+        array.insert(10);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> array.insertAt(-1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.insertAt(2, 10));
+    }
+
+    @Test
+    @DisplayName("removeAt - " +
+            "When removing elements around the gap - " +
+            "Should close up the array")
+    void removeAt_aroundGap_closeUpArray() {
+        for (int i = 0; i < 6; i++) array.insert(i);
+
+        array.removeAt(2);
+        array.removeAt(4);
+        array.removeAt(0);
+
+        assertEquals("[1, 3, 4]", array.toString());
+        assertEquals(3, array.size());
+    }
+
+    @Test
+    @DisplayName("removeAt - " +
+            "When index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void removeAt_indexOutOfRange_throwIndexOutOfBounds() {
+        array.insert(10);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> array.removeAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.removeAt(1));
+    }
+
+    @Test
+    @DisplayName("removeAt - " +
+            "When most elements are removed - " +
+            "Should shrink and keep the remaining elements")
+    void removeAt_mostElementsRemoved_shrinkAndKeepElements() {
+        for (int i = 0; i < 64; i++) array.insert(i);
+
+        for (int i = 0; i < 60; i++) array.removeAt(2);
+
+        assertEquals("[0, 1, 62, 63]", array.toString());
+    }
+
+    @Test
+    @DisplayName("indexOf - " +
+            "When the element is on either side of the gap - " +
+            "Should return its index")
+    void indexOf_elementOnEitherSideOfGap_returnIndex() {
+        for (int i = 0; i < 5; i++) array.insert(i * 10);
+        array.insertAt(2, 15);
+
+        assertEquals(1, array.indexOf(10));
+        assertEquals(4, array.indexOf(30));
+        assertEquals(-1, array.indexOf(99));
+    }
+
+    @Test
+    @DisplayName("indexOf - " +
+            "When searching for null - " +
+            "Should find a null element")
+    void indexOf_null_findNullElement() {
+        array.insert(10);
+        array.insert(null);
+
+        assertEquals(1, array.indexOf(null));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void get_indexOutOfRange_throwIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(0));
+        assertTrue(array.isEmpty());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When iterating after edits - " +
+            "Should visit the elements in order and then throw NoSuchElementException")
+    void iterator_afterEdits_visitElementsInOrder() {
+        array.insert(30);
+        array.insertAt(0, 10);
+        array.insertAt(1, 20);
+
+        Iterator<Integer> iterator = array.iterator();
+        assertEquals(10, iterator.next());
+        assertEquals(20, iterator.next());
+        assertEquals(30, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("insertAt and removeAt - " +
+            "When editing around a moving cursor - " +
+            "Should match an ArrayList")
+    void insertAtAndRemoveAt_movingCursor_matchArrayList() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+        int cursor = 0;
+        for (int step = 0; step < 5000; step++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                array.insertAt(cursor, step);
+                expected.add(cursor, step);
+            } else {
+                int index = Math.min(cursor, expected.size() - 1);
+                array.removeAt(index);
+                expected.remove(index);
+            }
+        }
+
+        assertEquals(expected.size(), array.size());
+        for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), array.get(i));
+    }
+}
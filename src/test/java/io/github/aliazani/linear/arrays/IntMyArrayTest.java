@@ -0,0 +1,172 @@
+package io.github.aliazani.linear.arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntMyArray")
+class IntMyArrayTest {
+    private IntMyArray array;
+
+    @BeforeEach
+    void setup() {
+        array = new IntMyArray(3);
+    }
+
+    @Test
+    @DisplayName("insert - " +
+            "When inserting more items than the initial length - " +
+            "Should grow and keep the order")
+    void insert_moreItemsThanLength_growAndKeepOrder() {
+        for (int i = 1; i <= 5; i++) array.insert(i * 10);
+
+        assertEquals("[10, 20, 30, 40, 50]", array.toString());
+        assertEquals(5, array.size());
+    }
+
+    @Test
+    @DisplayName("insert - " +
+            "When the initial length is zero - " +
+            "Should still grow")
+    void insert_zeroLength_grow() {
+        IntMyArray empty = new IntMyArray(0);
+
+        empty.insert(1);
+
+        assertEquals("[1]", empty.toString());
+    }
+
+    @Test
+    @DisplayName("insertAt - " +
+            "When index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void insertAt_indexOutOfRange_throwIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> array.insertAt(-1, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.insertAt(1, 10));
+    }
+
+    @Test
+    @DisplayName("insertAt - " +
+            "When index is in range - " +
+            "Should shift the later items to the right")
+    void insertAt_indexInRange_shiftRight() {
+        array.insert(1);
+        array.insert(3);
+
+        array.insertAt(1, 2);
+        array.insertAt(0, 0);
+
+        assertEquals("[0, 1, 2, 3]", array.toString());
+    }
+
+    @Test
+    @DisplayName("removeAt - " +
+            "When removing items - " +
+            "Should shift the later items to the left and reject invalid indices")
+    void removeAt_removeItems_shiftLeft() {
+        for (int i = 0; i < 8; i++) array.insert(i);
+
+        array.removeAt(0);
+        array.removeAt(6);
+        array.removeAt(2);
+
+        assertEquals("[1, 2, 4, 5, 6]", array.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.removeAt(5));
+    }
+
+    @Test
+    @DisplayName("indexOf - " +
+            "When the item occurs in a block or in the tail - " +
+            "Should return the first occurrence")
+    void indexOf_itemInBlockOrTail_returnFirstOccurrence() {
+        for (int i = 0; i < 21; i++) array.insert(i % 10);
+
+        assertEquals(3, array.indexOf(3));
+        assertEquals(9, array.indexOf(9));
+        assertEquals(0, array.indexOf(0));
+        assertEquals(-1, array.indexOf(42));
+    }
+
+    @Test
+    @DisplayName("reverse - " +
+            "When the array has items - " +
+            "Should return a new array in reverse order")
+    void reverse_arrayHasItems_returnReversed() {
+        array.insert(1);
+        array.insert(2);
+        array.insert(3);
+
+        assertEquals("[3, 2, 1]", array.reverse().toString());
+        assertEquals("[1, 2, 3]", array.toString());
+        assertEquals("[]", new IntMyArray(0).reverse().toString());
+    }
+
+    @Test
+    @DisplayName("max - " +
+            "When the maximum is anywhere in the array - " +
+            "Should return it")
+    void max_maximumAnywhere_returnMaximum() {
+        for (int position = 0; position < 11; position++) {
+            IntMyArray numbers = new IntMyArray(11);
+            for (int i = 0; i < 11; i++) numbers.insert(i == position ? 100 : -i);
+
+            assertEquals(100, numbers.max());
+        }
+    }
+
+    @Test
+    @DisplayName("max - " +
+            "When the array is empty - " +
+            "Should throw NoSuchElementException")
+    void max_emptyArray_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> array.max());
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When the arrays share items - " +
+            "Should return the distinct shared items in the order of this array")
+    void intersect_sharedItems_returnDistinctSharedItems() {
+        IntMyArray other = new IntMyArray(4);
+        for (int item : new int[]{4, 2, 9, 2}) other.insert(item);
+        for (int item : new int[]{2, 3, 4, 2, 5}) array.insert(item);
+
+        assertEquals("[2, 4]", array.intersect(other).toString());
+        assertEquals("[]", array.intersect(new IntMyArray(0)).toString());
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void get_indexOutOfRange_throwIndexOutOfBounds() {
+        array.insert(7);
+
+        assertEquals(7, array.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(1));
+    }
+
+    @Test
+    @DisplayName("iterator and stream - " +
+            "When iterating the array - " +
+            "Should visit the items in order without boxing")
+    void iteratorAndStream_iterate_visitInOrder() {
+        array.insert(1);
+        array.insert(2);
+        array.insert(3);
+
+        PrimitiveIterator.OfInt iterator = array.iterator();
+        int sum = 0;
+        while (iterator.hasNext()) sum = sum * 10 + iterator.nextInt();
+
+        assertEquals(123, sum);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertEquals(6, array.stream().sum());
+        assertArrayEquals(new int[]{1, 2, 3}, array.toArray());
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.aliazani.linear.arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongMyArray")
+class LongMyArrayTest {
+    private LongMyArray array;
+
+    @BeforeEach
+    void setup() {
+        array = new LongMyArray(2);
+        for (long item : new long[]{5_000_000_000L, -1, 7, 5_000_000_000L, 42, 3, 8, 9, 10}) array.insert(item);
+    }
+
+    @Test
+    @DisplayName("insertAt and removeAt - " +
+            "When editing the array - " +
+            "Should shift the items and grow or shrink")
+    void insertAtAndRemoveAt_editArray_shiftItems() {
+        array.insertAt(1, 0);
+        array.removeAt(0);
+
+        assertEquals("[0, -1, 7, 5000000000, 42, 3, 8, 9, 10]", array.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.insertAt(10, 1));
+    }
+
+    @Test
+    @DisplayName("indexOf - " +
+            "When searching for items - " +
+            "Should return the first occurrence or -1")
+    void indexOf_searchItems_returnFirstOccurrence() {
+        assertEquals(0, array.indexOf(5_000_000_000L));
+        assertEquals(8, array.indexOf(10));
+        assertEquals(-1, array.indexOf(5_000_000_001L));
+    }
+
+    @Test
+    @DisplayName("max and reverse - " +
+            "When the array has items - " +
+            "Should return the maximum and the reversed array")
+    void maxAndReverse_arrayHasItems_returnMaxAndReversed() {
+        assertEquals(5_000_000_000L, array.max());
+        assertEquals("[10, 9, 8, 3, 42, 5000000000, 7, -1, 5000000000]", array.reverse().toString());
+        assertThrows(NoSuchElementException.class, () -> new LongMyArray(1).max());
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When the arrays share items - " +
+            "Should return the distinct shared items in the order of this array")
+    void intersect_sharedItems_returnDistinctSharedItems() {
+        LongMyArray other = new LongMyArray(3);
+        other.insert(42);
+        other.insert(5_000_000_000L);
+
+        assertEquals("[5000000000, 42]", array.intersect(other).toString());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When iterating the array - " +
+            "Should visit the items in order")
+    void iterator_iterate_visitInOrder() {
+        assertEquals(10_000_000_078L, array.stream().sum());
+        assertEquals(5_000_000_000L, array.iterator().nextLong());
+        assertEquals(-1L, array.get(1));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -383,6 +384,148 @@ class MyArrayTest {
         assertEquals("[30, 20]", intersection.toString());
     }
 
+    @Test
+    @DisplayName("intersect - " +
+            "When both arrays contain null - " +
+            "Should keep null as a common element")
+    void intersect_bothArraysContainNull_keepNull() {
+        integerArray.insert(10);
+        integerArray.insert(null);
+
+        MyArray<Integer> otherArray = new MyArray<>(2);
+        otherArray.insert(null);
+        otherArray.insert(10);
+
+        MyArray<Integer> intersection = integerArray.intersect(otherArray);
+
+        assertEquals(2, intersection.size());
+        assertNull(intersection.get(1));
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When a sorted strategy is requested for an unsorted array - " +
+            "Should throw IllegalArgumentException")
+    void intersect_sortedStrategyOnUnsortedArray_throwIllegalArgument() {
+        integerArray.insert(30);
+        integerArray.insert(10);
+        MyArray<Integer> otherArray = new MyArray<>(1);
+        otherArray.insert(10);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> integerArray.intersect(otherArray, SetOperationStrategy.SORT_MERGE));
+        assertThrows(IllegalArgumentException.class,
+                () -> integerArray.intersect(otherArray, SetOperationStrategy.GALLOPING));
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When an unsorted array becomes sorted after a removal - " +
+            "Should accept a sorted strategy")
+    void intersect_arraySortedAfterRemoval_acceptSortedStrategy() {
+        integerArray.insert(10);
+        integerArray.insert(5);
+        integerArray.insert(20);
+        integerArray.removeAt(1);
+        MyArray<Integer> otherArray = new MyArray<>(2);
+        otherArray.insert(20);
+        otherArray.insert(30);
+
+        assertEquals("[20]", integerArray.intersect(otherArray, SetOperationStrategy.GALLOPING).toString());
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When an element is inserted out of order into a sorted array - " +
+            "Should reject a sorted strategy")
+    void intersect_outOfOrderInsertAt_rejectSortedStrategy() {
+        integerArray.insert(10);
+        integerArray.insert(30);
+        integerArray.insertAt(1, 40);
+        MyArray<Integer> otherArray = new MyArray<>(1);
+        otherArray.insert(30);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> integerArray.intersect(otherArray, SetOperationStrategy.SORT_MERGE));
+        assertEquals("[30]", integerArray.intersect(otherArray).toString());
+    }
+
+    @Test
+    @DisplayName("intersect - " +
+            "When sorted elements compare equal without being equal - " +
+            "Should match them with equals under every strategy")
+    void intersect_compareToInconsistentWithEquals_matchWithEqualsUnderEveryStrategy() {
+        MyArray<BigDecimal> decimals = new MyArray<>(3);
+        decimals.insert(new BigDecimal("1.0"));
+        decimals.insert(new BigDecimal("1.00"));
+        decimals.insert(new BigDecimal("2"));
+        MyArray<BigDecimal> otherDecimals = new MyArray<>(1);
+        otherDecimals.insert(new BigDecimal("1.00"));
+
+        assertEquals("[1.00]", decimals.intersect(otherDecimals).toString());
+        assertEquals("[1.0, 2]", decimals.difference(otherDecimals).toString());
+        assertEquals("[]", otherDecimals.difference(decimals).toString());
+        assertEquals("[1.0, 1.00, 2]", decimals.union(otherDecimals).toString());
+        for (SetOperationStrategy strategy : SetOperationStrategy.values()) {
+            assertEquals("[1.00]", decimals.intersect(otherDecimals, strategy).toString());
+            assertEquals("[1.0, 2]", decimals.difference(otherDecimals, strategy).toString());
+            assertEquals("[1.0, 1.00, 2]", decimals.union(otherDecimals, strategy).toString());
+            assertEquals("[1.00]", otherDecimals.intersect(decimals, strategy).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("union - " +
+            "When the arrays share elements - " +
+            "Should return the distinct elements of this array followed by the new ones of the other array")
+    void union_arraysShareElements_returnDistinctElementsInOrder() {
+        integerArray.insert(30);
+        integerArray.insert(10);
+        integerArray.insert(30);
+
+        MyArray<Integer> otherArray = new MyArray<>(3);
+        otherArray.insert(20);
+        otherArray.insert(10);
+        otherArray.insert(20);
+
+        assertEquals("[30, 10, 20]", integerArray.union(otherArray).toString());
+    }
+
+    @Test
+    @DisplayName("union - " +
+            "When both arrays are empty - " +
+            "Should return an empty array")
+    void union_bothArraysAreEmpty_returnEmptyArray() {
+        assertEquals("[]", integerArray.union(new MyArray<>(0)).toString());
+    }
+
+    @Test
+    @DisplayName("difference - " +
+            "When the arrays share elements - " +
+            "Should return the distinct elements found only in this array")
+    void difference_arraysShareElements_returnElementsOnlyInThisArray() {
+        integerArray.insert(40);
+        integerArray.insert(10);
+        integerArray.insert(40);
+        integerArray.insert(20);
+
+        MyArray<Integer> otherArray = new MyArray<>(1);
+        otherArray.insert(10);
+
+        assertEquals("[40, 20]", integerArray.difference(otherArray).toString());
+    }
+
+    @Test
+    @DisplayName("difference - " +
+            "When the other array is empty - " +
+            "Should return the distinct elements of this array")
+    void difference_otherArrayIsEmpty_returnDistinctElements() {
+        integerArray.insert(10);
+        integerArray.insert(10);
+
+        assertEquals("[10]", integerArray.difference(new MyArray<>(0)).toString());
+    }
+
     @Test
     @DisplayName("size - " +
             "When array is empty - " +
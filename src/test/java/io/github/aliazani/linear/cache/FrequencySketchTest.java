@@ -0,0 +1,77 @@
+package io.github.aliazani.linear.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FrequencySketch")
+class FrequencySketchTest {
+    @Test
+    @DisplayName("frequency - " +
+            "When a key was incremented a few times - " +
+            "Should estimate at least that count")
+    void frequency_incrementedKey_estimateCount() {
+        FrequencySketch sketch = new FrequencySketch(1_024);
+
+        for (int i = 0; i < 5; i++) sketch.increment(42);
+
+        assertTrue(sketch.frequency(42) >= 5);
+        assertEquals(0, sketch.frequency(43));
+    }
+
+    @Test
+    @DisplayName("increment - " +
+            "When a key is incremented more than 15 times - " +
+            "Should cap the estimate at 15")
+    void increment_manyTimes_capAtFifteen() {
+        FrequencySketch sketch = new FrequencySketch(1_024);
+
+        for (int i = 0; i < 100; i++) sketch.increment(7);
+
+        assertEquals(15, sketch.frequency(7));
+    }
+
+    @Test
+    @DisplayName("increment - " +
+            "When the sample size is reached - " +
+            "Should halve the counters")
+    void increment_sampleSizeReached_halveCounters() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 10; i++) sketch.increment(1);
+        int before = sketch.frequency(1);
+
+        for (int key = 1_000; key < 1_000 + 10 * 16; key++) sketch.increment(key);
+
+        assertTrue(sketch.frequency(1) <= before / 2 + 1);
+    }
+
+    @Test
+    @DisplayName("ensureCapacity - " +
+            "When the sketch is already large enough - " +
+            "Should keep the counts")
+    void ensureCapacity_largeEnough_keepCounts() {
+        FrequencySketch sketch = new FrequencySketch(1_024);
+        for (int i = 0; i < 5; i++) sketch.increment(42);
+
+        sketch.ensureCapacity(1_000);
+
+        assertTrue(sketch.frequency(42) >= 5);
+    }
+
+    @Test
+    @DisplayName("ensureCapacity - " +
+            "When more entries are expected than the sketch was sized for - " +
+            "Should grow and start counting afresh")
+    void ensureCapacity_moreEntries_growAndStartAfresh() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 5; i++) sketch.increment(42);
+
+        sketch.ensureCapacity(1_000);
+        for (int key = 1_000; key < 1_000 + 10 * 16; key++) sketch.increment(key);
+        sketch.increment(42);
+
+        assertTrue(sketch.frequency(42) >= 1);
+        assertTrue(sketch.frequency(42) < 5);
+    }
+}
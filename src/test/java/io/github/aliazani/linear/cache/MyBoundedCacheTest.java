@@ -0,0 +1,192 @@
+package io.github.aliazani.linear.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyBoundedCache")
+class MyBoundedCacheTest {
+    MyBoundedCache<Integer, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MyBoundedCache<>(3);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the maximum size is not positive or the policy is missing - " +
+            "Should throw IllegalArgumentException")
+    void constructor_invalidArguments_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyBoundedCache<Integer, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyBoundedCache<Integer, String>(3, null));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the cache is over its maximum size - " +
+            "Should evict the least recently used entry")
+    void put_overMaximumSize_evictLeastRecentlyUsed() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+
+        cache.put(4, "d");
+
+        assertEquals(3, cache.size());
+        assertNull(cache.getIfPresent(2));
+        assertEquals("a", cache.getIfPresent(1));
+        assertEquals("d", cache.getIfPresent(4));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When updating an existing key - " +
+            "Should replace the value and mark the entry as recently used")
+    void put_existingKey_replaceValueAndRefreshRecency() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+
+        cache.put(1, "z");
+        cache.put(4, "d");
+
+        assertEquals("z", cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the key or the value is null - " +
+            "Should throw IllegalArgumentException")
+    void put_nullKeyOrValue_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, "a"));
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1, null));
+        assertThrows(IllegalArgumentException.class, () -> cache.getIfPresent(null));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When entries are weighed - " +
+            "Should evict until the total weight fits")
+    void put_weighedEntries_evictUntilWeightFits() {
+        MyBoundedCache<Integer, String> weighed =
+                new MyBoundedCache<>(10, (key, value) -> value.length(), EvictionPolicy.LRU, null);
+        weighed.put(1, "aaaa");
+        weighed.put(2, "bbbb");
+
+        weighed.put(3, "cccccc");
+
+        assertEquals(10, weighed.weightedSize());
+        assertNull(weighed.getIfPresent(1));
+        assertEquals(4, weighed.stats().evictedWeight());
+
+        weighed.put(2, "b");
+        assertEquals(7, weighed.weightedSize());
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is missing and there is no loader - " +
+            "Should throw NoSuchElementException and count a miss")
+    void get_missingKeyWithoutLoader_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> cache.get(1));
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is missing and there is a loader - " +
+            "Should load the value once and cache it")
+    void get_missingKeyWithLoader_loadAndCache() {
+        AtomicInteger calls = new AtomicInteger();
+        MyBoundedCache<Integer, String> loading = new MyBoundedCache<>(3, (key, value) -> 1, EvictionPolicy.LRU,
+                key -> {
+                    calls.incrementAndGet();
+                    return "v" + key;
+                });
+
+        assertEquals("v7", loading.get(7));
+        assertEquals("v7", loading.get(7));
+
+        assertEquals(1, calls.get());
+        CacheStats stats = loading.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.loads());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("invalidate - " +
+            "When the key is cached - " +
+            "Should remove it, and do nothing for a missing key")
+    void invalidate_cachedKey_removeIt() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+
+        cache.invalidate(1);
+        cache.invalidate(5);
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.weightedSize());
+        assertNull(cache.getIfPresent(1));
+    }
+
+    @Test
+    @DisplayName("W-TinyLFU - " +
+            "When a scan of one-off keys passes through the cache while hot keys are used - " +
+            "Should keep the hot entries")
+    void windowTinyLfu_scanOfOneOffKeys_keepFrequentEntries() {
+        MyBoundedCache<Integer, String> lfu = new MyBoundedCache<>(100, EvictionPolicy.W_TINY_LFU);
+        for (int key = 0; key < 50; key++) lfu.put(key, "hot");
+        for (int round = 0; round < 5; round++)
+            for (int key = 0; key < 50; key++) lfu.get(key);
+
+        for (int i = 0; i < 10_000; i++) {
+            lfu.put(1_000 + i, "scan");
+            lfu.get(i % 50);
+        }
+
+        assertEquals(100, lfu.size());
+        for (int key = 0; key < 50; key++) assertEquals("hot", lfu.getIfPresent(key));
+    }
+
+    @Test
+    @DisplayName("LRU - " +
+            "When a scan of one-off keys passes through the cache - " +
+            "Should lose the frequently used entries")
+    void lru_scanOfOneOffKeys_loseFrequentEntries() {
+        MyBoundedCache<Integer, String> lru = new MyBoundedCache<>(100);
+        for (int key = 0; key < 50; key++) lru.put(key, "hot");
+
+        for (int key = 1_000; key < 1_100; key++) lru.put(key, "scan");
+
+        for (int key = 0; key < 50; key++) assertNull(lru.getIfPresent(key));
+    }
+
+    @Test
+    @DisplayName("W-TinyLFU - " +
+            "When keys are added, read, updated and invalidated - " +
+            "Should stay within the maximum size")
+    void windowTinyLfu_mixedOperations_stayWithinMaximumSize() {
+        MyBoundedCache<Integer, String> lfu = new MyBoundedCache<>(64, EvictionPolicy.W_TINY_LFU);
+
+        for (int i = 0; i < 10_000; i++) {
+            int key = (i * 31) % 500;
+            if (i % 7 == 0) lfu.invalidate(key);
+            else if (i % 3 == 0) lfu.getIfPresent(key);
+            else lfu.put(key, String.valueOf(i));
+
+            assertTrue(lfu.size() <= 64);
+        }
+        assertEquals(lfu.size(), lfu.weightedSize());
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.aliazani.linear.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyConcurrentBoundedCache")
+class MyConcurrentBoundedCacheTest {
+    @Test
+    @DisplayName("put - " +
+            "When the cache is over its maximum size - " +
+            "Should evict the least recently used entry")
+    void put_overMaximumSize_evictLeastRecentlyUsed() {
+        MyConcurrentBoundedCache<Integer, String> cache = new MyConcurrentBoundedCache<>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.getIfPresent(1);
+
+        cache.put(4, "d");
+
+        assertNull(cache.getIfPresent(2));
+        assertEquals("a", cache.getIfPresent(1));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When many threads read, write and invalidate - " +
+            "Should stay within the maximum size and count every lookup")
+    void get_concurrentReadersAndWriters_stayBounded() throws Exception {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            MyConcurrentBoundedCache<Integer, Integer> cache =
+                    new MyConcurrentBoundedCache<>(128, (key, value) -> 1, policy, key -> key * 2);
+            int threads = 8;
+            int operations = 20_000;
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < operations; i++) {
+                        int key = random.nextInt(1_000);
+                        if (i % 50 == 0) cache.invalidate(key);
+                        else assertEquals(key * 2, cache.get(key));
+                    }
+                }));
+            for (Future<?> future : futures) future.get();
+            executor.shutdown();
+
+            assertTrue(cache.size() <= 128);
+            assertEquals(cache.size(), cache.weightedSize());
+            CacheStats stats = cache.stats();
+            assertEquals((long) threads * (operations - operations / 50), stats.hits() + stats.misses());
+        }
+    }
+}
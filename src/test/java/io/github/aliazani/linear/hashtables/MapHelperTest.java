@@ -3,6 +3,12 @@ package io.github.aliazani.linear.hashtables;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class MapHelperTest {
@@ -124,6 +130,16 @@ class MapHelperTest {
         assertEquals(2, MapHelper.mostFrequent(numbers));
     }
 
+    @Test
+    @DisplayName("mostFrequent - " +
+            "When a larger number ties with smaller ones and appears first - " +
+            "Should return the number that appears first")
+    void mostFrequent_largerNumberTiesAndAppearsFirst_returnTheFirstNumber() {
+        int[] numbers = {9, 1, -4, 1, 9, -4};
+
+        assertEquals(9, MapHelper.mostFrequent(numbers));
+    }
+
     @Test
     @DisplayName("mostFrequent - " +
             "When the array has more than two numbers and one number has the highest count - " +
@@ -267,4 +283,53 @@ class MapHelperTest {
         int[] expected = {1, 1};
         assertArrayEquals(expected, MapHelper.twoSum(numbers, target));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findFirstNonRepeatingCharacter - " +
+            "When reading the characters from a reader - " +
+            "Should return the same character as for the string")
+    void findFirstNonRepeatingCharacter_reader_returnSameAsString() throws IOException {
+        assertEquals('l', MapHelper.findFirstNonRepeatingCharacter(new StringReader("leetcode")));
+        assertEquals('c', MapHelper.findFirstNonRepeatingCharacter(new StringReader("aAbBc")));
+        assertEquals(Character.MIN_VALUE, MapHelper.findFirstNonRepeatingCharacter(new StringReader("abccba")));
+    }
+
+    @Test
+    @DisplayName("mostFrequent - " +
+            "When streaming numbers with fewer counters than distinct numbers - " +
+            "Should return the number that occurs most often")
+    void mostFrequent_streamWithFewCounters_returnTheNumberWithHighestCount() {
+        Random random = new Random(7);
+        IntStream numbers = IntStream.range(0, 100_000).map(i -> i % 5 == 0 ? 42 : random.nextInt(10_000));
+
+        assertEquals(42, MapHelper.mostFrequent(numbers, 16));
+    }
+
+    @Test
+    @DisplayName("mostFrequent - " +
+            "When an overestimated number ties with the number occurring more than length / counters times - " +
+            "Should prefer the number with the higher guaranteed count")
+    void mostFrequent_tiedEstimatedCounts_preferHigherGuaranteedCount() {
+        assertEquals(3, MapHelper.mostFrequent(IntStream.of(2, 3, 3, 0, 0, 2, 1, 3), 3));
+    }
+
+    @Test
+    @DisplayName("mostFrequent - " +
+            "When the stream is empty - " +
+            "Should throw NoSuchElementException")
+    void mostFrequent_emptyStream_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> MapHelper.mostFrequent(IntStream.empty(), 4));
+    }
+
+    @Test
+    @DisplayName("countPairsWithDiff - " +
+            "When streaming the numbers - " +
+            "Should return the same count as for the array")
+    void countPairsWithDiff_stream_returnSameAsArray() {
+        int[] numbers = new Random(3).ints(10_000, -500, 500).toArray();
+
+        for (int difference : new int[]{0, 1, 7, -3})
+            assertEquals(MapHelper.countPairsWithDiff(numbers, difference),
+                    MapHelper.countPairsWithDiff(IntStream.of(numbers), difference));
+    }
+}
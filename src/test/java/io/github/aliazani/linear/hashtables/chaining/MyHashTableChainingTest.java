@@ -1,10 +1,19 @@
 package io.github.aliazani.linear.hashtables.chaining;
 
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.metrics.HashTableMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -394,4 +403,336 @@ class MyHashTableChainingTest {
 
         assertEquals("[[0=a, 15=d], [6=b, 21=e], [12=c], null, null]", table.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size is not positive - " +
+            "Should throw IllegalArgumentException")
+    void constructor_sizeNotPositive_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableChaining<Integer, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableChaining<Integer, String>(5, 0f));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the load factor exceeds the maximum load factor - " +
+            "Should start moving the entries to a table twice as large")
+    void put_loadFactorExceedsMaximum_startRehashToDoubleCapacity() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(10, table.capacity());
+        assertEquals(0.6, table.loadFactor());
+        assertEquals("[[0=0, 5=5], [1=1], [2=2], [3=3], [4=4]] -> " +
+                "[null, null, null, null, null, null, null, null, null, null]", table.toString());
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When a rehash is in progress - " +
+            "Should move one slot per operation and find keys in both tables")
+    void get_rehashInProgress_moveOneSlotAndFindKeysInBothTables() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+
+        assertEquals("0", table.get(0));
+        assertEquals("[null, [1=1], [2=2], [3=3], [4=4]] -> " +
+                "[[0=0], null, null, null, null, [5=5], null, null, null, null]", table.toString());
+        assertEquals("4", table.get(4));
+        assertEquals("5", table.get(5));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When a rehash is in progress - " +
+            "Should add new entries to the new table")
+    void put_rehashInProgress_addToNewTable() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+
+        table.put(11, "11");
+
+        assertEquals("[null, [1=1], [2=2], [3=3], [4=4]] -> " +
+                "[[0=0], [11=11], null, null, null, [5=5], null, null, null, null]", table.toString());
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When a rehash is in progress - " +
+            "Should remove keys from either table")
+    void remove_rehashInProgress_removeFromEitherTable() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+
+        table.remove(5);
+        table.remove(4);
+
+        assertEquals(4, table.size());
+        assertThrows(NoSuchElementException.class, () -> table.get(5));
+        assertThrows(NoSuchElementException.class, () -> table.get(4));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When many keys are added - " +
+            "Should finish rehashing and keep every key reachable")
+    void put_manyKeys_finishRehashAndKeepKeysReachable() {
+        for (int i = 0; i < 1000; i++) table.put(i, String.valueOf(i));
+        for (int i = 0; i < 1000; i++) assertEquals(String.valueOf(i), table.get(i));
+
+        assertEquals(1000, table.size());
+        assertTrue(table.loadFactor() <= 1.0);
+        assertFalse(table.toString().contains(" -> "));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When many keys collide in one slot - " +
+            "Should keep every key reachable and removable")
+    void put_manyCollidingKeys_keepKeysReachableAndRemovable() {
+        MyHashTableChaining<CollidingKey, String> collidingTable = new MyHashTableChaining<>(5, 1000f);
+        for (int i = 0; i < 100; i++) collidingTable.put(new CollidingKey(i), String.valueOf(i));
+        for (int i = 0; i < 100; i += 2) collidingTable.remove(new CollidingKey(i));
+
+        assertEquals(50, collidingTable.size());
+        for (int i = 1; i < 100; i += 2) assertEquals(String.valueOf(i), collidingTable.get(new CollidingKey(i)));
+        assertThrows(NoSuchElementException.class, () -> collidingTable.get(new CollidingKey(0)));
+    }
+
+    private record CollidingKey(int id) implements Comparable<CollidingKey> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When adding a batch of keys - " +
+            "Should grow the table once and store every key")
+    void putAll_batchOfKeys_growOnceAndStoreEveryKey() {
+        Integer[] keys = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 1};
+        String[] values = {"a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "z"};
+
+        table.putAll(keys, values);
+
+        assertEquals(11, table.size());
+        assertEquals(20, table.capacity());
+        assertFalse(table.toString().contains(" -> "));
+        assertEquals(List.of("a", "z", "k"), table.getAll(new Integer[]{0, 1, 10}));
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When the keys and values have different lengths - " +
+            "Should throw IllegalArgumentException")
+    void putAll_differentLengths_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> table.putAll(new Integer[]{1}, new String[0]));
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When a small batch is added during a rehash - " +
+            "Should keep rehashing incrementally and keep every key reachable")
+    void putAll_smallBatchDuringRehash_keepRehashingIncrementally() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+
+        table.putAll(new Integer[]{6}, new String[]{"6"});
+
+        assertTrue(table.toString().contains(" -> "));
+        assertEquals(10, table.capacity());
+        assertEquals(7, table.size());
+        assertEquals(List.of("0", "5", "6"), table.getAll(new Integer[]{0, 5, 6}));
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When a batch added during a rehash needs a larger table than the rehash target - " +
+            "Should move every entry once to a table large enough for the batch")
+    void putAll_largeBatchDuringRehash_moveEntriesOnce() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+        Integer[] keys = new Integer[10];
+        String[] values = new String[10];
+        for (int i = 0; i < 10; i++) {
+            keys[i] = i + 6;
+            values[i] = String.valueOf(i + 6);
+        }
+
+        table.putAll(keys, values);
+
+        assertFalse(table.toString().contains(" -> "));
+        assertEquals(20, table.capacity());
+        assertEquals(16, table.size());
+        assertEquals(List.of("0", "5", "15"), table.getAll(new Integer[]{0, 5, 15}));
+    }
+
+    @Test
+    @DisplayName("getAll - " +
+            "When a key is missing - " +
+            "Should throw NoSuchElementException")
+    void getAll_missingKey_throwNoSuchElement() {
+        table.put(1, "a");
+
+        assertThrows(NoSuchElementException.class, () -> table.getAll(new Integer[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("removeAll - " +
+            "When removing a batch of keys - " +
+            "Should remove every key")
+    void removeAll_batchOfKeys_removeEveryKey() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        table.removeAll(new Integer[]{0, 5, 19});
+
+        assertEquals(17, table.size());
+        assertThrows(NoSuchElementException.class, () -> table.get(5));
+        assertThrows(NoSuchElementException.class, () -> table.removeAll(new Integer[]{1, 5}));
+        assertEquals(16, table.size());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table has entries - " +
+            "Should visit every entry once")
+    void iterator_tableHasEntries_visitEveryEntryOnce() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        for (Entry<Integer, String> entry : table) visited.merge(entry.getKey(), entry.getValue(), (a, b) -> a + b);
+
+        assertEquals(20, visited.size());
+        for (int i = 0; i < 20; i++) assertEquals(String.valueOf(i), visited.get(i));
+    }
+
+    @Test
+    @DisplayName("forEach - " +
+            "When the table has entries - " +
+            "Should pass every key and value to the action")
+    void forEach_tableHasEntries_passEveryKeyAndValue() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        table.forEach((key, value) -> visited.put(key, value));
+
+        assertEquals(20, visited.size());
+        assertEquals(String.valueOf(19), visited.get(19));
+    }
+
+    @Test
+    @DisplayName("stream - " +
+            "When streaming a large table in parallel - " +
+            "Should see every entry exactly once")
+    void stream_parallelLargeTable_seeEveryEntryOnce() {
+        for (int i = 0; i < 10_000; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(10_000, table.stream().parallel().count());
+        assertEquals(49_995_000L, StreamSupport.stream(table.spliterator(), true)
+                .mapToLong(Entry::getKey).sum());
+        assertEquals(10_000, table.stream().parallel().map(Entry::getKey).distinct().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table is empty - " +
+            "Should have no elements")
+    void iterator_emptyTable_noElements() {
+        assertFalse(table.iterator().hasNext());
+        assertEquals(0, table.stream().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When a rehash is in progress - " +
+            "Should visit the entries of both tables")
+    void iterator_rehashInProgress_visitBothTables() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+        assertTrue(table.toString().contains(" -> "));
+
+        Set<Integer> keys = new HashSet<>();
+        table.forEach((key, value) -> keys.add(key));
+
+        assertEquals(Set.of(0, 1, 2, 3, 4, 5), keys);
+        assertEquals(6, table.stream().count());
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When metrics are attached before any resize - " +
+            "Should report the current capacity")
+    void setMetrics_attachedBeforeResize_reportCurrentCapacity() {
+        HashTableMetrics metrics = new HashTableMetrics();
+
+        table.setMetrics(metrics);
+
+        assertEquals(5, metrics.getCapacity());
+        assertEquals(0, metrics.getResizes());
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When metrics are attached - " +
+            "Should record the visited chain lengths and the resizes")
+    void setMetrics_metricsAttached_recordChainLengthsAndResizes() {
+        HashTableMetrics metrics = new HashTableMetrics(1);
+        table.setMetrics(metrics);
+
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+        table.remove(0);
+
+        assertSame(metrics, table.metrics());
+        assertTrue(metrics.getOperations() >= 21);
+        assertTrue(metrics.getMaxChainLength() >= 1);
+        assertEquals(0, metrics.getMaxProbeLength());
+        assertTrue(metrics.getResizes() >= 1);
+        assertEquals(table.capacity(), metrics.getCapacity());
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When keys are looked up and removed during a rehash - " +
+            "Should record one chain length per operation")
+    void setMetrics_operationsDuringRehash_recordOncePerOperation() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+        HashTableMetrics metrics = new HashTableMetrics(1);
+        table.setMetrics(metrics);
+
+        table.getOrNull(42);
+        table.containsKey(3);
+        table.remove(4);
+
+        assertTrue(table.toString().contains(" -> "));
+        assertEquals(3, metrics.getOperations());
+        assertEquals(3, Arrays.stream(metrics.getChainLengthHistogram()).sum());
+    }
+
+    @Test
+    @DisplayName("getOrNull - " +
+            "When the key is present or missing - " +
+            "Should return its value or null without throwing")
+    void getOrNull_presentAndMissingKeys_returnValueOrNull() {
+        table.put(1, "a");
+        table.put(6, "b");
+
+        assertEquals("a", table.getOrNull(1));
+        assertEquals("b", table.getOrNull(6));
+        assertNull(table.getOrNull(2));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When the key is present, removed or mapped to null - " +
+            "Should tell whether the key is in the table")
+    void containsKey_presentRemovedAndNullValuedKeys_reportPresence() {
+        table.put(1, "a");
+        table.put(2, null);
+        table.put(3, "c");
+        table.remove(3);
+
+        assertTrue(table.containsKey(1));
+        assertTrue(table.containsKey(2));
+        assertFalse(table.containsKey(3));
+        assertFalse(table.containsKey(4));
+    }
+}
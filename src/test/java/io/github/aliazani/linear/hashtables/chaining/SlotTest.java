@@ -0,0 +1,72 @@
+package io.github.aliazani.linear.hashtables.chaining;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Slot")
+class SlotTest {
+    Slot<Integer, String> slot;
+
+    @BeforeEach
+    void setUp() {
+        slot = new Slot<>();
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the slot has at most TREEIFY_THRESHOLD entries - " +
+            "Should keep them in a list in insertion order")
+    void add_atMostTreeifyThreshold_keepList() {
+        for (int i = Slot.TREEIFY_THRESHOLD; i > 0; i--) slot.add(new Entry<>(i, "v"));
+
+        assertFalse(slot.isTreeified());
+        assertEquals("[8=v, 7=v, 6=v, 5=v, 4=v, 3=v, 2=v, 1=v]", slot.toString());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the slot grows past TREEIFY_THRESHOLD entries - " +
+            "Should turn into a tree ordered by the keys")
+    void add_pastTreeifyThreshold_treeify() {
+        for (int i = Slot.TREEIFY_THRESHOLD; i >= 0; i--) slot.add(new Entry<>(i, "v"));
+
+        assertTrue(slot.isTreeified());
+        assertEquals(9, slot.size());
+        assertEquals("[0=v, 1=v, 2=v, 3=v, 4=v, 5=v, 6=v, 7=v, 8=v]", slot.toString());
+        assertEquals("v", slot.find(4).getValue());
+        assertNull(slot.find(9));
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When a tree slot holds a null key - " +
+            "Should find it")
+    void add_nullKeyInTree_findIt() {
+        for (int i = 0; i < Slot.TREEIFY_THRESHOLD; i++) slot.add(new Entry<>(i, "v"));
+        slot.add(new Entry<>(null, "n"));
+
+        assertTrue(slot.isTreeified());
+        assertEquals("n", slot.find(null).getValue());
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When a tree slot shrinks to UNTREEIFY_THRESHOLD entries - " +
+            "Should turn back into a list")
+    void remove_shrinkToUntreeifyThreshold_untreeify() {
+        for (int i = 0; i <= Slot.TREEIFY_THRESHOLD; i++) slot.add(new Entry<>(i, "v"));
+
+        assertTrue(slot.remove(0));
+        assertTrue(slot.remove(1));
+        assertTrue(slot.isTreeified());
+        assertTrue(slot.remove(2));
+
+        assertFalse(slot.isTreeified());
+        assertFalse(slot.remove(2));
+        assertEquals("[3=v, 4=v, 5=v, 6=v, 7=v, 8=v]", slot.toString());
+    }
+}
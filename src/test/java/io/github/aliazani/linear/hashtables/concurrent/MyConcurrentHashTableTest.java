@@ -0,0 +1,240 @@
+package io.github.aliazani.linear.hashtables.concurrent;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyConcurrentHashTable")
+class MyConcurrentHashTableTest {
+    MyConcurrentHashTable<Integer, String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new MyConcurrentHashTable<>(8, 4);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size or the concurrency level is not positive - " +
+            "Should throw IllegalArgumentException")
+    void constructor_sizeOrConcurrencyLevelNotPositive_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentHashTable<Integer, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyConcurrentHashTable<Integer, String>(8, 0));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding and updating key-value pairs - " +
+            "Should store the latest value")
+    void put_addAndUpdateKeyValuePairs_storeLatestValue() {
+        table.put(1, "a");
+        table.put(2, "b");
+        table.put(1, "c");
+
+        assertEquals("c", table.get(1));
+        assertEquals("b", table.get(2));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding null keys and values - " +
+            "Should store them")
+    void put_nullKeyAndValue_storeThem() {
+        table.put(null, "a");
+        table.put(1, null);
+
+        assertEquals("a", table.get(null));
+        assertNull(table.get(1));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should throw NoSuchElementException")
+    void get_keyNotInTable_throwNoSuchElement() {
+        table.put(1, "a");
+
+        assertThrows(NoSuchElementException.class, () -> table.get(2));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing keys from chains - " +
+            "Should keep the remaining keys reachable")
+    void remove_keysFromChains_keepRemainingKeysReachable() {
+        for (int i = 0; i < 1000; i++) table.put(i, String.valueOf(i));
+        for (int i = 0; i < 1000; i += 2) table.remove(i);
+
+        assertEquals(500, table.size());
+        for (int i = 1; i < 1000; i += 2) assertEquals(String.valueOf(i), table.get(i));
+        assertThrows(NoSuchElementException.class, () -> table.get(0));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing a non-existing key - " +
+            "Should throw NoSuchElementException")
+    void remove_nonExistingKey_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> table.remove(1));
+    }
+
+    @Test
+    @DisplayName("isEmpty - " +
+            "When all entries are removed - " +
+            "Should return true")
+    void isEmpty_allEntriesRemoved_returnTrue() {
+        assertTrue(table.isEmpty());
+        table.put(1, "a");
+        assertFalse(table.isEmpty());
+        table.remove(1);
+
+        assertTrue(table.isEmpty());
+        assertEquals("[]", table.toString());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When several threads write disjoint keys while others read - " +
+            "Should keep every key and never fail a read of a written key")
+    void put_concurrentWritersAndReaders_keepEveryKey() throws Exception {
+        int threads = 4;
+        int keysPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2 * threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t * keysPerThread;
+            futures.add(executor.submit(() -> {
+                for (int key = offset; key < offset + keysPerThread; key++) table.put(key, String.valueOf(key));
+            }));
+            futures.add(executor.submit(() -> {
+                for (int key = offset; key < offset + keysPerThread; key++)
+                    try {
+                        assertEquals(String.valueOf(key), table.get(key));
+                    } catch (NoSuchElementException ignored) {
+                        // not written yet
+                    }
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+        executor.shutdown();
+
+        assertEquals(threads * keysPerThread, table.size());
+        for (int key = 0; key < threads * keysPerThread; key++) assertEquals(String.valueOf(key), table.get(key));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table has entries - " +
+            "Should visit every entry once")
+    void iterator_tableHasEntries_visitEveryEntryOnce() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        for (Entry<Integer, String> entry : table) visited.merge(entry.getKey(), entry.getValue(), (a, b) -> a + b);
+
+        assertEquals(20, visited.size());
+        for (int i = 0; i < 20; i++) assertEquals(String.valueOf(i), visited.get(i));
+    }
+
+    @Test
+    @DisplayName("forEach - " +
+            "When the table has entries - " +
+            "Should pass every key and value to the action")
+    void forEach_tableHasEntries_passEveryKeyAndValue() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        table.forEach((key, value) -> visited.put(key, value));
+
+        assertEquals(20, visited.size());
+        assertEquals(String.valueOf(19), visited.get(19));
+    }
+
+    @Test
+    @DisplayName("stream - " +
+            "When streaming a large table in parallel - " +
+            "Should see every entry exactly once")
+    void stream_parallelLargeTable_seeEveryEntryOnce() {
+        for (int i = 0; i < 10_000; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(10_000, table.stream().parallel().count());
+        assertEquals(49_995_000L, StreamSupport.stream(table.spliterator(), true)
+                .mapToLong(Entry::getKey).sum());
+        assertEquals(10_000, table.stream().parallel().map(Entry::getKey).distinct().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table is empty - " +
+            "Should have no elements")
+    void iterator_emptyTable_noElements() {
+        assertFalse(table.iterator().hasNext());
+        assertEquals(0, table.stream().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When another thread writes during iteration - " +
+            "Should not throw and see every entry that was not removed")
+    void iterator_concurrentWrites_weaklyConsistent() throws Exception {
+        for (int i = 0; i < 1_000; i++) table.put(i, String.valueOf(i));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 1_000; i < 5_000; i++) table.put(i, String.valueOf(i));
+        });
+
+        Set<Integer> keys = new HashSet<>();
+        for (Entry<Integer, String> entry : table) keys.add(entry.getKey());
+        writer.get();
+        executor.shutdown();
+
+        for (int i = 0; i < 1_000; i++) assertTrue(keys.contains(i));
+    }
+
+    @Test
+    @DisplayName("getOrNull - " +
+            "When the key is present or missing - " +
+            "Should return its value or null without throwing")
+    void getOrNull_presentAndMissingKeys_returnValueOrNull() {
+        table.put(1, "a");
+        table.put(6, "b");
+
+        assertEquals("a", table.getOrNull(1));
+        assertEquals("b", table.getOrNull(6));
+        assertNull(table.getOrNull(2));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When the key is present, removed or mapped to null - " +
+            "Should tell whether the key is in the table")
+    void containsKey_presentRemovedAndNullValuedKeys_reportPresence() {
+        table.put(1, "a");
+        table.put(2, null);
+        table.put(3, "c");
+        table.remove(3);
+
+        assertTrue(table.containsKey(1));
+        assertTrue(table.containsKey(2));
+        assertFalse(table.containsKey(3));
+        assertFalse(table.containsKey(4));
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockedBloomFilter")
+class BlockedBloomFilterTest {
+    BlockedBloomFilter<String> filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new BlockedBloomFilter<>(10_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the arguments are out of range - " +
+            "Should throw IllegalArgumentException")
+    void constructor_invalidArguments_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter<String>(-1, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter<String>(10, Double.NaN));
+    }
+
+    @Test
+    @DisplayName("mightContain - " +
+            "When the key was added - " +
+            "Should return true")
+    void mightContain_addedKeys_returnTrue() {
+        for (int key = 0; key < 10_000; key++) filter.add("key" + key);
+
+        for (int key = 0; key < 10_000; key++) assertTrue(filter.mightContain("key" + key));
+    }
+
+    @Test
+    @DisplayName("mightContain - " +
+            "When the keys were never added - " +
+            "Should return false for all but about the false positive rate")
+    void mightContain_otherKeys_falsePositiveRateNearTarget() {
+        for (int key = 0; key < 10_000; key++) filter.add("key" + key);
+
+        int falsePositives = 0;
+        for (int key = 0; key < 100_000; key++)
+            if (filter.mightContain("other" + key)) falsePositives++;
+
+        int observed = falsePositives;
+        assertTrue(observed < 2_000, () -> "false positives: " + observed);
+    }
+
+    @Test
+    @DisplayName("clear - " +
+            "When the filter holds keys - " +
+            "Should forget every key")
+    void clear_filterHoldsKeys_forgetKeys() {
+        filter.add("a");
+
+        filter.clear();
+
+        assertFalse(filter.mightContain("a"));
+        assertTrue(filter.blockCount() > 0);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter")
+class BloomFilterTest {
+    BloomFilter<Integer> filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new BloomFilter<>(10_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the arguments are out of range - " +
+            "Should throw IllegalArgumentException")
+    void constructor_invalidArguments_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<Integer>(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<Integer>(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<Integer>(10, 1));
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When sized for 1% false positives - " +
+            "Should use about 9.6 bits and 7 hash functions per key")
+    void constructor_onePercent_optimalParameters() {
+        assertEquals(7, filter.hashCount());
+        assertEquals(95_872, filter.bitCount(), 64);
+    }
+
+    @Test
+    @DisplayName("mightContain - " +
+            "When the key was added - " +
+            "Should return true")
+    void mightContain_addedKeys_returnTrue() {
+        for (int key = 0; key < 10_000; key++) assertTrue(filter.add(key));
+
+        for (int key = 0; key < 10_000; key++) assertTrue(filter.mightContain(key));
+    }
+
+    @Test
+    @DisplayName("mightContain - " +
+            "When the keys were never added - " +
+            "Should return false for all but about the false positive rate")
+    void mightContain_otherKeys_falsePositiveRateNearTarget() {
+        for (int key = 0; key < 10_000; key++) filter.add(key);
+
+        int falsePositives = 0;
+        for (int key = 10_000; key < 110_000; key++)
+            if (filter.mightContain(key)) falsePositives++;
+
+        int observed = falsePositives;
+        assertTrue(observed < 1_500, () -> "false positives: " + observed);
+    }
+
+    @Test
+    @DisplayName("remove and clear - " +
+            "When removing from a Bloom filter or clearing it - " +
+            "Should not support removal but forget every key on clear")
+    void removeAndClear_bloomFilter_clearOnly() {
+        filter.add(1);
+
+        assertFalse(filter.supportsRemoval());
+        assertThrows(UnsupportedOperationException.class, () -> filter.remove(1));
+
+        filter.clear();
+        assertFalse(filter.mightContain(1));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CuckooFilter")
+class CuckooFilterTest {
+    CuckooFilter<Integer> filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new CuckooFilter<>(10_000);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the expected number of keys is not positive - " +
+            "Should throw IllegalArgumentException")
+    void constructor_nonPositiveExpectedInsertions_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new CuckooFilter<Integer>(0));
+    }
+
+    @Test
+    @DisplayName("mightContain - " +
+            "When the key was added - " +
+            "Should return true")
+    void mightContain_addedKeys_returnTrue() {
+        for (int key = 0; key < 10_000; key++) assertTrue(filter.add(key));
+
+        for (int key = 0; key < 10_000; key++) assertTrue(filter.mightContain(key));
+        assertEquals(10_000, filter.size());
+    }
+
+    @Test
+    @DisplayName("mightContain - " +
+            "When the keys were never added - " +
+            "Should return false for nearly all of them")
+    void mightContain_otherKeys_fewFalsePositives() {
+        for (int key = 0; key < 10_000; key++) filter.add(key);
+
+        int falsePositives = 0;
+        for (int key = 10_000; key < 110_000; key++)
+            if (filter.mightContain(key)) falsePositives++;
+
+        int observed = falsePositives;
+        assertTrue(observed < 100, () -> "false positives: " + observed);
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing added keys - " +
+            "Should forget them and keep the others")
+    void remove_addedKeys_forgetThem() {
+        for (int key = 0; key < 10_000; key++) filter.add(key);
+
+        assertTrue(filter.supportsRemoval());
+        for (int key = 0; key < 10_000; key += 2) assertTrue(filter.remove(key));
+
+        for (int key = 1; key < 10_000; key += 2) assertTrue(filter.mightContain(key));
+        int remaining = 0;
+        for (int key = 0; key < 10_000; key += 2)
+            if (filter.mightContain(key)) remaining++;
+        assertTrue(remaining < 10);
+        assertEquals(5_000, filter.size());
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When the key was never added - " +
+            "Should return false")
+    void remove_unknownKey_returnFalse() {
+        filter.add(1);
+
+        assertFalse(filter.remove(2));
+        assertEquals(1, filter.size());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When adding more keys than the filter has room for - " +
+            "Should keep every added key, refuse new ones and accept them again once emptied")
+    void add_moreKeysThanCapacity_refuseWhenFull() {
+        CuckooFilter<Integer> small = new CuckooFilter<>(100);
+        int added = 0;
+        while (small.add(added)) added++;
+
+        assertTrue(small.size() > small.capacity() * 0.9, () -> "filled " + small.size() + " of " + small.capacity());
+        for (int key = 0; key < added; key++) assertTrue(small.mightContain(key));
+
+        for (int key = 0; key < added; key++) assertTrue(small.remove(key));
+        assertEquals(0, small.size());
+        assertTrue(small.add(added));
+    }
+
+    @Test
+    @DisplayName("clear - " +
+            "When the filter holds keys - " +
+            "Should forget every key")
+    void clear_filterHoldsKeys_forgetKeys() {
+        filter.add(1);
+
+        filter.clear();
+
+        assertFalse(filter.mightContain(1));
+        assertEquals(0, filter.size());
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.aliazani.linear.hashtables.filter;
+
+import io.github.aliazani.linear.hashtables.open_addressing.linear_probing.MyHashTableLinearProbing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FilteredHashTable")
+class FilteredHashTableTest {
+    FilteredHashTable<Integer, String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new FilteredHashTable<>(new MyHashTableLinearProbing<Integer, String>(16), new CuckooFilter<>(1_000));
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the table already holds keys - " +
+            "Should add them to the filter")
+    void constructor_tableHoldsKeys_addToFilter() {
+        MyHashTableLinearProbing<Integer, String> existing = new MyHashTableLinearProbing<>(16);
+        existing.put(1, "a");
+        existing.put(2, "b");
+
+        FilteredHashTable<Integer, String> filtered = new FilteredHashTable<>(existing, new BloomFilter<>(100, 0.01));
+
+        assertEquals("a", filtered.get(1));
+        assertEquals("b", filtered.getOrNull(2));
+        assertEquals(2, filtered.size());
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the keys were put - " +
+            "Should return their values")
+    void get_putKeys_returnValues() {
+        for (int key = 0; key < 1_000; key++) table.put(key, "v" + key);
+        table.put(5, "five");
+
+        assertEquals("five", table.get(5));
+        assertEquals("v999", table.get(999));
+        assertEquals(1_000, table.size());
+    }
+
+    @Test
+    @DisplayName("getOrNull and containsKey - " +
+            "When most lookups miss - " +
+            "Should answer the misses from the filter without throwing")
+    void getOrNullAndContainsKey_misses_answeredByFilter() {
+        for (int key = 0; key < 1_000; key++) table.put(key, "v" + key);
+
+        for (int key = 1_000; key < 11_000; key++) {
+            assertNull(table.getOrNull(key));
+            assertFalse(table.containsKey(key));
+        }
+
+        assertTrue(table.filteredLookups() > 19_900);
+        assertTrue(table.containsKey(10));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is missing - " +
+            "Should throw NoSuchElementException")
+    void get_missingKey_throwNoSuchElement() {
+        table.put(1, "a");
+
+        assertThrows(NoSuchElementException.class, () -> table.get(2));
+        assertThrows(NoSuchElementException.class, () -> table.remove(2));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing a key - " +
+            "Should remove it from the table and the filter")
+    void remove_existingKey_removeFromTableAndFilter() {
+        table.put(1, "a");
+        table.put(1, "b");
+
+        table.remove(1);
+
+        assertFalse(table.containsKey(1));
+        assertTrue(table.isEmpty());
+        table.put(1, "c");
+        assertEquals("c", table.get(1));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the filter runs out of room - " +
+            "Should stop consulting it and keep answering correctly")
+    void put_filterFull_bypassFilter() {
+        FilteredHashTable<Integer, String> small =
+                new FilteredHashTable<>(new MyHashTableLinearProbing<Integer, String>(16), new CuckooFilter<>(8));
+
+        for (int key = 0; key < 200; key++) small.put(key, "v" + key);
+
+        assertTrue(small.isFilterOverflowed());
+        for (int key = 0; key < 200; key++) assertEquals("v" + key, small.get(key));
+        assertNull(small.getOrNull(500));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When iterating the decorator - " +
+            "Should visit the entries of the table")
+    void iterator_iterate_visitTableEntries() {
+        table.put(1, "a");
+        table.put(2, "b");
+
+        assertEquals(2, table.stream().count());
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.aliazani.linear.hashtables.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HashTableMetrics")
+class HashTableMetricsTest {
+    HashTableMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new HashTableMetrics(1);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the sample interval is not a positive power of two - " +
+            "Should throw IllegalArgumentException")
+    void constructor_invalidSampleInterval_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new HashTableMetrics(0));
+        assertThrows(IllegalArgumentException.class, () -> new HashTableMetrics(3));
+    }
+
+    @Test
+    @DisplayName("shouldSample - " +
+            "When the sample interval is 4 - " +
+            "Should sample one lookup in 4 and count every lookup")
+    void shouldSample_intervalOfFour_sampleOneInFour() {
+        HashTableMetrics sampled = new HashTableMetrics(4);
+
+        int samples = 0;
+        for (int i = 0; i < 100; i++)
+            if (sampled.shouldSample()) samples++;
+
+        assertEquals(25, samples);
+        assertEquals(100, sampled.getOperations());
+    }
+
+    @Test
+    @DisplayName("recordProbeLength - " +
+            "When recording probe lengths - " +
+            "Should fill the histogram and clamp long probes into the last bucket")
+    void recordProbeLength_recordLengths_fillHistogram() {
+        metrics.recordProbeLength(1);
+        metrics.recordProbeLength(1);
+        metrics.recordProbeLength(4);
+        metrics.recordProbeLength(100);
+
+        long[] histogram = metrics.getProbeLengthHistogram();
+        assertEquals(2, histogram[1]);
+        assertEquals(1, histogram[4]);
+        assertEquals(1, histogram[HashTableMetrics.HISTOGRAM_SIZE - 1]);
+        assertEquals(26.5, metrics.getMeanProbeLength());
+        assertEquals(100, metrics.getMaxProbeLength());
+    }
+
+    @Test
+    @DisplayName("recordLoadFactor - " +
+            "When more load factors are recorded than the history holds - " +
+            "Should keep the most recent ones, oldest first")
+    void recordLoadFactor_historyOverflows_keepMostRecent() {
+        int count = HashTableMetrics.LOAD_FACTOR_HISTORY_SIZE + 10;
+        for (int i = 0; i < count; i++) metrics.recordLoadFactor(i);
+
+        double[] history = metrics.getLoadFactorHistory();
+        assertEquals(HashTableMetrics.LOAD_FACTOR_HISTORY_SIZE, history.length);
+        assertEquals(10, history[0]);
+        assertEquals(count - 1, history[history.length - 1]);
+        assertEquals(count - 1, metrics.getLoadFactor());
+    }
+
+    @Test
+    @DisplayName("recordResize - " +
+            "When the table is resized - " +
+            "Should count the resize and record the new capacity and load factor")
+    void recordResize_tableResized_countResize() {
+        metrics.recordResize(16, 0.375);
+        metrics.recordResize(32, 0.4);
+
+        HashTableStats stats = metrics.snapshot();
+        assertEquals(2, stats.resizes());
+        assertEquals(32, stats.capacity());
+        assertEquals(2, stats.loadFactorHistory().size());
+        assertEquals(0.4, stats.loadFactorHistory().get(1).loadFactor());
+    }
+
+    @Test
+    @DisplayName("recordCapacity - " +
+            "When the metrics are attached to a table - " +
+            "Should record the capacity without counting a resize")
+    void recordCapacity_metricsAttached_recordCapacityWithoutResize() {
+        metrics.recordCapacity(16);
+
+        assertEquals(16, metrics.getCapacity());
+        assertEquals(0, metrics.getResizes());
+        assertEquals(0, metrics.getLoadFactorHistory().length);
+    }
+
+    @Test
+    @DisplayName("snapshot - " +
+            "When recording continues after the snapshot - " +
+            "Should not change the snapshot")
+    void snapshot_recordingContinues_snapshotUnchanged() {
+        metrics.recordChainLength(3);
+        HashTableStats stats = metrics.snapshot();
+
+        metrics.recordChainLength(3);
+
+        assertEquals(1, stats.chainLengthHistogram()[3]);
+        assertEquals(3, stats.maxChainLength());
+    }
+
+    @Test
+    @DisplayName("reset - " +
+            "When metrics have been recorded - " +
+            "Should clear everything but the capacity")
+    void reset_recordedMetrics_clearEverythingButCapacity() {
+        metrics.shouldSample();
+        metrics.recordProbeLength(2);
+        metrics.recordResize(8, 0.5);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getOperations());
+        assertEquals(0, metrics.getMaxProbeLength());
+        assertEquals(0, metrics.getResizes());
+        assertEquals(0, metrics.getLoadFactorHistory().length);
+        assertEquals(8, metrics.getCapacity());
+    }
+
+    @Test
+    @DisplayName("register - " +
+            "When registering with the platform MBean server - " +
+            "Should expose the metrics as attributes")
+    void register_platformMBeanServer_exposeAttributes() throws Exception {
+        metrics.recordProbeLength(7);
+        metrics.recordResize(64, 0.5);
+
+        ObjectName name = metrics.register("test table");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(7, server.getAttribute(name, "MaxProbeLength"));
+            assertEquals(1L, server.getAttribute(name, "Resizes"));
+            assertEquals(0.5, server.getAttribute(name, "LoadFactor"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.aliazani.linear.hashtables.open_addressing.double_hashing;
 
+import io.github.aliazani.linear.hashtables.metrics.HashTableMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +32,7 @@ class MyHashTableDoubleHashingTest {
         table.put(5, "f");
 
 
-        assertEquals("[0=a, 1=b, 2=c, 3=d, 5=f]", table.toString());
+        assertEquals("[0=a, 1=b, 2=c, 3=d, null, 5=f, null, null, null, null, null]", table.toString());
     }
 
     @Test
@@ -56,7 +59,7 @@ class MyHashTableDoubleHashingTest {
         table.put(5, "c");
         table.put(10, "d");
 
-        assertEquals("[0=a, 1=b, 5=c, null, 10=d]", table.toString());
+        assertEquals("[0=a, 1=b, null, null, null, 5=c, null, null, null, null, 10=d]", table.toString());
     }
 
     @Test
@@ -83,7 +86,7 @@ class MyHashTableDoubleHashingTest {
         table.put(1, "b");
         table.put(null, null);
 
-        assertEquals("[0=a, 1=b, null, null=null, null]", table.toString());
+        assertEquals("[0=a, 1=b, null=null, null, null]", table.toString());
     }
 
     @Test
@@ -120,16 +123,81 @@ class MyHashTableDoubleHashingTest {
 
     @Test
     @DisplayName("put - " +
-            "When adding a new key-value pair and table is full - " +
-            "Should throw IllegalStateException")
-    void put_addNewEntryAndTableIsFull_throwIllegalState() {
+            "When the load factor would exceed the maximum - " +
+            "Should grow to the next prime above twice the capacity")
+    void put_loadFactorExceeded_growToNextPrime() {
         table.put(1, "a");
         table.put(2, "b");
         table.put(3, "d");
         table.put(5, "e");
         table.put(6, "f");
+        table.put(7, "g");
 
-        assertThrows(IllegalStateException.class, () -> table.put(7, "g"));
+        assertEquals(11, table.capacity());
+        assertEquals(6, table.size());
+        assertEquals("g", table.get(7));
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size is not prime - " +
+            "Should round the capacity up to a prime")
+    void constructor_sizeNotPrime_roundUpToPrime() {
+        assertEquals(11, new MyHashTableDoubleHashing<Integer, String>(8).capacity());
+        assertEquals(2, new MyHashTableDoubleHashing<Integer, String>(1).capacity());
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size or the maximum load factor is invalid - " +
+            "Should throw IllegalArgumentException")
+    void constructor_invalidArguments_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableDoubleHashing<Integer, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableDoubleHashing<Integer, String>(5, 1f));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the keys are not numeric - " +
+            "Should store and find every key")
+    void put_nonNumericKeys_storeEveryKey() {
+        MyHashTableDoubleHashing<String, Integer> words = new MyHashTableDoubleHashing<>(3);
+        String[] keys = {"apple", "banana", "cherry", "date", "elderberry", "fig", "grape"};
+        for (int i = 0; i < keys.length; i++) words.put(keys[i], i);
+
+        for (int i = 0; i < keys.length; i++) assertEquals(i, words.get(keys[i]));
+        assertThrows(NoSuchElementException.class, () -> words.get("kiwi"));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When a removed slot lies on the probe sequence of another key - " +
+            "Should still find the other key")
+    void remove_deletedSlotOnProbeSequence_stillFindOtherKey() {
+        table.put(0, "a");
+        table.put(5, "b");
+        table.put(10, "c");
+
+        table.remove(5);
+
+        assertEquals("c", table.get(10));
+        assertThrows(NoSuchElementException.class, () -> table.get(5));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When keys are repeatedly added and removed - " +
+            "Should reclaim the deleted slots instead of growing")
+    void put_repeatedAddAndRemove_reclaimDeletedSlots() {
+        for (int i = 0; i < 1_000; i++) {
+            table.put(i, String.valueOf(i));
+            table.remove(i);
+        }
+        table.put(7, "x");
+
+        assertEquals(5, table.capacity());
+        assertEquals(1, table.size());
+        assertEquals("x", table.get(7));
     }
 
     @Test
@@ -418,6 +486,130 @@ class MyHashTableDoubleHashingTest {
         table.remove(6);
         table.put(8, "b");
 
-        assertEquals("[0=a, 8=b, 12=c, 15=d, 21=e]", table.toString());
+        assertEquals("[0=a, 12=c, null, null, 15=d, null, null, null, 8=b, null, 21=e]", table.toString());
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When adding a batch of keys that fits - " +
+            "Should store every key")
+    void putAll_batchThatFits_storeEveryKey() {
+        table.put(1, "a");
+
+        table.putAll(new Integer[]{1, 2, 3}, new String[]{"x", "b", "c"});
+
+        assertEquals(3, table.size());
+        assertEquals(List.of("x", "b", "c"), table.getAll(new Integer[]{1, 2, 3}));
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When the new keys of the batch do not fit - " +
+            "Should grow once and store every key")
+    void putAll_batchDoesNotFit_growAndStoreEveryKey() {
+        table.put(1, "a");
+
+        table.putAll(new Integer[]{1, 2, 3, 4, 6, 7}, new String[]{"x", "b", "c", "d", "e", "f"});
+
+        assertEquals(11, table.capacity());
+        assertEquals(6, table.size());
+        assertEquals(List.of("x", "f"), table.getAll(new Integer[]{1, 7}));
+    }
+
+    @Test
+    @DisplayName("removeAll - " +
+            "When removing a batch of keys - " +
+            "Should remove every key")
+    void removeAll_batchOfKeys_removeEveryKey() {
+        table.putAll(new Integer[]{1, 2, 3}, new String[]{"a", "b", "c"});
+
+        table.removeAll(new Integer[]{1, 3});
+
+        assertEquals(1, table.size());
+        assertEquals("b", table.get(2));
+    }
+
+    @Test
+    @DisplayName("getAll - " +
+            "When a key of the batch is missing - " +
+            "Should throw NoSuchElementException")
+    void getAll_keyMissing_throwNoSuchElement() {
+        table.putAll(new Integer[]{1, 2, 3}, new String[]{"a", "b", "c"});
+
+        assertThrows(NoSuchElementException.class, () -> table.getAll(new Integer[]{1, 5, 3}));
+    }
+
+    @Test
+    @DisplayName("removeAll - " +
+            "When a key of the batch is missing - " +
+            "Should throw NoSuchElementException after removing the keys before it")
+    void removeAll_keyMissing_throwAfterRemovingEarlierKeys() {
+        table.putAll(new Integer[]{1, 2, 3}, new String[]{"a", "b", "c"});
+
+        assertThrows(NoSuchElementException.class, () -> table.removeAll(new Integer[]{1, 5, 3}));
+        assertEquals(2, table.size());
+        assertEquals(List.of("b", "c"), table.getAll(new Integer[]{2, 3}));
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When metrics are attached before any resize - " +
+            "Should report the current capacity")
+    void setMetrics_attachedBeforeResize_reportCurrentCapacity() {
+        HashTableMetrics metrics = new HashTableMetrics();
+
+        table.setMetrics(metrics);
+
+        assertEquals(5, metrics.getCapacity());
+        assertEquals(0, metrics.getResizes());
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When metrics are attached - " +
+            "Should record every sampled probe length and the resizes")
+    void setMetrics_metricsAttached_recordProbeLengthsAndResizes() {
+        HashTableMetrics metrics = new HashTableMetrics(1);
+        table.setMetrics(metrics);
+
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+        for (int i = 0; i < 20; i++) table.get(i);
+
+        assertSame(metrics, table.metrics());
+        assertEquals(40 + 0, metrics.getOperations());
+        assertEquals(metrics.getOperations(), Arrays.stream(metrics.getProbeLengthHistogram()).sum());
+        assertTrue(metrics.getMaxProbeLength() >= 1);
+        assertEquals(3, metrics.getResizes());
+        assertEquals(table.capacity(), metrics.getCapacity());
+        assertEquals(table.loadFactor(), metrics.getLoadFactor());
+    }
+
+    @Test
+    @DisplayName("getOrNull - " +
+            "When the key is present or missing - " +
+            "Should return its value or null without throwing")
+    void getOrNull_presentAndMissingKeys_returnValueOrNull() {
+        table.put(1, "a");
+        table.put(6, "b");
+
+        assertEquals("a", table.getOrNull(1));
+        assertEquals("b", table.getOrNull(6));
+        assertNull(table.getOrNull(2));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When the key is present, removed or mapped to null - " +
+            "Should tell whether the key is in the table")
+    void containsKey_presentRemovedAndNullValuedKeys_reportPresence() {
+        table.put(1, "a");
+        table.put(2, null);
+        table.put(3, "c");
+        table.remove(3);
+
+        assertTrue(table.containsKey(1));
+        assertTrue(table.containsKey(2));
+        assertFalse(table.containsKey(3));
+        assertFalse(table.containsKey(4));
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,17 @@
 package io.github.aliazani.linear.hashtables.open_addressing.linear_probing;
 
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.metrics.HashTableMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,7 +36,7 @@ class MyHashTableLinearProbingTest {
         table.put(5, "f");
 
 
-        assertEquals("[0=a, 1=b, 2=c, 3=d, 5=f]", table.toString());
+        assertEquals("[0=a, 1=b, 2=c, 3=d, null, 5=f, null, null, null, null]", table.toString());
     }
 
     @Test
@@ -56,7 +63,7 @@ class MyHashTableLinearProbingTest {
         table.put(5, "c");
         table.put(10, "d");
 
-        assertEquals("[0=a, 1=b, 5=c, 10=d, null]", table.toString());
+        assertEquals("[0=a, 1=b, 10=d, null, null, 5=c, null, null, null, null]", table.toString());
     }
 
     @Test
@@ -120,16 +127,41 @@ class MyHashTableLinearProbingTest {
 
     @Test
     @DisplayName("put - " +
-            "When adding a new key-value pair and table is full - " +
-            "Should throw IllegalStateException")
-    void put_addNewEntryAndTableIsFull_throwIllegalState() {
+            "When adding more entries than the initial size - " +
+            "Should grow the table instead of throwing IllegalStateException")
+    void put_addMoreEntriesThanInitialSize_growTable() {
         table.put(1, "a");
         table.put(2, "b");
         table.put(3, "d");
         table.put(5, "e");
         table.put(6, "f");
+        table.put(7, "g");
 
-        assertThrows(IllegalStateException.class, () -> table.put(7, "g"));
+        assertEquals(6, table.size());
+        assertEquals(10, table.capacity());
+        assertEquals(0.6, table.loadFactor());
+        assertEquals("g", table.get(7));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding many entries - " +
+            "Should keep the load factor below the maximum load factor")
+    void put_addManyEntries_keepLoadFactorBelowMaximum() {
+        for (int i = 0; i < 1000; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(1000, table.size());
+        assertTrue(table.loadFactor() <= 0.75);
+        for (int i = 0; i < 1000; i++) assertEquals(String.valueOf(i), table.get(i));
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size or the maximum load factor is out of range - " +
+            "Should throw IllegalArgumentException")
+    void constructor_sizeOrMaxLoadFactorOutOfRange_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableLinearProbing<Integer, String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableLinearProbing<Integer, String>(5, 1f));
     }
 
     @Test
@@ -238,7 +270,7 @@ class MyHashTableLinearProbingTest {
     @Test
     @DisplayName("remove - " +
             "When removing the first key-value pair with collision - " +
-            "Should remove the first key-value pair")
+            "Should remove the first key-value pair and shift the following entries back")
     void remove_firstKeyValuePairWithCollision_removeTheFirstKeyValuePairWithCollision() {
         table.put(0, "a");
         table.put(5, "b");
@@ -246,12 +278,12 @@ class MyHashTableLinearProbingTest {
 
         table.remove(0);
 
-        assertEquals("[null, 5=b, 10=c, null, null]", table.toString());
+        assertEquals("[5=b, 10=c, null, null, null]", table.toString());
     }
 
     @DisplayName("remove - " +
             "When removing the middle key-value pair with collision - " +
-            "Should remove the middle key-value pair with collision")
+            "Should remove the middle key-value pair and shift the following entries back")
     @Test
     void remove_middleKeyValuePairWithCollision_removeTheMiddleKeyValuePairWithCollision() {
         table.put(0, "a");
@@ -260,7 +292,7 @@ class MyHashTableLinearProbingTest {
 
         table.remove(5);
 
-        assertEquals("[0=a, null, 10=c, null, null]", table.toString());
+        assertEquals("[0=a, 10=c, null, null, null]", table.toString());
     }
 
     @Test
@@ -418,6 +450,201 @@ class MyHashTableLinearProbingTest {
         table.remove(6);
         table.put(8, "b");
 
-        assertEquals("[0=a, 8=b, 12=c, 15=d, 21=e]", table.toString());
+        assertEquals("[0=a, 21=e, 12=c, null, null, 15=d, null, null, 8=b, null]", table.toString());
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing an entry from a probe sequence that wraps around the table - " +
+            "Should keep every remaining key reachable")
+    void remove_probeSequenceWrapsAround_keepRemainingKeysReachable() {
+        table = new MyHashTableLinearProbing<>(10);
+        table.put(8, "a");
+        table.put(18, "b");
+        table.put(28, "c");
+        table.put(9, "d");
+        table.put(0, "e");
+
+        table.remove(18);
+
+        assertEquals("[9=d, 0=e, null, null, null, null, null, null, 8=a, 28=c]", table.toString());
+        assertEquals("c", table.get(28));
+        assertEquals("d", table.get(9));
+        assertEquals("e", table.get(0));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should stop probing at the first empty slot")
+    void get_keyNotInTable_stopAtFirstEmptySlot() {
+        table.put(0, "a");
+        table.put(5, "b");
+        table.remove(0);
+
+        assertEquals("[5=b, null, null, null, null]", table.toString());
+        assertThrows(NoSuchElementException.class, () -> table.get(10));
+        assertEquals("b", table.get(5));
+    }
+
+    @Test
+    @DisplayName("putAll - " +
+            "When adding a batch of keys - " +
+            "Should grow the table once and store every key")
+    void putAll_batchOfKeys_growOnceAndStoreEveryKey() {
+        Integer[] keys = {0, 1, 2, 3, 4, 5, 1};
+        String[] values = {"a", "b", "c", "d", "e", "f", "z"};
+
+        table.putAll(keys, values);
+
+        assertEquals(6, table.size());
+        assertEquals(10, table.capacity());
+        assertEquals(List.of("a", "z", "f"), table.getAll(new Integer[]{0, 1, 5}));
+    }
+
+    @Test
+    @DisplayName("removeAll - " +
+            "When removing a batch of keys - " +
+            "Should remove every key")
+    void removeAll_batchOfKeys_removeEveryKey() {
+        table.putAll(new Integer[]{0, 5, 10}, new String[]{"a", "b", "c"});
+
+        table.removeAll(new Integer[]{0, 10});
+
+        assertEquals("[5=b, null, null, null, null]", table.toString());
+    }
+
+    @Test
+    @DisplayName("getAll - " +
+            "When a key of the batch is missing - " +
+            "Should throw NoSuchElementException")
+    void getAll_keyMissing_throwNoSuchElement() {
+        table.putAll(new Integer[]{0, 5, 10}, new String[]{"a", "b", "c"});
+
+        assertThrows(NoSuchElementException.class, () -> table.getAll(new Integer[]{0, 7, 10}));
+    }
+
+    @Test
+    @DisplayName("removeAll - " +
+            "When a key of the batch is missing - " +
+            "Should throw NoSuchElementException after removing the keys before it")
+    void removeAll_keyMissing_throwAfterRemovingEarlierKeys() {
+        table.putAll(new Integer[]{0, 5, 10}, new String[]{"a", "b", "c"});
+
+        assertThrows(NoSuchElementException.class, () -> table.removeAll(new Integer[]{0, 7, 10}));
+        assertEquals(2, table.size());
+        assertEquals(List.of("b", "c"), table.getAll(new Integer[]{5, 10}));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table has entries - " +
+            "Should visit every entry once")
+    void iterator_tableHasEntries_visitEveryEntryOnce() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        for (Entry<Integer, String> entry : table) visited.merge(entry.getKey(), entry.getValue(), (a, b) -> a + b);
+
+        assertEquals(20, visited.size());
+        for (int i = 0; i < 20; i++) assertEquals(String.valueOf(i), visited.get(i));
+    }
+
+    @Test
+    @DisplayName("forEach - " +
+            "When the table has entries - " +
+            "Should pass every key and value to the action")
+    void forEach_tableHasEntries_passEveryKeyAndValue() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        table.forEach((key, value) -> visited.put(key, value));
+
+        assertEquals(20, visited.size());
+        assertEquals(String.valueOf(19), visited.get(19));
+    }
+
+    @Test
+    @DisplayName("stream - " +
+            "When streaming a large table in parallel - " +
+            "Should see every entry exactly once")
+    void stream_parallelLargeTable_seeEveryEntryOnce() {
+        for (int i = 0; i < 10_000; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(10_000, table.stream().parallel().count());
+        assertEquals(49_995_000L, StreamSupport.stream(table.spliterator(), true)
+                .mapToLong(Entry::getKey).sum());
+        assertEquals(10_000, table.stream().parallel().map(Entry::getKey).distinct().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table is empty - " +
+            "Should have no elements")
+    void iterator_emptyTable_noElements() {
+        assertFalse(table.iterator().hasNext());
+        assertEquals(0, table.stream().count());
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When metrics are attached before any resize - " +
+            "Should report the current capacity")
+    void setMetrics_attachedBeforeResize_reportCurrentCapacity() {
+        HashTableMetrics metrics = new HashTableMetrics();
+
+        table.setMetrics(metrics);
+
+        assertEquals(5, metrics.getCapacity());
+        assertEquals(0, metrics.getResizes());
+    }
+
+    @Test
+    @DisplayName("setMetrics - " +
+            "When metrics are attached - " +
+            "Should record every sampled probe length and the resizes")
+    void setMetrics_metricsAttached_recordProbeLengthsAndResizes() {
+        HashTableMetrics metrics = new HashTableMetrics(1);
+        table.setMetrics(metrics);
+
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+        for (int i = 0; i < 20; i++) table.get(i);
+
+        assertSame(metrics, table.metrics());
+        assertEquals(40 + 0, metrics.getOperations());
+        assertEquals(metrics.getOperations(), Arrays.stream(metrics.getProbeLengthHistogram()).sum());
+        assertTrue(metrics.getMaxProbeLength() >= 1);
+        assertEquals(3, metrics.getResizes());
+        assertEquals(table.capacity(), metrics.getCapacity());
+        assertEquals(table.loadFactor(), metrics.getLoadFactor());
+    }
+
+    @Test
+    @DisplayName("getOrNull - " +
+            "When the key is present or missing - " +
+            "Should return its value or null without throwing")
+    void getOrNull_presentAndMissingKeys_returnValueOrNull() {
+        table.put(1, "a");
+        table.put(6, "b");
+
+        assertEquals("a", table.getOrNull(1));
+        assertEquals("b", table.getOrNull(6));
+        assertNull(table.getOrNull(2));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When the key is present, removed or mapped to null - " +
+            "Should tell whether the key is in the table")
+    void containsKey_presentRemovedAndNullValuedKeys_reportPresence() {
+        table.put(1, "a");
+        table.put(2, null);
+        table.put(3, "c");
+        table.remove(3);
+
+        assertTrue(table.containsKey(1));
+        assertTrue(table.containsKey(2));
+        assertFalse(table.containsKey(3));
+        assertFalse(table.containsKey(4));
     }
-}
\ No newline at end of file
+}
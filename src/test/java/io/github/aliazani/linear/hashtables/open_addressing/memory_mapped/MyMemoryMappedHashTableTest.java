@@ -0,0 +1,125 @@
+package io.github.aliazani.linear.hashtables.open_addressing.memory_mapped;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyMemoryMappedHashTable")
+class MyMemoryMappedHashTableTest {
+    @TempDir
+    Path directory;
+    Path file;
+    MyMemoryMappedHashTable table;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("table.bin");
+        table = MyMemoryMappedHashTable.open(file, 4);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        table.close();
+    }
+
+    @Test
+    @DisplayName("open - " +
+            "When the file does not exist - " +
+            "Should create an empty table with a power-of-two capacity")
+    void open_fileDoesNotExist_createEmptyTable() {
+        assertTrue(Files.exists(file));
+        assertTrue(table.isEmpty());
+        assertEquals(4, table.capacity());
+    }
+
+    @Test
+    @DisplayName("open - " +
+            "When the file does not contain a hash table - " +
+            "Should throw IOException")
+    void open_fileIsNotHashTable_throwIOException() throws IOException {
+        Path other = directory.resolve("other.bin");
+        Files.write(other, new byte[100]);
+
+        assertThrows(IOException.class, () -> MyMemoryMappedHashTable.open(other, 4));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding and updating key-value pairs - " +
+            "Should store the latest value")
+    void put_addAndUpdateKeyValuePairs_storeLatestValue() {
+        table.put(1, 10);
+        table.put(-1, 20);
+        table.put(1, 11);
+
+        assertEquals(11, table.get(1));
+        assertEquals(20, table.get(-1));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding the key 0 - " +
+            "Should store it apart from the slots")
+    void put_zeroKey_storeIt() {
+        table.put(0, 5);
+
+        assertTrue(table.containsKey(0));
+        assertEquals(5, table.get(0));
+        assertEquals(1, table.size());
+
+        table.remove(0);
+        assertFalse(table.containsKey(0));
+        assertThrows(NoSuchElementException.class, () -> table.get(0));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the load factor would exceed the maximum load factor - " +
+            "Should grow the file and keep every key reachable")
+    void put_loadFactorExceedsMaximum_growFile() throws IOException {
+        for (long key = 0; key < 1000; key++) table.put(key, key * 2);
+
+        assertEquals(1000, table.size());
+        assertEquals(2048, table.capacity());
+        assertEquals(64 + 2048 * 16, Files.size(file));
+        for (long key = 0; key < 1000; key++) assertEquals(key * 2, table.get(key));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing keys - " +
+            "Should keep the remaining keys reachable")
+    void remove_keys_keepRemainingKeysReachable() {
+        for (long key = 1; key <= 1000; key++) table.put(key, key);
+        for (long key = 1; key <= 1000; key += 2) table.remove(key);
+
+        assertEquals(500, table.size());
+        for (long key = 1; key <= 1000; key++) assertEquals(key % 2 == 0, table.containsKey(key));
+        assertThrows(NoSuchElementException.class, () -> table.remove(1));
+    }
+
+    @Test
+    @DisplayName("open - " +
+            "When reopening a closed table - " +
+            "Should see every entry without rebuilding")
+    void open_reopenClosedTable_seeEveryEntry() throws IOException {
+        for (long key = 0; key < 100; key++) table.put(key, -key);
+        table.close();
+
+        table = MyMemoryMappedHashTable.open(file, 4);
+
+        assertEquals(100, table.size());
+        assertEquals(256, table.capacity());
+        for (long key = 0; key < 100; key++) assertEquals(-key, table.get(key));
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.aliazani.linear.hashtables.open_addressing.robin_hood;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyHashTableRobinHood")
+class MyHashTableRobinHoodTest {
+    MyHashTableRobinHood<Integer, String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new MyHashTableRobinHood<>(10);
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding a new key-value pair - " +
+            "Should add it to the table")
+    void put_addNewKeyValuePair_addToTable() {
+        table.put(0, "a");
+        table.put(1, "b");
+        table.put(2, "c");
+
+        assertEquals("[0=a, 1=b, 2=c, null, null, null, null, null, null, null]", table.toString());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When updating an existing key-value pair - " +
+            "Should update the value")
+    void put_updateExistingKeyValuePair_updateValue() {
+        table.put(1, "a");
+        table.put(1, "d");
+
+        assertEquals("[null, 1=d, null, null, null, null, null, null, null, null]", table.toString());
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When a new key is farther from its home slot than an existing entry - " +
+            "Should displace the existing entry")
+    void put_newKeyFartherFromHome_displaceExistingEntry() {
+        table.put(0, "a");
+        table.put(1, "b");
+        table.put(10, "c");
+
+        assertEquals("[0=a, 10=c, 1=b, null, null, null, null, null, null, null]", table.toString());
+        assertEquals(1, table.maxProbeDistance());
+        assertEquals(2.0 / 3, table.meanProbeDistance());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding a key-value pair with null key - " +
+            "Should add it to the table")
+    void put_nullKey_addToTable() {
+        table.put(null, "a");
+
+        assertEquals("a", table.get(null));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the load factor would exceed the maximum load factor - " +
+            "Should grow the table")
+    void put_loadFactorExceedsMaximum_growTable() {
+        for (int i = 0; i < 10; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(20, table.capacity());
+        assertEquals(0.5, table.loadFactor());
+        for (int i = 0; i < 10; i++) assertEquals(String.valueOf(i), table.get(i));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should throw NoSuchElementException")
+    void get_keyNotInTable_throwNoSuchElement() {
+        table.put(0, "a");
+        table.put(10, "b");
+
+        assertThrows(NoSuchElementException.class, () -> table.get(20));
+        assertThrows(NoSuchElementException.class, () -> table.get(1));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing an entry inside a probe sequence - " +
+            "Should shift the following entries back")
+    void remove_entryInsideProbeSequence_shiftFollowingEntriesBack() {
+        table.put(0, "a");
+        table.put(10, "b");
+        table.put(20, "c");
+        table.put(3, "d");
+
+        table.remove(0);
+
+        assertEquals("[10=b, 20=c, null, 3=d, null, null, null, null, null, null]", table.toString());
+        assertEquals(3, table.size());
+        assertEquals("c", table.get(20));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing a non-existing key - " +
+            "Should throw a NoSuchElementException")
+    void remove_nonExistingKey_throwNoSuchElementException() {
+        table.put(0, "a");
+
+        assertThrows(NoSuchElementException.class, () -> table.remove(10));
+    }
+
+    @Test
+    @DisplayName("isEmpty - " +
+            "When all entries are removed - " +
+            "Should return true")
+    void isEmpty_allEntriesRemoved_returnTrue() {
+        table.put(0, "a");
+        table.remove(0);
+
+        assertTrue(table.isEmpty());
+        assertEquals(0, table.maxProbeDistance());
+        assertEquals(0, table.meanProbeDistance());
+    }
+
+    @Test
+    @DisplayName("maxProbeDistance - " +
+            "When many keys are added and removed - " +
+            "Should keep every remaining key reachable with short probes")
+    void maxProbeDistance_manyKeysAddedAndRemoved_keepKeysReachable() {
+        for (int i = 0; i < 1000; i++) table.put(i * 7, String.valueOf(i));
+        for (int i = 0; i < 1000; i += 2) table.remove(i * 7);
+
+        assertEquals(500, table.size());
+        for (int i = 1; i < 1000; i += 2) assertEquals(String.valueOf(i), table.get(i * 7));
+        assertTrue(table.meanProbeDistance() < 1);
+    }
+
+    @Test
+    @DisplayName("getOrNull - " +
+            "When the key is present or missing - " +
+            "Should return its value or null without throwing")
+    void getOrNull_presentAndMissingKeys_returnValueOrNull() {
+        table.put(1, "a");
+        table.put(6, "b");
+
+        assertEquals("a", table.getOrNull(1));
+        assertEquals("b", table.getOrNull(6));
+        assertNull(table.getOrNull(2));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When the key is present, removed or mapped to null - " +
+            "Should tell whether the key is in the table")
+    void containsKey_presentRemovedAndNullValuedKeys_reportPresence() {
+        table.put(1, "a");
+        table.put(2, null);
+        table.put(3, "c");
+        table.remove(3);
+
+        assertTrue(table.containsKey(1));
+        assertTrue(table.containsKey(2));
+        assertFalse(table.containsKey(3));
+        assertFalse(table.containsKey(4));
+    }
+}
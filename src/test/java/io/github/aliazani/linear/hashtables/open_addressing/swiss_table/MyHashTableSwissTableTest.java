@@ -0,0 +1,214 @@
+package io.github.aliazani.linear.hashtables.open_addressing.swiss_table;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyHashTableSwissTable")
+class MyHashTableSwissTableTest {
+    MyHashTableSwissTable<Integer, String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new MyHashTableSwissTable<>(7);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size is not positive - " +
+            "Should throw IllegalArgumentException")
+    void constructor_sizeNotPositive_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyHashTableSwissTable<Integer, String>(0));
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size does not fit in one group at the maximum load factor - " +
+            "Should allocate more groups")
+    void constructor_sizeLargerThanOneGroup_allocateMoreGroups() {
+        assertEquals(8, table.capacity());
+        assertEquals(16, new MyHashTableSwissTable<Integer, String>(8).capacity());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding and updating key-value pairs - " +
+            "Should store the latest value")
+    void put_addAndUpdateKeyValuePairs_storeLatestValue() {
+        table.put(1, "a");
+        table.put(2, "b");
+        table.put(1, "c");
+
+        assertEquals("c", table.get(1));
+        assertEquals("b", table.get(2));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding null keys and values - " +
+            "Should store them")
+    void put_nullKeyAndValue_storeThem() {
+        table.put(null, "a");
+        table.put(1, null);
+
+        assertEquals("a", table.get(null));
+        assertNull(table.get(1));
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the table reaches its maximum load factor - " +
+            "Should grow and keep every key reachable")
+    void put_maximumLoadFactorReached_growAndKeepKeysReachable() {
+        for (int i = 0; i < 8; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(16, table.capacity());
+        for (int i = 0; i < 8; i++) assertEquals(String.valueOf(i), table.get(i));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should throw NoSuchElementException")
+    void get_keyNotInTable_throwNoSuchElement() {
+        table.put(1, "a");
+
+        assertThrows(NoSuchElementException.class, () -> table.get(2));
+        assertThrows(NoSuchElementException.class, () -> table.get(null));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing a key - " +
+            "Should free the slot")
+    void remove_key_freeSlot() {
+        table.put(1, "a");
+        table.remove(1);
+
+        assertTrue(table.isEmpty());
+        assertEquals("[null, null, null, null, null, null, null, null]", table.toString());
+        assertThrows(NoSuchElementException.class, () -> table.remove(1));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When keys are added and removed repeatedly - " +
+            "Should keep every remaining key reachable without growing without bound")
+    void remove_churn_keepKeysReachableAndBoundedCapacity() {
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 100; i++) table.put(round * 100 + i, String.valueOf(i));
+            for (int i = 0; i < 100; i++)
+                if (i % 10 != 0) table.remove(round * 100 + i);
+        }
+
+        assertEquals(1000, table.size());
+        for (int round = 0; round < 100; round++)
+            for (int i = 0; i < 100; i += 10) assertEquals(String.valueOf(i), table.get(round * 100 + i));
+        assertTrue(table.capacity() <= 4096);
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table has entries - " +
+            "Should visit every entry once")
+    void iterator_tableHasEntries_visitEveryEntryOnce() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        for (Entry<Integer, String> entry : table) visited.merge(entry.getKey(), entry.getValue(), (a, b) -> a + b);
+
+        assertEquals(20, visited.size());
+        for (int i = 0; i < 20; i++) assertEquals(String.valueOf(i), visited.get(i));
+    }
+
+    @Test
+    @DisplayName("forEach - " +
+            "When the table has entries - " +
+            "Should pass every key and value to the action")
+    void forEach_tableHasEntries_passEveryKeyAndValue() {
+        for (int i = 0; i < 20; i++) table.put(i, String.valueOf(i));
+
+        Map<Integer, String> visited = new HashMap<>();
+        table.forEach((key, value) -> visited.put(key, value));
+
+        assertEquals(20, visited.size());
+        assertEquals(String.valueOf(19), visited.get(19));
+    }
+
+    @Test
+    @DisplayName("stream - " +
+            "When streaming a large table in parallel - " +
+            "Should see every entry exactly once")
+    void stream_parallelLargeTable_seeEveryEntryOnce() {
+        for (int i = 0; i < 10_000; i++) table.put(i, String.valueOf(i));
+
+        assertEquals(10_000, table.stream().parallel().count());
+        assertEquals(49_995_000L, StreamSupport.stream(table.spliterator(), true)
+                .mapToLong(Entry::getKey).sum());
+        assertEquals(10_000, table.stream().parallel().map(Entry::getKey).distinct().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the table is empty - " +
+            "Should have no elements")
+    void iterator_emptyTable_noElements() {
+        assertFalse(table.iterator().hasNext());
+        assertEquals(0, table.stream().count());
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When entries have been removed - " +
+            "Should skip the deleted slots")
+    void iterator_removedEntries_skipDeletedSlots() {
+        for (int i = 0; i < 6; i++) table.put(i, String.valueOf(i));
+        table.remove(2);
+        table.remove(4);
+
+        Set<Integer> keys = new HashSet<>();
+        for (Entry<Integer, String> entry : table) keys.add(entry.getKey());
+
+        assertEquals(Set.of(0, 1, 3, 5), keys);
+    }
+
+    @Test
+    @DisplayName("getOrNull - " +
+            "When the key is present or missing - " +
+            "Should return its value or null without throwing")
+    void getOrNull_presentAndMissingKeys_returnValueOrNull() {
+        table.put(1, "a");
+        table.put(6, "b");
+
+        assertEquals("a", table.getOrNull(1));
+        assertEquals("b", table.getOrNull(6));
+        assertNull(table.getOrNull(2));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When the key is present, removed or mapped to null - " +
+            "Should tell whether the key is in the table")
+    void containsKey_presentRemovedAndNullValuedKeys_reportPresence() {
+        table.put(1, "a");
+        table.put(2, null);
+        table.put(3, "c");
+        table.remove(3);
+
+        assertTrue(table.containsKey(1));
+        assertTrue(table.containsKey(2));
+        assertFalse(table.containsKey(3));
+        assertFalse(table.containsKey(4));
+    }
+}
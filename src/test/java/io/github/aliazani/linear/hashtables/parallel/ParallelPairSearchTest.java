@@ -0,0 +1,103 @@
+package io.github.aliazani.linear.hashtables.parallel;
+
+import io.github.aliazani.linear.hashtables.MapHelper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelPairSearch")
+class ParallelPairSearchTest {
+    static final int LENGTH = 4 * ParallelPairSearch.SEQUENTIAL_THRESHOLD;
+    static ForkJoinPool pool;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("countPairsWithDiff - " +
+            "When the array is large - " +
+            "Should return the same count as the single-threaded version")
+    void countPairsWithDiff_largeArray_matchSingleThreaded() {
+        int[] numbers = new Random(1).ints(LENGTH, -100_000, 100_000).toArray();
+
+        for (int difference : new int[]{0, 1, 13, -5, Integer.MIN_VALUE})
+            assertEquals(MapHelper.countPairsWithDiff(numbers, difference),
+                    ParallelPairSearch.countPairsWithDiff(numbers, difference, pool));
+    }
+
+    @Test
+    @DisplayName("countPairsWithDiff - " +
+            "When the array is small - " +
+            "Should return the same count as the single-threaded version")
+    void countPairsWithDiff_smallArray_matchSingleThreaded() {
+        int[] numbers = {1, 7, 5, 9, 2, 12, 3};
+
+        assertEquals(MapHelper.countPairsWithDiff(numbers, 2), ParallelPairSearch.countPairsWithDiff(numbers, 2, pool));
+    }
+
+    @Test
+    @DisplayName("twoSum - " +
+            "When pairs add up to the target - " +
+            "Should return the same indices as the single-threaded version")
+    void twoSum_pairsExist_matchSingleThreaded() {
+        Random random = new Random(2);
+        int[] numbers = random.ints(LENGTH, 0, 1 << 30).toArray();
+
+        for (int round = 0; round < 20; round++) {
+            int target = numbers[random.nextInt(LENGTH)] + numbers[random.nextInt(LENGTH)];
+            assertArrayEquals(MapHelper.twoSum(numbers, target), ParallelPairSearch.twoSum(numbers, target, pool));
+        }
+    }
+
+    @Test
+    @DisplayName("twoSum - " +
+            "When the earliest match is a number doubled - " +
+            "Should return the same index twice like the single-threaded version")
+    void twoSum_doubledNumberMatchesFirst_returnSameIndexTwice() {
+        int[] numbers = new Random(3).ints(LENGTH, 0, 1 << 20).map(number -> 4 * number + 1).toArray();
+        numbers[LENGTH / 2] = 100;
+        numbers[LENGTH - 1] = 100;
+
+        assertArrayEquals(new int[]{LENGTH / 2, LENGTH / 2}, ParallelPairSearch.twoSum(numbers, 200, pool));
+        assertArrayEquals(MapHelper.twoSum(numbers, 200), ParallelPairSearch.twoSum(numbers, 200, pool));
+    }
+
+    @Test
+    @DisplayName("twoSum - " +
+            "When the complement occurs several times before the match - " +
+            "Should return its latest earlier index like the single-threaded version")
+    void twoSum_repeatedComplement_returnLatestEarlierIndex() {
+        int[] numbers = new int[LENGTH];
+        for (int i = 0; i < LENGTH; i++) numbers[i] = 4 * i + 1;
+        numbers[10] = 2;
+        numbers[LENGTH / 3] = 2;
+        numbers[LENGTH - 2] = 3;
+
+        assertArrayEquals(new int[]{LENGTH / 3, LENGTH - 2}, ParallelPairSearch.twoSum(numbers, 5, pool));
+        assertArrayEquals(MapHelper.twoSum(numbers, 5), ParallelPairSearch.twoSum(numbers, 5, pool));
+    }
+
+    @Test
+    @DisplayName("twoSum - " +
+            "When no pair adds up to the target - " +
+            "Should return null")
+    void twoSum_noPair_returnNull() {
+        int[] numbers = new int[LENGTH];
+        for (int i = 0; i < LENGTH; i++) numbers[i] = 2 * i;
+
+        assertNull(ParallelPairSearch.twoSum(numbers, -1, pool));
+    }
+}
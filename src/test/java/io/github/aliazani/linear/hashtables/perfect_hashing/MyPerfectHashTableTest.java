@@ -0,0 +1,213 @@
+package io.github.aliazani.linear.hashtables.perfect_hashing;
+
+import io.github.aliazani.linear.hashtables.Entry;
+import io.github.aliazani.linear.hashtables.MyHashTable;
+import io.github.aliazani.linear.hashtables.MyReadOnlyHashTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MyPerfectHashTable")
+class MyPerfectHashTableTest {
+    MyPerfectHashTable<String, Integer> table;
+
+    @BeforeEach
+    void setUp() {
+        MyPerfectHashTable.Builder<String, Integer> builder = MyPerfectHashTable.builder();
+        for (int i = 0; i < 1_000; i++) builder.put("key" + i, i);
+
+        table = builder.build();
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key was added to the builder - " +
+            "Should return its value")
+    void get_builtKey_returnValue() {
+        assertEquals(1_000, table.size());
+        for (int i = 0; i < 1_000; i++) assertEquals(i, table.get("key" + i));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key was not added to the builder - " +
+            "Should throw NoSuchElementException")
+    void get_unknownKey_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> table.get("key1000"));
+        assertThrows(NoSuchElementException.class, () -> table.get("other"));
+        assertThrows(NoSuchElementException.class, () -> table.get(null));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When keys have equal hash codes but are character sequences - " +
+            "Should tell them apart")
+    void get_collidingStringHashCodes_returnValues() {
+        MyPerfectHashTable<String, Integer> colliding = MyPerfectHashTable.<String, Integer>builder()
+                .put("Aa", 1)
+                .put("BB", 2)
+                .put("AaAa", 3)
+                .put("BBBB", 4)
+                .build();
+
+        assertEquals(1, colliding.get("Aa"));
+        assertEquals(2, colliding.get("BB"));
+        assertEquals(3, colliding.get("AaAa"));
+        assertEquals(4, colliding.get("BBBB"));
+    }
+
+    @Test
+    @DisplayName("build - " +
+            "When a key is added twice - " +
+            "Should keep the last value")
+    void build_duplicateKey_keepLastValue() {
+        MyPerfectHashTable<Integer, String> numbers = MyPerfectHashTable.<Integer, String>builder()
+                .put(1, "a")
+                .put(1, "b")
+                .build();
+
+        assertEquals(1, numbers.size());
+        assertEquals("b", numbers.get(1));
+    }
+
+    @Test
+    @DisplayName("build - " +
+            "When no key was added - " +
+            "Should build an empty table")
+    void build_noKeys_emptyTable() {
+        MyPerfectHashTable<Integer, String> empty = MyPerfectHashTable.<Integer, String>builder().build();
+
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.bitsPerKey());
+        assertThrows(NoSuchElementException.class, () -> empty.get(1));
+        assertFalse(empty.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("build - " +
+            "When different keys that are not character sequences have the same hash code - " +
+            "Should throw IllegalArgumentException")
+    void build_equalHashCodes_throwIllegalArgument() {
+        MyPerfectHashTable.Builder<Collision, Integer> builder = MyPerfectHashTable.<Collision, Integer>builder()
+                .put(new Collision(1), 1)
+                .put(new Collision(2), 2);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the builder gets a null key - " +
+            "Should throw IllegalArgumentException")
+    void put_builderNullKey_throwIllegalArgument() {
+        MyPerfectHashTable.Builder<String, Integer> builder = MyPerfectHashTable.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.put(null, 1));
+    }
+
+    @Test
+    @DisplayName("type - " +
+            "When checking which interfaces the table implements - " +
+            "Should offer only the read side of a hash table")
+    void type_immutableTable_implementOnlyReadOnlyHashTable() {
+        assertInstanceOf(MyReadOnlyHashTable.class, table);
+        assertFalse(MyHashTable.class.isAssignableFrom(MyPerfectHashTable.class));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When iterating the table - " +
+            "Should visit every entry once without exposing the table to changes")
+    void iterator_iterateTable_visitEveryEntry() {
+        Map<String, Integer> visited = new HashMap<>();
+        for (Entry<String, Integer> entry : table) {
+            visited.put(entry.getKey(), entry.getValue());
+            entry.setValue(-1);
+        }
+
+        assertEquals(1_000, visited.size());
+        assertEquals(7, visited.get("key7"));
+        assertEquals(7, table.get("key7"));
+    }
+
+    @Test
+    @DisplayName("spliterator - " +
+            "When streaming the table in parallel - " +
+            "Should visit every entry once")
+    void spliterator_parallelStream_visitEveryEntry() {
+        long sum = StreamSupport.stream(table.spliterator(), true).mapToLong(Entry::getValue).sum();
+
+        assertEquals(999 * 1_000 / 2, sum);
+    }
+
+    @Test
+    @DisplayName("bitsPerKey - " +
+            "When the table has been built - " +
+            "Should need only a few bits of displacement per key")
+    void bitsPerKey_builtTable_fewBitsPerKey() {
+        assertTrue(table.bitsPerKey() > 0);
+        assertTrue(table.bitsPerKey() < 8, () -> "bits per key: " + table.bitsPerKey());
+    }
+
+    @Test
+    @DisplayName("writeTo and readFrom - " +
+            "When writing the table and reading it back - " +
+            "Should find the same entries")
+    void writeToAndReadFrom_roundTrip_sameEntries() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.writeTo(out, DataOutput::writeUTF, DataOutput::writeInt);
+
+        MyPerfectHashTable<String, Integer> read = MyPerfectHashTable.readFrom(
+                new ByteArrayInputStream(out.toByteArray()), DataInput::readUTF, DataInput::readInt);
+
+        assertEquals(table.size(), read.size());
+        for (int i = 0; i < 1_000; i++) assertEquals(i, read.get("key" + i));
+        assertThrows(NoSuchElementException.class, () -> read.get("key1000"));
+    }
+
+    @Test
+    @DisplayName("readFrom - " +
+            "When the stream does not contain a table - " +
+            "Should throw IOException")
+    void readFrom_invalidStream_throwIOException() {
+        ByteArrayInputStream in = new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5});
+
+        assertThrows(IOException.class, () -> MyPerfectHashTable.readFrom(in, DataInput::readUTF, DataInput::readInt));
+    }
+
+    @Test
+    @DisplayName("getOrNull and containsKey - " +
+            "When the key is present or missing - " +
+            "Should answer without throwing")
+    void getOrNullAndContainsKey_presentAndMissingKeys_answerWithoutThrowing() {
+        assertEquals(5, table.getOrNull("key5"));
+        assertNull(table.getOrNull("key1000"));
+        assertNull(table.getOrNull(null));
+        assertTrue(table.containsKey("key5"));
+        assertFalse(table.containsKey("other"));
+    }
+
+    record Collision(int id) implements Comparable<Collision> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(Collision other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.aliazani.linear.hashtables.perfect_hashing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("PackedArray")
+class PackedArrayTest {
+    @Test
+    @DisplayName("set and get - " +
+            "When values straddle word boundaries - " +
+            "Should read back every value")
+    void setAndGet_valuesStraddleWords_readBack() {
+        int bits = 13;
+        long[] words = PackedArray.create(bits, 100);
+        for (int i = 0; i < 100; i++) PackedArray.set(words, bits, i, (i * 997L) & ((1 << bits) - 1));
+
+        assertEquals((100 * bits + 63) / 64, words.length);
+        for (int i = 0; i < 100; i++) assertEquals((i * 997L) & ((1 << bits) - 1), PackedArray.get(words, bits, i));
+    }
+
+    @Test
+    @DisplayName("set - " +
+            "When overwriting a value - " +
+            "Should leave its neighbours unchanged")
+    void set_overwriteValue_keepNeighbours() {
+        long[] words = PackedArray.create(7, 20);
+        for (int i = 0; i < 20; i++) PackedArray.set(words, 7, i, 127);
+
+        PackedArray.set(words, 7, 9, 0);
+
+        assertEquals(127, PackedArray.get(words, 7, 8));
+        assertEquals(0, PackedArray.get(words, 7, 9));
+        assertEquals(127, PackedArray.get(words, 7, 10));
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.aliazani.linear.hashtables.primitive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntIntHashTable")
+class IntIntHashTableTest {
+    IntIntHashTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new IntIntHashTable(4);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size is not positive - " +
+            "Should throw IllegalArgumentException")
+    void constructor_sizeNotPositive_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashTable(0));
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the size is not a power of two - " +
+            "Should round the capacity up to a power of two")
+    void constructor_sizeNotPowerOfTwo_roundCapacityUp() {
+        assertEquals(8, new IntIntHashTable(5).capacity());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding new key-value pairs - " +
+            "Should make them retrievable")
+    void put_addNewKeyValuePairs_makeThemRetrievable() {
+        table.put(1, 10);
+        table.put(-2, 20);
+        table.put(0, 30);
+
+        assertEquals(10, table.get(1));
+        assertEquals(20, table.get(-2));
+        assertEquals(30, table.get(0));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When updating an existing key - " +
+            "Should replace the value")
+    void put_updateExistingKey_replaceValue() {
+        table.put(1, 10);
+        table.put(1, 11);
+
+        assertEquals(11, table.get(1));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When the load factor would exceed the maximum load factor - " +
+            "Should grow the table")
+    void put_loadFactorExceedsMaximum_growTable() {
+        for (int i = 0; i < 4; i++) table.put(i, i);
+
+        assertEquals(8, table.capacity());
+        for (int i = 0; i < 4; i++) assertEquals(i, table.get(i));
+    }
+
+    @Test
+    @DisplayName("addTo - " +
+            "When the key is missing or present - " +
+            "Should start from zero and accumulate")
+    void addTo_missingOrPresentKey_startFromZeroAndAccumulate() {
+        assertEquals(1, table.addTo(7, 1));
+        assertEquals(6, table.addTo(7, 5));
+        assertEquals(6, table.get(7));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should throw NoSuchElementException")
+    void get_keyNotInTable_throwNoSuchElement() {
+        table.put(1, 10);
+
+        assertThrows(NoSuchElementException.class, () -> table.get(2));
+    }
+
+    @Test
+    @DisplayName("getOrDefault - " +
+            "When the key is not in the table - " +
+            "Should return the default value")
+    void getOrDefault_keyNotInTable_returnDefaultValue() {
+        table.put(1, 10);
+
+        assertEquals(10, table.getOrDefault(1, -1));
+        assertEquals(-1, table.getOrDefault(2, -1));
+    }
+
+    @Test
+    @DisplayName("containsKey - " +
+            "When checking present and missing keys - " +
+            "Should report them correctly")
+    void containsKey_presentAndMissingKeys_reportCorrectly() {
+        table.put(Integer.MIN_VALUE, 1);
+
+        assertTrue(table.containsKey(Integer.MIN_VALUE));
+        assertFalse(table.containsKey(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing a key - " +
+            "Should keep the remaining keys reachable")
+    void remove_key_keepRemainingKeysReachable() {
+        for (int i = 0; i < 1000; i++) table.put(i * 31, i);
+        for (int i = 0; i < 1000; i += 2) table.remove(i * 31);
+
+        assertEquals(500, table.size());
+        for (int i = 0; i < 1000; i++) assertEquals(i % 2 == 1, table.containsKey(i * 31));
+        for (int i = 1; i < 1000; i += 2) assertEquals(i, table.get(i * 31));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing a non-existing key - " +
+            "Should throw NoSuchElementException")
+    void remove_nonExistingKey_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> table.remove(1));
+    }
+
+    @Test
+    @DisplayName("isEmpty - " +
+            "When all entries are removed - " +
+            "Should return true")
+    void isEmpty_allEntriesRemoved_returnTrue() {
+        table.put(1, 10);
+        table.remove(1);
+
+        assertTrue(table.isEmpty());
+        assertEquals("[null, null, null, null]", table.toString());
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.aliazani.linear.hashtables.primitive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongLongHashTable")
+class LongLongHashTableTest {
+    LongLongHashTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new LongLongHashTable(4);
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding keys that differ only in their high bits - " +
+            "Should keep them apart")
+    void put_keysDifferingInHighBits_keepThemApart() {
+        table.put(1L, 10L);
+        table.put(1L << 40, 20L);
+
+        assertEquals(10L, table.get(1L));
+        assertEquals(20L, table.get(1L << 40));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When updating an existing key - " +
+            "Should replace the value")
+    void put_updateExistingKey_replaceValue() {
+        table.put(1L, 10L);
+        table.put(1L, Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, table.get(1L));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("addTo - " +
+            "When the key is missing or present - " +
+            "Should start from zero and accumulate")
+    void addTo_missingOrPresentKey_startFromZeroAndAccumulate() {
+        assertEquals(3L, table.addTo(7L, 3L));
+        assertEquals(1L, table.addTo(7L, -2L));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should throw NoSuchElementException")
+    void get_keyNotInTable_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> table.get(2L));
+        assertEquals(-1L, table.getOrDefault(2L, -1L));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing keys from a grown table - " +
+            "Should keep the remaining keys reachable")
+    void remove_keysFromGrownTable_keepRemainingKeysReachable() {
+        for (long i = 0; i < 1000; i++) table.put(i << 32, i);
+        for (long i = 0; i < 1000; i += 2) table.remove(i << 32);
+
+        assertEquals(500, table.size());
+        assertFalse(table.containsKey(0L));
+        for (long i = 1; i < 1000; i += 2) assertEquals(i, table.get(i << 32));
+        assertThrows(NoSuchElementException.class, () -> table.remove(0L));
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.aliazani.linear.hashtables.primitive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongObjectHashTable")
+class LongObjectHashTableTest {
+    LongObjectHashTable<String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new LongObjectHashTable<>(4);
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding new key-value pairs - " +
+            "Should make them retrievable")
+    void put_addNewKeyValuePairs_makeThemRetrievable() {
+        table.put(1L, "a");
+        table.put(-1L, "b");
+
+        assertEquals("a", table.get(1L));
+        assertEquals("b", table.get(-1L));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("put - " +
+            "When adding a null value - " +
+            "Should store it")
+    void put_nullValue_storeIt() {
+        table.put(1L, null);
+
+        assertTrue(table.containsKey(1L));
+        assertNull(table.get(1L));
+        assertEquals("x", table.getOrDefault(2L, "x"));
+    }
+
+    @Test
+    @DisplayName("get - " +
+            "When the key is not in the table - " +
+            "Should throw NoSuchElementException")
+    void get_keyNotInTable_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> table.get(2L));
+    }
+
+    @Test
+    @DisplayName("remove - " +
+            "When removing keys from a grown table - " +
+            "Should keep the remaining keys reachable")
+    void remove_keysFromGrownTable_keepRemainingKeysReachable() {
+        for (long i = 0; i < 100; i++) table.put(i, String.valueOf(i));
+        for (long i = 0; i < 100; i += 2) table.remove(i);
+
+        assertEquals(50, table.size());
+        for (long i = 1; i < 100; i += 2) assertEquals(String.valueOf(i), table.get(i));
+        assertThrows(NoSuchElementException.class, () -> table.remove(0L));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.aliazani.linear.hashtables.primitive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.github.aliazani.linear.hashtables.primitive.PrimitiveHashing.MAXIMUM_CAPACITY;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrimitiveHashing")
+class PrimitiveHashingTest {
+    @Test
+    @DisplayName("capacityForInsert - " +
+            "When the insertion stays within or exceeds the maximum load factor - " +
+            "Should keep or double the capacity")
+    void capacityForInsert_belowMaximumCapacity_keepOrDouble() {
+        assertEquals(8, PrimitiveHashing.capacityForInsert(5, 8));
+        assertEquals(16, PrimitiveHashing.capacityForInsert(6, 8));
+    }
+
+    @Test
+    @DisplayName("capacityForInsert - " +
+            "When the table is at the maximum capacity - " +
+            "Should keep the capacity until only one slot is left, then throw IllegalStateException")
+    void capacityForInsert_maximumCapacity_keepCapacityThenThrow() {
+        assertEquals(MAXIMUM_CAPACITY, PrimitiveHashing.capacityForInsert(MAXIMUM_CAPACITY / 4 * 3, MAXIMUM_CAPACITY));
+        assertEquals(MAXIMUM_CAPACITY, PrimitiveHashing.capacityForInsert(MAXIMUM_CAPACITY - 2, MAXIMUM_CAPACITY));
+        assertThrows(IllegalStateException.class,
+                () -> PrimitiveHashing.capacityForInsert(MAXIMUM_CAPACITY - 1, MAXIMUM_CAPACITY));
+    }
+}
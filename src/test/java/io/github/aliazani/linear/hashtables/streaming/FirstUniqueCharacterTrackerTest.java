@@ -0,0 +1,56 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("FirstUniqueCharacterTracker")
+class FirstUniqueCharacterTrackerTest {
+    FirstUniqueCharacterTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new FirstUniqueCharacterTracker();
+    }
+
+    @Test
+    @DisplayName("firstUnique - " +
+            "When nothing has been added - " +
+            "Should return Character.MIN_VALUE")
+    void firstUnique_empty_returnCharacterMinValue() {
+        assertEquals(Character.MIN_VALUE, tracker.firstUnique());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the first unique character repeats - " +
+            "Should move on to the next unique character")
+    void add_firstUniqueRepeats_moveToNext() {
+        tracker.addAll("abc");
+        assertEquals('a', tracker.firstUnique());
+
+        tracker.add('A');
+        assertEquals('b', tracker.firstUnique());
+
+        tracker.add('a');
+        tracker.addAll("bc");
+        assertEquals(Character.MIN_VALUE, tracker.firstUnique());
+    }
+
+    @Test
+    @DisplayName("addAll - " +
+            "When reading more characters than fit in the buffer - " +
+            "Should return the first unique character of the whole input")
+    void addAll_readerLongerThanBuffer_returnFirstUnique() throws IOException {
+        String input = "x".repeat(20_000) + "yz" + "y".repeat(3);
+
+        tracker.addAll(new StringReader(input));
+
+        assertEquals('z', tracker.firstUnique());
+    }
+}
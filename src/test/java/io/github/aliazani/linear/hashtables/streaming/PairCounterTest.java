@@ -0,0 +1,52 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+import io.github.aliazani.linear.hashtables.MapHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("PairCounter")
+class PairCounterTest {
+    @Test
+    @DisplayName("add - " +
+            "When the numbers arrive in any order - " +
+            "Should count each pair once")
+    void add_anyOrder_countEachPairOnce() {
+        PairCounter counter = new PairCounter(2);
+
+        counter.addAll(new int[]{5, 3, 3, 1, 7});
+
+        assertEquals(3, counter.count());
+        assertEquals(4, counter.distinctCount());
+    }
+
+    @Test
+    @DisplayName("addAll - " +
+            "When the numbers arrive in batches - " +
+            "Should match MapHelper.countPairsWithDiff on the whole input")
+    void addAll_batches_matchMapHelper() {
+        int[] numbers = new Random(5).ints(20_000, 0, 2_000).toArray();
+        PairCounter counter = new PairCounter(9);
+
+        for (int from = 0; from < numbers.length; from += 1_000)
+            counter.addAll(IntStream.range(from, from + 1_000).map(i -> numbers[i]));
+
+        assertEquals(MapHelper.countPairsWithDiff(numbers, 9), counter.count());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the difference is zero - " +
+            "Should count every distinct number")
+    void add_zeroDifference_countDistinctNumbers() {
+        PairCounter counter = new PairCounter(0);
+
+        counter.addAll(new int[]{1, 1, 2, 3, 3});
+
+        assertEquals(MapHelper.countPairsWithDiff(new int[]{1, 1, 2, 3, 3}, 0), counter.count());
+    }
+}
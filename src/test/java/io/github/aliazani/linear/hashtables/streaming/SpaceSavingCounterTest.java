@@ -0,0 +1,102 @@
+package io.github.aliazani.linear.hashtables.streaming;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceSavingCounter")
+class SpaceSavingCounterTest {
+    SpaceSavingCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SpaceSavingCounter(3);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the capacity is not positive - " +
+            "Should throw IllegalArgumentException")
+    void constructor_nonPositiveCapacity_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingCounter(0));
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When there are no more distinct elements than counters - " +
+            "Should count exactly")
+    void add_fewDistinctElements_countExactly() {
+        counter.addAll(new int[]{1, 2, 1, 3, 1, 2});
+
+        assertEquals(List.of(new HeavyHitter(1, 3, 0), new HeavyHitter(2, 2, 0), new HeavyHitter(3, 1, 0)),
+                counter.topK(3));
+        assertEquals(6, counter.count());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When a new element arrives while all counters are used - " +
+            "Should take over the smallest counter and inherit its count as error")
+    void add_allCountersUsed_replaceSmallestCounter() {
+        counter.addAll(new int[]{1, 1, 1, 2, 2, 3});
+
+        counter.add(4);
+
+        assertEquals(List.of(new HeavyHitter(1, 3, 0), new HeavyHitter(2, 2, 0), new HeavyHitter(4, 2, 1)),
+                counter.topK(3));
+        assertEquals(1, counter.topK(3).get(2).guaranteedCount());
+    }
+
+    @Test
+    @DisplayName("addAll - " +
+            "When adding a range of a batch - " +
+            "Should count only the range")
+    void addAll_batchRange_countRange() {
+        counter.addAll(new int[]{5, 6, 6, 7}, 1, 3);
+
+        assertEquals(6, counter.mostFrequent());
+        assertEquals(2, counter.count());
+        assertThrows(IndexOutOfBoundsException.class, () -> counter.addAll(new int[2], 1, 3));
+    }
+
+    @Test
+    @DisplayName("topK - " +
+            "When streaming a skewed distribution - " +
+            "Should report every element more frequent than length / capacity with bounded error")
+    void topK_skewedStream_reportHeavyHitters() {
+        SpaceSavingCounter large = new SpaceSavingCounter(50);
+        Random random = new Random(11);
+        int[] exact = new int[1_000];
+        IntStream stream = IntStream.range(0, 200_000).map(i -> {
+            int element = i % 4 == 0 ? i % 3 : random.nextInt(1_000);
+            exact[element]++;
+            return element;
+        });
+
+        large.addAll(stream);
+
+        List<HeavyHitter> top = large.topK(3);
+        assertEquals(3, top.size());
+        for (HeavyHitter hitter : top) {
+            assertTrue(hitter.element() < 3);
+            assertTrue(hitter.guaranteedCount() <= exact[hitter.element()]);
+            assertTrue(hitter.count() >= exact[hitter.element()]);
+        }
+    }
+
+    @Test
+    @DisplayName("mostFrequent - " +
+            "When nothing has been added - " +
+            "Should throw NoSuchElementException")
+    void mostFrequent_empty_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> counter.mostFrequent());
+        assertTrue(counter.topK(5).isEmpty());
+    }
+}
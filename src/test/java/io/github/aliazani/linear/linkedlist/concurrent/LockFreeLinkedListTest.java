@@ -0,0 +1,226 @@
+package io.github.aliazani.linear.linkedlist.concurrent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lock-Free Linked-List")
+class LockFreeLinkedListTest {
+    private LockFreeLinkedList<Integer> listOfIntegers;
+
+    @BeforeEach
+    void setUp() {
+        listOfIntegers = new LockFreeLinkedList<>();
+    }
+
+    @Test
+    @DisplayName("addFirst and addLast - " +
+            "When adding at both ends - " +
+            "Should keep the elements in order")
+    void addFirstAndAddLast_bothEnds_keepOrder() {
+        listOfIntegers.addLast(20);
+        listOfIntegers.addFirst(10);
+        listOfIntegers.addLast(30);
+
+        assertEquals("[10 -> 20 -> 30]", listOfIntegers.toString());
+        assertEquals(3, listOfIntegers.size());
+    }
+
+    @Test
+    @DisplayName("addFirst and addLast - " +
+            "When the item is null - " +
+            "Should throw IllegalArgumentException")
+    void addFirstAndAddLast_nullItem_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.addFirst(null));
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.addLast(null));
+    }
+
+    @Test
+    @DisplayName("addLast - " +
+            "When the last element was deleted - " +
+            "Should append after the new last element")
+    void addLast_lastElementDeleted_appendAfterNewLast() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(20);
+        listOfIntegers.delete(20);
+
+        listOfIntegers.addLast(30);
+
+        assertEquals("[10 -> 30]", listOfIntegers.toString());
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When the element occurs twice - " +
+            "Should remove only the first occurrence")
+    void delete_elementOccursTwice_removeFirstOccurrence() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(20);
+        listOfIntegers.addLast(10);
+
+        assertTrue(listOfIntegers.delete(10));
+
+        assertEquals("[20 -> 10]", listOfIntegers.toString());
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When the element is missing or null - " +
+            "Should return false")
+    void delete_missingElement_returnFalse() {
+        listOfIntegers.addLast(10);
+
+        assertFalse(listOfIntegers.delete(20));
+        assertFalse(listOfIntegers.delete(null));
+        assertEquals(1, listOfIntegers.size());
+    }
+
+    @Test
+    @DisplayName("pollFirst - " +
+            "When polling until the list is empty - " +
+            "Should return the elements in order and then null")
+    void pollFirst_untilEmpty_returnElementsThenNull() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(20);
+
+        assertEquals(10, listOfIntegers.pollFirst());
+        assertEquals(20, listOfIntegers.pollFirst());
+        assertNull(listOfIntegers.pollFirst());
+        assertTrue(listOfIntegers.isEmpty());
+    }
+
+    @Test
+    @DisplayName("contains - " +
+            "When the element was deleted - " +
+            "Should return false")
+    void contains_deletedElement_returnFalse() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(20);
+        listOfIntegers.delete(10);
+
+        assertFalse(listOfIntegers.contains(10));
+        assertTrue(listOfIntegers.contains(20));
+        assertFalse(listOfIntegers.contains(null));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the iteration is exhausted - " +
+            "Should throw NoSuchElementException")
+    void iterator_exhausted_throwNoSuchElement() {
+        listOfIntegers.addLast(10);
+
+        Iterator<Integer> iterator = listOfIntegers.iterator();
+        assertEquals(10, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("pollFirst - " +
+            "When producers append while consumers poll - " +
+            "Should hand out every element exactly once and in the order of each producer")
+    void pollFirst_concurrentProducersAndConsumers_everyElementOnceInOrder() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        boolean[] seen = new boolean[producers * perProducer];
+        AtomicBoolean ordered = new AtomicBoolean(true);
+
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            executor.submit(() -> {
+                for (int i = offset; i < offset + perProducer; i++) listOfIntegers.addLast(i);
+            });
+        }
+        List<Future<List<Integer>>> consumed = new ArrayList<>();
+        for (int c = 0; c < consumers; c++)
+            consumed.add(executor.submit(() -> {
+                List<Integer> values = new ArrayList<>();
+                int[] lastPerProducer = new int[producers];
+                Arrays.fill(lastPerProducer, -1);
+                while (remaining.get() > 0) {
+                    Integer value = listOfIntegers.pollFirst();
+                    if (value == null) continue;
+
+                    remaining.decrementAndGet();
+                    values.add(value);
+                    if (value <= lastPerProducer[value / perProducer]) ordered.set(false);
+                    lastPerProducer[value / perProducer] = value;
+                }
+                return values;
+            }));
+
+        for (Future<List<Integer>> future : consumed)
+            for (int value : future.get(60, TimeUnit.SECONDS)) {
+                assertFalse(seen[value]);
+                seen[value] = true;
+            }
+        executor.shutdown();
+
+        for (boolean value : seen) assertTrue(value);
+        assertTrue(ordered.get());
+        assertTrue(listOfIntegers.isEmpty());
+    }
+
+    @Test
+    @DisplayName("delete and contains - " +
+            "When writers add and delete while readers search - " +
+            "Should keep exactly the elements that were not deleted")
+    void deleteAndContains_concurrentWritersAndReaders_keepUndeletedElements() throws Exception {
+        int writers = 4;
+        int perWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        List<Future<?>> writes = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int offset = w * perWriter;
+            writes.add(executor.submit(() -> {
+                for (int i = offset; i < offset + perWriter; i++) {
+                    if (i % 2 == 0) listOfIntegers.addFirst(i);
+                    else listOfIntegers.addLast(i);
+                }
+                for (int i = offset; i < offset + perWriter; i += 3) assertTrue(listOfIntegers.delete(i));
+            }));
+        }
+        List<Future<?>> reads = new ArrayList<>();
+        for (int r = 0; r < 2; r++)
+            reads.add(executor.submit(() -> {
+                while (writing.get()) {
+                    listOfIntegers.contains(writers * perWriter);
+                    for (Integer value : listOfIntegers) assertNotNull(value);
+                }
+            }));
+
+        for (Future<?> future : writes) future.get(60, TimeUnit.SECONDS);
+        writing.set(false);
+        for (Future<?> future : reads) future.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        boolean[] present = new boolean[writers * perWriter];
+        for (int value : listOfIntegers) {
+            assertFalse(present[value]);
+            present[value] = true;
+        }
+        for (int i = 0; i < present.length; i++) assertEquals(i % perWriter % 3 != 0, present[i]);
+        assertFalse(listOfIntegers.contains(0));
+        assertTrue(listOfIntegers.contains(1));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -597,4 +598,217 @@ class MyDoublyLinkedListTest {
         assertEquals("c", listOfStrings.getNode(2).getValue());
         assertEquals("[a ↔ b ↔ c]", listOfStrings.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("unlink - " +
+            "When unlinking the first, a middle and the last node - " +
+            "Should remove each node in place")
+    void unlink_firstMiddleAndLastNodes_removeNodes() {
+        DoublyLinkedListNode<Integer> first = listOfIntegers.addLastNode(10);
+        DoublyLinkedListNode<Integer> middle = listOfIntegers.addLastNode(20);
+        listOfIntegers.addLastNode(30);
+        DoublyLinkedListNode<Integer> last = listOfIntegers.addLastNode(40);
+
+        listOfIntegers.unlink(middle);
+        assertEquals("[10 ↔ 30 ↔ 40]", listOfIntegers.toString());
+        listOfIntegers.unlink(first);
+        assertEquals("[30 ↔ 40]", listOfIntegers.toString());
+        listOfIntegers.unlink(last);
+        assertEquals("[30]", listOfIntegers.toString());
+
+        assertEquals(1, listOfIntegers.size());
+        assertSame(listOfIntegers.firstNode(), listOfIntegers.lastNode());
+    }
+
+    @Test
+    @DisplayName("unlink - " +
+            "When unlinking the only node - " +
+            "Should leave the list empty")
+    void unlink_onlyNode_leaveListEmpty() {
+        DoublyLinkedListNode<Integer> node = listOfIntegers.addLastNode(10);
+
+        listOfIntegers.unlink(node);
+
+        assertEquals("[]", listOfIntegers.toString());
+        assertEquals(0, listOfIntegers.size());
+        assertNull(listOfIntegers.firstNode());
+        assertNull(listOfIntegers.lastNode());
+    }
+
+    @Test
+    @DisplayName("moveToLast - " +
+            "When moving the first node - " +
+            "Should make it the last node without changing the size")
+    void moveToLast_firstNode_becomeLastNode() {
+        DoublyLinkedListNode<Integer> first = listOfIntegers.addLastNode(10);
+        listOfIntegers.addLastNode(20);
+        listOfIntegers.addLastNode(30);
+
+        listOfIntegers.moveToLast(first);
+        listOfIntegers.moveToLast(first);
+
+        assertEquals("[20 ↔ 30 ↔ 10]", listOfIntegers.toString());
+        assertEquals(3, listOfIntegers.size());
+        assertSame(first, listOfIntegers.lastNode());
+        assertEquals(20, listOfIntegers.firstNode().getValue());
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the node pool capacity is negative - " +
+            "Should throw IllegalArgumentException")
+    void constructor_negativeNodePoolCapacity_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MyDoublyLinkedList<Integer>(-1));
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When the list pools nodes - " +
+            "Should keep deleted and unlinked nodes up to the capacity and reuse them for new elements")
+    void delete_pooledList_reuseDeletedNodes() {
+        MyDoublyLinkedList<Integer> pooled = new MyDoublyLinkedList<>(3);
+        for (int i = 1; i <= 6; i++) pooled.addLast(i * 10);
+        DoublyLinkedListNode<Integer> lastNode = pooled.lastNode();
+
+        pooled.deleteFirst();
+        pooled.deleteLast();
+        pooled.delete(1);
+        pooled.unlink(pooled.firstNode());
+
+        assertEquals(3, pooled.pooledNodes());
+        assertEquals("[40 ↔ 50]", pooled.toString());
+
+        pooled.addFirst(30);
+        pooled.addLast(60);
+        pooled.add(35, 1);
+
+        assertEquals(0, pooled.pooledNodes());
+        assertEquals("[30 ↔ 35 ↔ 40 ↔ 50 ↔ 60]", pooled.toString());
+        assertNull(pooled.firstNode().getPrev());
+        assertSame(pooled.firstNode(), pooled.getNode(1).getPrev());
+        assertSame(lastNode, pooled.lastNode());
+    }
+
+    @Test
+    @DisplayName("moveToLast - " +
+            "When the list pools nodes - " +
+            "Should move the node without pooling it")
+    void moveToLast_pooledList_doNotPoolMovedNode() {
+        MyDoublyLinkedList<Integer> pooled = new MyDoublyLinkedList<>(4);
+        DoublyLinkedListNode<Integer> first = pooled.addLastNode(10);
+        pooled.addLast(20);
+
+        pooled.moveToLast(first);
+
+        assertEquals(0, pooled.pooledNodes());
+        assertEquals("[20 ↔ 10]", pooled.toString());
+        assertSame(first, pooled.lastNode());
+    }
+
+    @Test
+    @DisplayName("addAll - " +
+            "When adding an array and an iterable - " +
+            "Should append the items in order")
+    void addAll_arrayAndIterable_appendInOrder() {
+        listOfIntegers.addLast(10);
+
+        listOfIntegers.addAll(new Integer[]{20, 30});
+        listOfIntegers.addAll(List.of(40, 50));
+
+        assertEquals("[10 ↔ 20 ↔ 30 ↔ 40 ↔ 50]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.size());
+    }
+
+    @Test
+    @DisplayName("concat - " +
+            "When the other list has elements - " +
+            "Should move them to the end and leave the other list empty")
+    void concat_otherListHasElements_moveToEndAndEmptyOther() {
+        MyDoublyLinkedList<Integer> other = new MyDoublyLinkedList<>();
+        other.addAll(new Integer[]{30, 40});
+        listOfIntegers.addAll(new Integer[]{10, 20});
+
+        listOfIntegers.concat(other);
+        listOfIntegers.addLast(50);
+        other.addLast(60);
+
+        assertEquals("[10 ↔ 20 ↔ 30 ↔ 40 ↔ 50]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.size());
+        assertEquals("[60]", other.toString());
+        assertEquals(1, other.size());
+    }
+
+    @Test
+    @DisplayName("concat - " +
+            "When this list is empty or the list is concatenated to itself - " +
+            "Should take over the other list or throw IllegalArgumentException")
+    void concat_emptyListOrItself_takeOverOrThrow() {
+        MyDoublyLinkedList<Integer> other = new MyDoublyLinkedList<>();
+        other.addAll(new Integer[]{10, 20});
+
+        listOfIntegers.concat(other);
+        listOfIntegers.concat(new MyDoublyLinkedList<>());
+
+        assertEquals("[10 ↔ 20]", listOfIntegers.toString());
+        assertEquals(20, listOfIntegers.getKthFromTheEnd(1));
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.concat(listOfIntegers));
+    }
+
+    @Test
+    @DisplayName("splice - " +
+            "When splicing at the beginning and in the middle - " +
+            "Should insert the other list at the index")
+    void splice_beginningAndMiddle_insertAtIndex() {
+        listOfIntegers.addAll(new Integer[]{20, 50});
+        MyDoublyLinkedList<Integer> front = new MyDoublyLinkedList<>();
+        front.addLast(10);
+        MyDoublyLinkedList<Integer> middle = new MyDoublyLinkedList<>();
+        middle.addAll(new Integer[]{30, 40});
+
+        listOfIntegers.splice(front, 0);
+        listOfIntegers.splice(middle, 2);
+
+        assertEquals("[10 ↔ 20 ↔ 30 ↔ 40 ↔ 50]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.size());
+        assertEquals(0, middle.size());
+        assertNull(listOfIntegers.firstNode().getPrev());
+        assertSame(listOfIntegers.getNode(1), listOfIntegers.getNode(2).getPrev());
+        assertSame(listOfIntegers.getNode(3), listOfIntegers.lastNode().getPrev());
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.splice(front, 6));
+    }
+
+    @Test
+    @DisplayName("split - " +
+            "When splitting in the middle - " +
+            "Should move the elements from the index to a new list")
+    void split_middle_moveTailToNewList() {
+        listOfIntegers.addAll(new Integer[]{10, 20, 30, 40, 50});
+
+        MyDoublyLinkedList<Integer> tail = listOfIntegers.split(3);
+        listOfIntegers.addLast(35);
+        tail.addFirst(38);
+
+        assertEquals("[10 ↔ 20 ↔ 30 ↔ 35]", listOfIntegers.toString());
+        assertEquals("[38 ↔ 40 ↔ 50]", tail.toString());
+        assertEquals(4, listOfIntegers.size());
+        assertEquals(3, tail.size());
+    }
+
+    @Test
+    @DisplayName("split - " +
+            "When splitting at either end or out of range - " +
+            "Should move everything or nothing, or throw IndexOutOfBoundsException")
+    void split_endsAndOutOfRange_moveAllOrNothingOrThrow() {
+        listOfIntegers.addAll(new Integer[]{10, 20});
+
+        assertEquals("[]", listOfIntegers.split(2).toString());
+
+        MyDoublyLinkedList<Integer> tail = listOfIntegers.split(0);
+        listOfIntegers.addLast(30);
+
+        assertEquals("[10 ↔ 20]", tail.toString());
+        assertEquals("[30]", listOfIntegers.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.split(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.split(2));
+    }
+}
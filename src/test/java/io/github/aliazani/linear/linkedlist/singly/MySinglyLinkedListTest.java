@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.mockito.Mockito.*;
@@ -596,4 +597,155 @@ class MySinglyLinkedListTest {
         assertEquals("c", listOfStrings.getNode(2).getValue());
         assertEquals("[a -> b -> c]", listOfStrings.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the node pool capacity is negative - " +
+            "Should throw IllegalArgumentException")
+    void constructor_negativeNodePoolCapacity_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new MySinglyLinkedList<Integer>(-1));
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When the list pools nodes - " +
+            "Should keep deleted nodes up to the capacity and reuse them for new elements")
+    void delete_pooledList_reuseDeletedNodes() {
+        MySinglyLinkedList<Integer> pooled = new MySinglyLinkedList<>(2);
+        for (int i = 1; i <= 5; i++) pooled.addLast(i * 10);
+        SinglyLinkedListNode<Integer> firstNode = pooled.getNode(0);
+
+        pooled.deleteFirst();
+        pooled.deleteLast();
+        pooled.delete(1);
+
+        assertEquals(2, pooled.pooledNodes());
+        assertEquals("[20 -> 40]", pooled.toString());
+
+        pooled.addFirst(5);
+        pooled.addLast(50);
+        pooled.add(30, 2);
+
+        assertEquals(0, pooled.pooledNodes());
+        assertEquals("[5 -> 20 -> 30 -> 40 -> 50]", pooled.toString());
+        assertSame(firstNode, pooled.getNode(4));
+    }
+
+    @Test
+    @DisplayName("deleteFirst - " +
+            "When the list does not pool nodes - " +
+            "Should keep no deleted nodes")
+    void deleteFirst_unpooledList_keepNoNodes() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(20);
+
+        listOfIntegers.deleteFirst();
+        listOfIntegers.deleteFirst();
+
+        assertEquals(0, listOfIntegers.pooledNodes());
+    }
+
+    @Test
+    @DisplayName("addAll - " +
+            "When adding an array and an iterable - " +
+            "Should append the items in order")
+    void addAll_arrayAndIterable_appendInOrder() {
+        listOfIntegers.addLast(10);
+
+        listOfIntegers.addAll(new Integer[]{20, 30});
+        listOfIntegers.addAll(List.of(40, 50));
+
+        assertEquals("[10 -> 20 -> 30 -> 40 -> 50]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.size());
+    }
+
+    @Test
+    @DisplayName("concat - " +
+            "When the other list has elements - " +
+            "Should move them to the end and leave the other list empty")
+    void concat_otherListHasElements_moveToEndAndEmptyOther() {
+        MySinglyLinkedList<Integer> other = new MySinglyLinkedList<>();
+        other.addAll(new Integer[]{30, 40});
+        listOfIntegers.addAll(new Integer[]{10, 20});
+
+        listOfIntegers.concat(other);
+        listOfIntegers.addLast(50);
+        other.addLast(60);
+
+        assertEquals("[10 -> 20 -> 30 -> 40 -> 50]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.size());
+        assertEquals("[60]", other.toString());
+        assertEquals(1, other.size());
+    }
+
+    @Test
+    @DisplayName("concat - " +
+            "When this list is empty or the list is concatenated to itself - " +
+            "Should take over the other list or throw IllegalArgumentException")
+    void concat_emptyListOrItself_takeOverOrThrow() {
+        MySinglyLinkedList<Integer> other = new MySinglyLinkedList<>();
+        other.addAll(new Integer[]{10, 20});
+
+        listOfIntegers.concat(other);
+        listOfIntegers.concat(new MySinglyLinkedList<>());
+
+        assertEquals("[10 -> 20]", listOfIntegers.toString());
+        assertEquals(20, listOfIntegers.getKthFromTheEnd(1));
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.concat(listOfIntegers));
+    }
+
+    @Test
+    @DisplayName("splice - " +
+            "When splicing at the beginning and in the middle - " +
+            "Should insert the other list at the index")
+    void splice_beginningAndMiddle_insertAtIndex() {
+        listOfIntegers.addAll(new Integer[]{20, 50});
+        MySinglyLinkedList<Integer> front = new MySinglyLinkedList<>();
+        front.addLast(10);
+        MySinglyLinkedList<Integer> middle = new MySinglyLinkedList<>();
+        middle.addAll(new Integer[]{30, 40});
+
+        listOfIntegers.splice(front, 0);
+        listOfIntegers.splice(middle, 2);
+
+        assertEquals("[10 -> 20 -> 30 -> 40 -> 50]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.size());
+        assertEquals(0, middle.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.splice(front, 6));
+    }
+
+    @Test
+    @DisplayName("split - " +
+            "When splitting in the middle - " +
+            "Should move the elements from the index to a new list")
+    void split_middle_moveTailToNewList() {
+        listOfIntegers.addAll(new Integer[]{10, 20, 30, 40, 50});
+
+        MySinglyLinkedList<Integer> tail = listOfIntegers.split(3);
+        listOfIntegers.addLast(35);
+        tail.addFirst(38);
+
+        assertEquals("[10 -> 20 -> 30 -> 35]", listOfIntegers.toString());
+        assertEquals("[38 -> 40 -> 50]", tail.toString());
+        assertEquals(4, listOfIntegers.size());
+        assertEquals(3, tail.size());
+    }
+
+    @Test
+    @DisplayName("split - " +
+            "When splitting at either end or out of range - " +
+            "Should move everything or nothing, or throw IndexOutOfBoundsException")
+    void split_endsAndOutOfRange_moveAllOrNothingOrThrow() {
+        listOfIntegers.addAll(new Integer[]{10, 20});
+
+        assertEquals("[]", listOfIntegers.split(2).toString());
+
+        MySinglyLinkedList<Integer> tail = listOfIntegers.split(0);
+        listOfIntegers.addLast(30);
+
+        assertEquals("[10 -> 20]", tail.toString());
+        assertEquals("[30]", listOfIntegers.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.split(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.split(2));
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.aliazani.linear.linkedlist.skiplist;
+
+import io.github.aliazani.linear.arrays.MyArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Indexable Skip List")
+class IndexableSkipListTest {
+    private IndexableSkipList<Integer> listOfIntegers;
+
+    @BeforeEach
+    void setUp() {
+        listOfIntegers = new IndexableSkipList<>();
+    }
+
+    @Test
+    @DisplayName("addFirst and addLast - " +
+            "When adding at both ends - " +
+            "Should keep the elements in order")
+    void addFirstAndAddLast_bothEnds_keepOrder() {
+        listOfIntegers.addLast(20);
+        listOfIntegers.addFirst(10);
+        listOfIntegers.addLast(30);
+
+        assertEquals("[10 -> 20 -> 30]", listOfIntegers.toString());
+        assertEquals(3, listOfIntegers.size());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void add_indexOutOfRange_throwIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.add(10, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.add(10, 1));
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When adding in the middle - " +
+            "Should insert the element at the index")
+    void add_middle_insertAtIndex() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(30);
+
+        listOfIntegers.add(20, 1);
+
+        assertEquals("[10 -> 20 -> 30]", listOfIntegers.toString());
+    }
+
+    @Test
+    @DisplayName("deleteFirst and deleteLast - " +
+            "When the list is empty - " +
+            "Should throw NoSuchElementException")
+    void deleteFirstAndDeleteLast_emptyList_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> listOfIntegers.deleteFirst());
+        assertThrows(NoSuchElementException.class, () -> listOfIntegers.deleteLast());
+    }
+
+    @Test
+    @DisplayName("deleteFirst and deleteLast - " +
+            "When the list has elements - " +
+            "Should remove the first and the last element")
+    void deleteFirstAndDeleteLast_listHasElements_removeEnds() {
+        for (int i = 1; i <= 4; i++) listOfIntegers.addLast(i);
+
+        listOfIntegers.deleteFirst();
+        listOfIntegers.deleteLast();
+
+        assertEquals("[2 -> 3]", listOfIntegers.toString());
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When the index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void delete_indexOutOfRange_throwIndexOutOfBounds() {
+        listOfIntegers.addLast(10);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.delete(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.delete(1));
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When every element is deleted - " +
+            "Should leave an empty list that can be filled again")
+    void delete_everyElement_leaveUsableEmptyList() {
+        for (int i = 0; i < 100; i++) listOfIntegers.addLast(i);
+        for (int i = 0; i < 100; i++) listOfIntegers.delete(0);
+
+        listOfIntegers.addLast(7);
+
+        assertEquals("[7]", listOfIntegers.toString());
+        assertEquals(7, listOfIntegers.getNodeValue(0));
+    }
+
+    @Test
+    @DisplayName("indexOf and contains - " +
+            "When searching the list - " +
+            "Should find the first occurrence and reject null")
+    void indexOfAndContains_searchList_findFirstOccurrence() {
+        for (int i = 1; i <= 9; i++) listOfIntegers.addLast(i % 5);
+
+        assertEquals(2, listOfIntegers.indexOf(3));
+        assertEquals(-1, listOfIntegers.indexOf(7));
+        assertEquals(-1, listOfIntegers.indexOf(null));
+        assertTrue(listOfIntegers.contains(0));
+        assertFalse(listOfIntegers.contains(5));
+    }
+
+    @Test
+    @DisplayName("hasLoop - " +
+            "When the list is built by the public methods - " +
+            "Should not find a loop")
+    void hasLoop_regularList_noLoop() {
+        for (int i = 0; i < 20; i++) listOfIntegers.addLast(i);
+
+        assertFalse(listOfIntegers.hasLoop());
+    }
+
+    @Test
+    @DisplayName("toArray - " +
+            "When the list has elements - " +
+            "Should return the elements in order")
+    void toArray_listHasElements_returnElementsInOrder() {
+        for (int i = 1; i <= 3; i++) listOfIntegers.addLast(i);
+
+        MyArray<Integer> array = listOfIntegers.toArray();
+
+        assertEquals("[1, 2, 3]", array.toString());
+    }
+
+    @Test
+    @DisplayName("reverse - " +
+            "When the list has many elements - " +
+            "Should reverse them and keep positional access working")
+    void reverse_manyElements_reverseAndKeepPositionalAccess() {
+        for (int i = 0; i < 500; i++) listOfIntegers.addLast(i);
+
+        listOfIntegers.reverse();
+        listOfIntegers.add(-1, 250);
+        listOfIntegers.delete(0);
+
+        assertEquals(500, listOfIntegers.size());
+        assertEquals(498, listOfIntegers.getNodeValue(0));
+        assertEquals(-1, listOfIntegers.getNodeValue(249));
+        assertEquals(0, listOfIntegers.getNodeValue(499));
+    }
+
+    @Test
+    @DisplayName("getKthFromTheEnd - " +
+            "When k is in or out of range - " +
+            "Should return the k-th element from the end or throw IllegalArgumentException")
+    void getKthFromTheEnd_variousK_returnElementOrThrow() {
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getKthFromTheEnd(1));
+
+        for (int i = 1; i <= 5; i++) listOfIntegers.addLast(i * 10);
+
+        assertEquals(50, listOfIntegers.getKthFromTheEnd(1));
+        assertEquals(20, listOfIntegers.getKthFromTheEnd(4));
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getKthFromTheEnd(0));
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getKthFromTheEnd(6));
+    }
+
+    @Test
+    @DisplayName("getMiddle - " +
+            "When the list has an odd or even number of elements - " +
+            "Should return the middle element or the two middle elements")
+    void getMiddle_oddAndEvenSizes_returnMiddle() {
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getMiddle());
+
+        for (int i = 1; i <= 3; i++) listOfIntegers.addLast(i * 10);
+        assertEquals("Middle = 20", listOfIntegers.getMiddle());
+
+        listOfIntegers.addLast(40);
+        assertEquals("Middle = 20, 30", listOfIntegers.getMiddle());
+    }
+
+    @Test
+    @DisplayName("getNode - " +
+            "When the index is in or out of range - " +
+            "Should return the node or throw IndexOutOfBoundsException")
+    void getNode_variousIndexes_returnNodeOrThrow() {
+        listOfIntegers.addLast(10);
+        listOfIntegers.addLast(20);
+
+        assertEquals(20, listOfIntegers.getNode(1).getValue());
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.getNode(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.getNodeValue(-1));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the iteration is exhausted - " +
+            "Should throw NoSuchElementException")
+    void iterator_exhausted_throwNoSuchElement() {
+        listOfIntegers.addLast(10);
+
+        Iterator<Integer> iterator = listOfIntegers.iterator();
+        assertEquals(10, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("add and delete - " +
+            "When mixing random insertions, deletions and reversals - " +
+            "Should match an ArrayList")
+    void addAndDelete_randomOperations_matchArrayList() {
+        Random random = new Random(9);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(100);
+            if (operation < 60 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                listOfIntegers.add(step, index);
+                expected.add(index, step);
+            } else if (operation < 99) {
+                int index = random.nextInt(expected.size());
+                listOfIntegers.delete(index);
+                expected.remove(index);
+            } else {
+                listOfIntegers.reverse();
+                Collections.reverse(expected);
+            }
+
+            int probe = random.nextInt(expected.size() + 1);
+            if (probe < expected.size()) assertEquals(expected.get(probe), listOfIntegers.getNodeValue(probe));
+        }
+
+        assertEquals(expected.size(), listOfIntegers.size());
+        for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), listOfIntegers.getNodeValue(i));
+        assertEquals(expected.toString().replace(", ", " -> "), listOfIntegers.toString());
+    }
+}
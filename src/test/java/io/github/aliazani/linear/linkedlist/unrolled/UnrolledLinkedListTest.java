@@ -0,0 +1,268 @@
+package io.github.aliazani.linear.linkedlist.unrolled;
+
+import io.github.aliazani.linear.arrays.MyArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Unrolled Linked-List")
+class UnrolledLinkedListTest {
+    private UnrolledLinkedList<Integer> listOfIntegers;
+
+    @BeforeEach
+    void setUp() {
+        listOfIntegers = new UnrolledLinkedList<>(4);
+    }
+
+    @Test
+    @DisplayName("constructor - " +
+            "When the node capacity is less than 2 - " +
+            "Should throw IllegalArgumentException")
+    void constructor_nodeCapacityTooSmall_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new UnrolledLinkedList<Integer>(1));
+    }
+
+    @Test
+    @DisplayName("addFirst - " +
+            "When more elements are added than a node holds - " +
+            "Should chain new nodes in front")
+    void addFirst_moreThanANode_chainNodesInFront() {
+        for (int i = 1; i <= 6; i++) listOfIntegers.addFirst(i * 10);
+
+        assertEquals("[60 -> 50 -> 40 -> 30 -> 20 -> 10]", listOfIntegers.toString());
+        assertEquals(2, listOfIntegers.nodeCount());
+    }
+
+    @Test
+    @DisplayName("addLast - " +
+            "When more elements are added than a node holds - " +
+            "Should fill every node before chaining the next one")
+    void addLast_moreThanANode_fillNodes() {
+        for (int i = 1; i <= 9; i++) listOfIntegers.addLast(i);
+
+        assertEquals("[1 -> 2 -> 3 -> 4 -> 5 -> 6 -> 7 -> 8 -> 9]", listOfIntegers.toString());
+        assertEquals(3, listOfIntegers.nodeCount());
+        assertEquals(9, listOfIntegers.size());
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void add_indexOutOfRange_throwIndexOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.add(10, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.add(10, 1));
+    }
+
+    @Test
+    @DisplayName("add - " +
+            "When the node at the index is full - " +
+            "Should split it and insert the element at the index")
+    void add_fullNode_splitAndInsert() {
+        for (int i = 1; i <= 4; i++) listOfIntegers.addLast(i * 10);
+
+        listOfIntegers.add(35, 3);
+        listOfIntegers.add(15, 1);
+
+        assertEquals("[10 -> 15 -> 20 -> 30 -> 35 -> 40]", listOfIntegers.toString());
+        assertEquals(2, listOfIntegers.nodeCount());
+    }
+
+    @Test
+    @DisplayName("deleteFirst and deleteLast - " +
+            "When the list is empty - " +
+            "Should throw NoSuchElementException")
+    void deleteFirstAndDeleteLast_emptyList_throwNoSuchElement() {
+        assertThrows(NoSuchElementException.class, () -> listOfIntegers.deleteFirst());
+        assertThrows(NoSuchElementException.class, () -> listOfIntegers.deleteLast());
+    }
+
+    @Test
+    @DisplayName("deleteFirst and deleteLast - " +
+            "When the list has elements - " +
+            "Should remove the first and the last element")
+    void deleteFirstAndDeleteLast_listHasElements_removeEnds() {
+        for (int i = 1; i <= 6; i++) listOfIntegers.addLast(i);
+
+        listOfIntegers.deleteFirst();
+        listOfIntegers.deleteLast();
+
+        assertEquals("[2 -> 3 -> 4 -> 5]", listOfIntegers.toString());
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When a node falls below half full - " +
+            "Should merge it with its successor")
+    void delete_nodeBelowHalfFull_mergeWithSuccessor() {
+        for (int i = 1; i <= 6; i++) listOfIntegers.addLast(i);
+
+        listOfIntegers.delete(1);
+        listOfIntegers.delete(1);
+        listOfIntegers.delete(1);
+
+        assertEquals("[1 -> 5 -> 6]", listOfIntegers.toString());
+        assertEquals(1, listOfIntegers.nodeCount());
+    }
+
+    @Test
+    @DisplayName("delete - " +
+            "When the index is out of range - " +
+            "Should throw IndexOutOfBoundsException")
+    void delete_indexOutOfRange_throwIndexOutOfBounds() {
+        listOfIntegers.addLast(10);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.delete(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.delete(1));
+    }
+
+    @Test
+    @DisplayName("indexOf and contains - " +
+            "When searching across nodes - " +
+            "Should find the first occurrence and reject null")
+    void indexOfAndContains_acrossNodes_findFirstOccurrence() {
+        for (int i = 1; i <= 9; i++) listOfIntegers.addLast(i % 5);
+
+        assertEquals(2, listOfIntegers.indexOf(3));
+        assertEquals(4, listOfIntegers.indexOf(0));
+        assertEquals(-1, listOfIntegers.indexOf(7));
+        assertEquals(-1, listOfIntegers.indexOf(null));
+        assertTrue(listOfIntegers.contains(4));
+        assertFalse(listOfIntegers.contains(5));
+    }
+
+    @Test
+    @DisplayName("hasLoop - " +
+            "When the list is built by the public methods - " +
+            "Should not find a loop")
+    void hasLoop_regularList_noLoop() {
+        for (int i = 0; i < 20; i++) listOfIntegers.addLast(i);
+
+        assertFalse(listOfIntegers.hasLoop());
+    }
+
+    @Test
+    @DisplayName("toArray - " +
+            "When the list spans several nodes - " +
+            "Should return the elements in order")
+    void toArray_severalNodes_returnElementsInOrder() {
+        for (int i = 1; i <= 6; i++) listOfIntegers.addLast(i);
+
+        MyArray<Integer> array = listOfIntegers.toArray();
+
+        assertEquals("[1, 2, 3, 4, 5, 6]", array.toString());
+    }
+
+    @Test
+    @DisplayName("reverse - " +
+            "When the list spans several nodes - " +
+            "Should reverse the elements and keep the list usable")
+    void reverse_severalNodes_reverseElements() {
+        for (int i = 1; i <= 6; i++) listOfIntegers.addLast(i);
+
+        listOfIntegers.reverse();
+        listOfIntegers.addLast(0);
+
+        assertEquals("[6 -> 5 -> 4 -> 3 -> 2 -> 1 -> 0]", listOfIntegers.toString());
+        assertEquals(5, listOfIntegers.getNodeValue(1));
+    }
+
+    @Test
+    @DisplayName("getKthFromTheEnd - " +
+            "When k is out of range - " +
+            "Should throw IllegalArgumentException")
+    void getKthFromTheEnd_kOutOfRange_throwIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getKthFromTheEnd(1));
+
+        listOfIntegers.addLast(10);
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getKthFromTheEnd(0));
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getKthFromTheEnd(2));
+    }
+
+    @Test
+    @DisplayName("getKthFromTheEnd - " +
+            "When k is in range - " +
+            "Should return the k-th element from the end")
+    void getKthFromTheEnd_kInRange_returnElement() {
+        for (int i = 1; i <= 9; i++) listOfIntegers.addLast(i * 10);
+
+        assertEquals(90, listOfIntegers.getKthFromTheEnd(1));
+        assertEquals(40, listOfIntegers.getKthFromTheEnd(6));
+    }
+
+    @Test
+    @DisplayName("getMiddle - " +
+            "When the list has an odd or even number of elements - " +
+            "Should return the middle element or the two middle elements")
+    void getMiddle_oddAndEvenSizes_returnMiddle() {
+        assertThrows(IllegalArgumentException.class, () -> listOfIntegers.getMiddle());
+
+        for (int i = 1; i <= 5; i++) listOfIntegers.addLast(i * 10);
+        assertEquals("Middle = 30", listOfIntegers.getMiddle());
+
+        listOfIntegers.addLast(60);
+        assertEquals("Middle = 30, 40", listOfIntegers.getMiddle());
+    }
+
+    @Test
+    @DisplayName("getNode - " +
+            "When the index is in or out of range - " +
+            "Should return the node holding the element or throw IndexOutOfBoundsException")
+    void getNode_variousIndexes_returnNodeOrThrow() {
+        for (int i = 1; i <= 6; i++) listOfIntegers.addLast(i);
+
+        assertSame(listOfIntegers.getNode(0), listOfIntegers.getNode(3));
+        assertNotSame(listOfIntegers.getNode(3), listOfIntegers.getNode(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.getNode(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> listOfIntegers.getNodeValue(-1));
+    }
+
+    @Test
+    @DisplayName("iterator - " +
+            "When the iteration is exhausted - " +
+            "Should throw NoSuchElementException")
+    void iterator_exhausted_throwNoSuchElement() {
+        listOfIntegers.addLast(10);
+
+        Iterator<Integer> iterator = listOfIntegers.iterator();
+        assertEquals(10, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("add and delete - " +
+            "When mixing random insertions and deletions - " +
+            "Should match an ArrayList")
+    void addAndDelete_randomOperations_matchArrayList() {
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(5);
+            if (operation < 3 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                listOfIntegers.add(step, index);
+                expected.add(index, step);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                listOfIntegers.delete(index);
+                expected.remove(index);
+            } else {
+                listOfIntegers.addFirst(step);
+                expected.add(0, step);
+            }
+        }
+
+        assertEquals(expected.size(), listOfIntegers.size());
+        for (int i = 0; i < expected.size(); i++) assertEquals(expected.get(i), listOfIntegers.getNodeValue(i));
+        assertEquals(expected.toString().replace(", ", " -> "), listOfIntegers.toString());
+    }
+}